@@ -42,6 +42,12 @@
  * set to <code>false</code> in order to allow only getter based property
  * constraints but not method level constraints as supported by Hibernate
  * Validator. Default is <code>true</code>.</li>
+ * <li><code>generateMetaDataIndex</code>: Whether an index of the annotated
+ * elements of all compiled types shall be written to
+ * <code>META-INF/hibernate-validator/metadata.idx</code>. Hibernate Validator
+ * uses it to avoid reading the annotations of unannotated elements when
+ * building the constraint meta data. Must be given as String parsable by
+ * {@link Boolean#parseBoolean}. Default is <code>false</code>.</li>
  * </ul>
  *
  * @author Hardy Ferentschik
@@ -51,7 +57,8 @@
 @SupportedOptions({
 		Configuration.DIAGNOSTIC_KIND_PROCESSOR_OPTION,
 		Configuration.VERBOSE_PROCESSOR_OPTION,
-		Configuration.METHOD_CONSTRAINTS_SUPPORTED_PROCESSOR_OPTION
+		Configuration.METHOD_CONSTRAINTS_SUPPORTED_PROCESSOR_OPTION,
+		Configuration.GENERATE_META_DATA_INDEX_PROCESSOR_OPTION
 })
 public class ConstraintValidationProcessor extends AbstractProcessor {
 
@@ -70,6 +77,11 @@ public class ConstraintValidationProcessor extends AbstractProcessor {
 	 */
 	private Configuration configuration;
 
+	/**
+	 * Collects the meta-data index across all rounds; {@code null} if no index shall be generated.
+	 */
+	private MetaDataIndexGenerator metaDataIndexGenerator;
+
 	@Override
 	public synchronized void init(ProcessingEnvironment processingEnv) {
 
@@ -77,6 +89,10 @@ public synchronized void init(ProcessingEnvironment processingEnv) {
 
 		configuration = new Configuration( processingEnv.getOptions(), processingEnv.getMessager() );
 		messager = new MessagerAdapter( processingEnv.getMessager(), configuration.getDiagnosticKind() );
+
+		if ( configuration.generateMetaDataIndex() ) {
+			metaDataIndexGenerator = new MetaDataIndexGenerator( processingEnv );
+		}
 	}
 
 	@Override
@@ -123,6 +139,14 @@ public boolean process(
 			element.accept( classVisitor, null );
 		}
 
+		if ( metaDataIndexGenerator != null ) {
+			metaDataIndexGenerator.addTypes( roundEnvironment.getRootElements() );
+
+			if ( roundEnvironment.processingOver() ) {
+				metaDataIndexGenerator.writeIndex();
+			}
+		}
+
 		return ANNOTATIONS_CLAIMED_EXCLUSIVELY;
 	}
 
@@ -0,0 +1,170 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.ap;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Collects the annotated elements of all types compiled in the current compilation and writes them to the meta-data
+ * index read by Hibernate Validator ({@value #INDEX_RESOURCE_NAME}).
+ * <p>
+ * Each type is listed by its binary name, followed by one tab-indented line per annotated element: {@code class} if the
+ * type itself is annotated, {@code field <name>} and {@code method <name>} for annotated fields and methods and
+ * {@code constructor} if any constructor is annotated. An element is considered annotated if the element itself or any
+ * of its parameters is annotated or if its type, the return type or any parameter type is parameterized or an array
+ * type, as these may carry annotations on type arguments, which aren't reliably exposed through the
+ * {@code javax.lang.model} API.
+ */
+public class MetaDataIndexGenerator {
+
+	/**
+	 * The name of the index resource.
+	 */
+	public static final String INDEX_RESOURCE_NAME = "META-INF/hibernate-validator/metadata.idx";
+
+	private final ProcessingEnvironment processingEnvironment;
+
+	/**
+	 * The annotated elements by binary type name, sorted for a stable index.
+	 */
+	private final Map<String, Set<String>> annotatedElements = new TreeMap<String, Set<String>>();
+
+	public MetaDataIndexGenerator(ProcessingEnvironment processingEnvironment) {
+		this.processingEnvironment = processingEnvironment;
+	}
+
+	/**
+	 * Adds the given types and their member types to the index.
+	 *
+	 * @param elements the root elements of a processing round
+	 */
+	public void addTypes(Collection<? extends Element> elements) {
+		for ( TypeElement type : ElementFilter.typesIn( elements ) ) {
+			addType( type );
+		}
+	}
+
+	/**
+	 * Writes the index with all types added so far.
+	 */
+	public void writeIndex() {
+		try {
+			FileObject index = processingEnvironment.getFiler().createResource(
+					StandardLocation.CLASS_OUTPUT, "", INDEX_RESOURCE_NAME
+			);
+
+			Writer writer = new OutputStreamWriter( index.openOutputStream(), StandardCharsets.UTF_8 );
+			try {
+				writer.write( "# Generated by the Hibernate Validator annotation processor\n" );
+
+				for ( Map.Entry<String, Set<String>> type : annotatedElements.entrySet() ) {
+					writer.write( type.getKey() );
+					writer.write( '\n' );
+
+					for ( String element : type.getValue() ) {
+						writer.write( '\t' );
+						writer.write( element );
+						writer.write( '\n' );
+					}
+				}
+			}
+			finally {
+				writer.close();
+			}
+		}
+		catch (IOException e) {
+			processingEnvironment.getMessager().printMessage(
+					Kind.WARNING, "Unable to write the Hibernate Validator meta-data index: " + e.getMessage()
+			);
+		}
+	}
+
+	private void addType(TypeElement type) {
+		Set<String> elements = new TreeSet<String>();
+
+		if ( !type.getAnnotationMirrors().isEmpty() ) {
+			elements.add( "class" );
+		}
+
+		for ( VariableElement field : ElementFilter.fieldsIn( type.getEnclosedElements() ) ) {
+			if ( isAnnotated( field ) ) {
+				elements.add( "field " + field.getSimpleName() );
+			}
+		}
+
+		for ( ExecutableElement method : ElementFilter.methodsIn( type.getEnclosedElements() ) ) {
+			if ( isAnnotated( method ) || mayHaveTypeArgumentAnnotations( method.getReturnType() ) ) {
+				elements.add( "method " + method.getSimpleName() );
+			}
+		}
+
+		for ( ExecutableElement constructor : ElementFilter.constructorsIn( type.getEnclosedElements() ) ) {
+			if ( isAnnotated( constructor ) ) {
+				elements.add( "constructor" );
+			}
+		}
+
+		annotatedElements.put(
+				processingEnvironment.getElementUtils().getBinaryName( type ).toString(),
+				elements
+		);
+
+		addTypes( type.getEnclosedElements() );
+	}
+
+	private boolean isAnnotated(VariableElement variable) {
+		return !variable.getAnnotationMirrors().isEmpty() || mayHaveTypeArgumentAnnotations( variable.asType() );
+	}
+
+	private boolean isAnnotated(ExecutableElement executable) {
+		if ( !executable.getAnnotationMirrors().isEmpty() ) {
+			return true;
+		}
+
+		List<? extends VariableElement> parameters = executable.getParameters();
+		for ( VariableElement parameter : parameters ) {
+			if ( isAnnotated( parameter ) ) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private boolean mayHaveTypeArgumentAnnotations(TypeMirror type) {
+		if ( !type.getAnnotationMirrors().isEmpty() ) {
+			return true;
+		}
+
+		if ( type.getKind() == TypeKind.ARRAY ) {
+			return true;
+		}
+
+		return type.getKind() == TypeKind.DECLARED && !( (DeclaredType) type ).getTypeArguments().isEmpty();
+	}
+}
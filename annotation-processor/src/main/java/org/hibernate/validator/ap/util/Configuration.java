@@ -36,6 +36,12 @@ public class Configuration {
 	 */
 	public static final String METHOD_CONSTRAINTS_SUPPORTED_PROCESSOR_OPTION = "methodConstraintsSupported";
 
+	/**
+	 * The name of the processor option for generating an index of the annotated elements of the compiled types,
+	 * which is used by Hibernate Validator to speed up the retrieval of the constraint meta data.
+	 */
+	public static final String GENERATE_META_DATA_INDEX_PROCESSOR_OPTION = "generateMetaDataIndex";
+
 	/**
 	 * The diagnostic kind to be used if no or an invalid kind is given as processor option.
 	 */
@@ -47,11 +53,14 @@ public class Configuration {
 
 	private final boolean methodConstraintsSupported;
 
+	private final boolean generateMetaDataIndex;
+
 	public Configuration(Map<String, String> options, Messager messager) {
 
 		this.diagnosticKind = getDiagnosticKindOption( options, messager );
 		this.verbose = getVerboseOption( options, messager );
 		this.methodConstraintsSupported = getMethodConstraintsSupportedOption( options );
+		this.generateMetaDataIndex = Boolean.parseBoolean( options.get( GENERATE_META_DATA_INDEX_PROCESSOR_OPTION ) );
 	}
 
 	/**
@@ -82,6 +91,15 @@ public boolean methodConstraintsSupported() {
 		return methodConstraintsSupported;
 	}
 
+	/**
+	 * Whether an index of the annotated elements of the compiled types shall be generated or not.
+	 *
+	 * @return {@code true} if the meta-data index shall be generated, {@code false} otherwise
+	 */
+	public boolean generateMetaDataIndex() {
+		return generateMetaDataIndex;
+	}
+
 	/**
 	 * Retrieves the diagnostic kind to be used for error messages. If given in
 	 * processor options, it will be taken from there, otherwise the default
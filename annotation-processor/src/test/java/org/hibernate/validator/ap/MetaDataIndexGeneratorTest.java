@@ -0,0 +1,56 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.ap;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.validator.ap.testmodel.metadataindex.IndexedModel;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the meta-data index generated by {@link ConstraintValidationProcessor}.
+ */
+public class MetaDataIndexGeneratorTest extends ConstraintValidationProcessorTestBase {
+
+	@Test
+	public void metaDataIndexListsAnnotatedElements() throws IOException {
+		File sourceFile = compilerHelper.getSourceFile( IndexedModel.class );
+		File indexFile = compilerHelper.getMetaDataIndexFile();
+		indexFile.delete();
+
+		boolean compilationResult =
+				compilerHelper.compileWithMetaDataIndex( new ConstraintValidationProcessor(), diagnostics, sourceFile );
+
+		assertTrue( compilationResult );
+		assertTrue( indexFile.exists() );
+
+		List<String> index = Files.readAllLines( indexFile.toPath(), StandardCharsets.UTF_8 );
+
+		assertEquals(
+				index.subList( 1, index.size() ),
+				Arrays.asList(
+						IndexedModel.class.getName(),
+						"\tconstructor",
+						"\tfield annotatedField",
+						"\tfield genericField",
+						"\tmethod getAnnotatedProperty",
+						"\tmethod getGenericField",
+						"\tmethod setPlainField",
+						IndexedModel.Nested.class.getName(),
+						"\tclass"
+				)
+		);
+	}
+}
@@ -0,0 +1,52 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.ap.testmodel.metadataindex;
+
+import java.util.List;
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+
+public class IndexedModel {
+
+	@NotNull
+	private String annotatedField;
+
+	private String plainField;
+
+	private List<String> genericField;
+
+	public IndexedModel() {
+	}
+
+	@Valid
+	public IndexedModel(String plainField) {
+		this.plainField = plainField;
+	}
+
+	@NotNull
+	public String getAnnotatedProperty() {
+		return annotatedField;
+	}
+
+	public String getPlainField() {
+		return plainField;
+	}
+
+	public void setPlainField(@NotNull String plainField) {
+		this.plainField = plainField;
+	}
+
+	public List<String> getGenericField() {
+		return genericField;
+	}
+
+	@Deprecated
+	public static class Nested {
+
+		private String value;
+	}
+}
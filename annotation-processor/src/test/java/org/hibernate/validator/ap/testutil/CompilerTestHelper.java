@@ -173,6 +173,60 @@ public boolean compile(Processor annotationProcessor,
 						   Boolean allowMethodConstraints,
 						   EnumSet<Library> dependencies,
 						   File... sourceFiles) {
+		return compile(
+				annotationProcessor,
+				diagnostics,
+				diagnosticKind,
+				verbose,
+				allowMethodConstraints,
+				false,
+				dependencies,
+				sourceFiles
+		);
+	}
+
+	/**
+	 * Compiles the given source files with the generation of the meta-data index enabled. The index can be obtained
+	 * via {@link #getMetaDataIndexFile()} afterwards.
+	 *
+	 * @param annotationProcessor An annotation processor to be attached to the task.
+	 * @param diagnostics An diagnostics listener to be attached to the task.
+	 * @param sourceFiles The source files to be compiled.
+	 *
+	 * @return True, if the source files could be compiled successfully, false otherwise.
+	 */
+	public boolean compileWithMetaDataIndex(Processor annotationProcessor,
+						   DiagnosticCollector<JavaFileObject> diagnostics,
+						   File... sourceFiles) {
+		return compile(
+				annotationProcessor,
+				diagnostics,
+				null,
+				null,
+				null,
+				true,
+				EnumSet.allOf( Library.class ),
+				sourceFiles
+		);
+	}
+
+	/**
+	 * Returns the meta-data index written by the last compilation with the index generation enabled.
+	 *
+	 * @return the meta-data index file
+	 */
+	public File getMetaDataIndexFile() {
+		return new File( PROCESSOR_OUT_DIR, "META-INF/hibernate-validator/metadata.idx" );
+	}
+
+	private boolean compile(Processor annotationProcessor,
+						   DiagnosticCollector<JavaFileObject> diagnostics,
+						   Kind diagnosticKind,
+						   Boolean verbose,
+						   Boolean allowMethodConstraints,
+						   boolean generateMetaDataIndex,
+						   EnumSet<Library> dependencies,
+						   File... sourceFiles) {
 		StandardJavaFileManager fileManager = compiler.getStandardFileManager( null, null, null );
 		Iterable<? extends JavaFileObject> compilationUnits = fileManager.getJavaFileObjects( sourceFiles );
 		List<String> options = new ArrayList<String>();
@@ -195,6 +249,10 @@ public boolean compile(Processor annotationProcessor,
 			);
 		}
 
+		if ( generateMetaDataIndex ) {
+			options.add( String.format( "-A%s=%b", Configuration.GENERATE_META_DATA_INDEX_PROCESSOR_OPTION, true ) );
+		}
+
 		try {
 			fileManager.setLocation( StandardLocation.CLASS_PATH, getDependenciesAsFiles( dependencies ) );
 			fileManager.setLocation( StandardLocation.CLASS_OUTPUT, Arrays.asList( PROCESSOR_OUT_DIR ) );
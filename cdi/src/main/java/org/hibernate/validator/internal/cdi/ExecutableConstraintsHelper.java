@@ -0,0 +1,172 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.cdi;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedArrayType;
+import java.lang.reflect.AnnotatedParameterizedType;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.AnnotatedWildcardType;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.validation.Constraint;
+import javax.validation.Valid;
+import javax.validation.executable.ValidateOnExecution;
+
+import org.hibernate.validator.internal.util.classhierarchy.ClassHierarchyHelper;
+import org.hibernate.validator.internal.util.privilegedactions.GetDeclaredConstructors;
+import org.hibernate.validator.internal.util.privilegedactions.GetDeclaredMethods;
+import org.hibernate.validator.internal.util.privilegedactions.GetMethod;
+
+import static org.hibernate.validator.internal.util.CollectionHelper.newConcurrentHashMap;
+
+/**
+ * Cheaply determines whether a type may host executable constraints, i.e. whether any of its constructors or any of
+ * the methods of its hierarchy carries a constraint annotation or {@link Valid} on itself, on its parameters or on the
+ * type arguments of its parameter and return types.
+ * <p>
+ * Types using {@link ValidateOnExecution} are always considered as possibly constrained, so that invalid usages of that
+ * annotation keep being reported.
+ * <p>
+ * Only annotations are inspected, so a type for which this returns {@code false} may still have executable constraints
+ * defined via XML or the programmatic API; callers must take care of these cases themselves.
+ */
+class ExecutableConstraintsHelper {
+
+	/**
+	 * Whether a given annotation type is a constraint or a container of constraints.
+	 */
+	private final ConcurrentMap<Class<? extends Annotation>, Boolean> constraintAnnotationTypes = newConcurrentHashMap();
+
+	/**
+	 * @param clazz the type to check
+	 *
+	 * @return {@code false} if neither the constructors of the given type nor the methods of its hierarchy are
+	 * annotated with any constraint, {@code @Valid} or {@code @ValidateOnExecution}, {@code true} otherwise
+	 */
+	boolean mayHostExecutableConstraints(Class<?> clazz) {
+		if ( isAnyExecutableConstrained( run( GetDeclaredConstructors.action( clazz ) ) ) ) {
+			return true;
+		}
+
+		for ( Class<?> hierarchyClass : ClassHierarchyHelper.getHierarchy( clazz ) ) {
+			if ( hierarchyClass.isAnnotationPresent( ValidateOnExecution.class )
+					|| isAnyExecutableConstrained( run( GetDeclaredMethods.action( hierarchyClass ) ) ) ) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private boolean isAnyExecutableConstrained(Executable[] executables) {
+		for ( Executable executable : executables ) {
+			if ( executable.isSynthetic() ) {
+				continue;
+			}
+
+			if ( isAnyAnnotationRelevant( executable.getDeclaredAnnotations() )
+					|| isAnyAnnotationRelevant( executable.getAnnotatedReturnType() ) ) {
+				return true;
+			}
+
+			for ( Annotation[] parameterAnnotations : executable.getParameterAnnotations() ) {
+				if ( isAnyAnnotationRelevant( parameterAnnotations ) ) {
+					return true;
+				}
+			}
+
+			for ( AnnotatedType parameterType : executable.getAnnotatedParameterTypes() ) {
+				if ( isAnyAnnotationRelevant( parameterType ) ) {
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	private boolean isAnyAnnotationRelevant(AnnotatedType annotatedType) {
+		if ( annotatedType == null ) {
+			return false;
+		}
+
+		if ( isAnyAnnotationRelevant( annotatedType.getDeclaredAnnotations() ) ) {
+			return true;
+		}
+
+		if ( annotatedType instanceof AnnotatedParameterizedType ) {
+			for ( AnnotatedType typeArgument : ( (AnnotatedParameterizedType) annotatedType ).getAnnotatedActualTypeArguments() ) {
+				if ( isAnyAnnotationRelevant( typeArgument ) ) {
+					return true;
+				}
+			}
+		}
+		else if ( annotatedType instanceof AnnotatedArrayType ) {
+			return isAnyAnnotationRelevant( ( (AnnotatedArrayType) annotatedType ).getAnnotatedGenericComponentType() );
+		}
+		else if ( annotatedType instanceof AnnotatedWildcardType ) {
+			for ( AnnotatedType bound : ( (AnnotatedWildcardType) annotatedType ).getAnnotatedUpperBounds() ) {
+				if ( isAnyAnnotationRelevant( bound ) ) {
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	private boolean isAnyAnnotationRelevant(Annotation[] annotations) {
+		for ( Annotation annotation : annotations ) {
+			Class<? extends Annotation> annotationType = annotation.annotationType();
+			if ( annotationType == Valid.class
+					|| annotationType == ValidateOnExecution.class
+					|| isConstraintOrConstraintContainer( annotationType ) ) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private boolean isConstraintOrConstraintContainer(Class<? extends Annotation> annotationType) {
+		Boolean isConstraint = constraintAnnotationTypes.get( annotationType );
+
+		if ( isConstraint == null ) {
+			isConstraint = annotationType.isAnnotationPresent( Constraint.class ) || isConstraintContainer( annotationType );
+			constraintAnnotationTypes.put( annotationType, isConstraint );
+		}
+
+		return isConstraint;
+	}
+
+	private boolean isConstraintContainer(Class<? extends Annotation> annotationType) {
+		Method valueMethod = run( GetMethod.action( annotationType, "value" ) );
+		if ( valueMethod == null ) {
+			return false;
+		}
+
+		Class<?> returnType = valueMethod.getReturnType();
+		return returnType.isArray()
+				&& returnType.getComponentType().isAnnotation()
+				&& returnType.getComponentType().isAnnotationPresent( Constraint.class );
+	}
+
+	/**
+	 * Runs the given privileged action, using a privileged block if required.
+	 * <p>
+	 * <b>NOTE:</b> This must never be changed into a publicly available method to avoid execution of arbitrary
+	 * privileged actions within HV's protection domain.
+	 */
+	private static <T> T run(PrivilegedAction<T> action) {
+		return System.getSecurityManager() != null ? AccessController.doPrivileged( action ) : action.run();
+	}
+}
@@ -16,6 +16,7 @@
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 
 import javax.enterprise.event.Observes;
 import javax.enterprise.inject.Default;
@@ -47,6 +48,7 @@
 import org.hibernate.validator.cdi.HibernateValidator;
 import org.hibernate.validator.internal.cdi.interceptor.ValidationEnabledAnnotatedType;
 import org.hibernate.validator.internal.cdi.interceptor.ValidationInterceptor;
+import org.hibernate.validator.internal.engine.ValidatorFactoryImpl;
 import org.hibernate.validator.internal.util.Contracts;
 import org.hibernate.validator.internal.util.ExecutableHelper;
 import org.hibernate.validator.internal.util.ReflectionHelper;
@@ -99,6 +101,21 @@ public class ValidationExtension implements Extension {
 	private final Set<ExecutableType> globalExecutableTypes;
 	private final boolean isExecutableValidationEnabled;
 
+	/**
+	 * Used for skipping types which cannot have constrained executables without building their meta data; {@code null}
+	 * if constraints may also be defined via XML or the programmatic API, in which case all types are examined by the
+	 * validator
+	 */
+	private final ExecutableConstraintsHelper executableConstraintsHelper;
+
+	/**
+	 * Statistics about the examination of the annotated types, reported once the bean discovery is done. Annotated
+	 * types may be processed concurrently by the container.
+	 */
+	private final LongAdder processedTypes = new LongAdder();
+	private final LongAdder skippedTypes = new LongAdder();
+	private final LongAdder processingTimeInNanos = new LongAdder();
+
 	private Bean<?> defaultValidatorFactoryBean;
 	private Bean<?> hibernateValidatorFactoryBean;
 
@@ -113,6 +130,14 @@ public ValidationExtension() {
 		validatorFactory = config.buildValidatorFactory();
 		validator = validatorFactory.getValidator();
 
+		if ( validatorFactory instanceof ValidatorFactoryImpl
+				&& !( (ValidatorFactoryImpl) validatorFactory ).hasXmlOrProgrammaticConstraintMappings() ) {
+			executableConstraintsHelper = new ExecutableConstraintsHelper();
+		}
+		else {
+			executableConstraintsHelper = null;
+		}
+
 		executableHelper = new ExecutableHelper( new TypeResolutionHelper() );
 	}
 
@@ -142,6 +167,14 @@ public void afterBeanDiscovery(@Observes AfterBeanDiscovery afterBeanDiscoveryEv
 		Contracts.assertNotNull( afterBeanDiscoveryEvent, "The AfterBeanDiscovery event cannot be null" );
 		Contracts.assertNotNull( beanManager, "The BeanManager cannot be null" );
 
+		if ( log.isDebugEnabled() ) {
+			log.determinedConstrainedExecutables(
+					processedTypes.sum(),
+					skippedTypes.sum(),
+					processingTimeInNanos.sum() / 1_000_000D
+			);
+		}
+
 		ValidationProviderHelper defaultProviderHelper = ValidationProviderHelper.forDefaultProvider( validatorFactory );
 		ValidationProviderHelper hvProviderHelper = ValidationProviderHelper.forHibernateValidator();
 
@@ -224,15 +257,31 @@ public <T> void processAnnotatedType(@Observes @WithAnnotations({
 			return;
 		}
 
+		long start = System.nanoTime();
 		AnnotatedType<T> type = processAnnotatedTypeEvent.getAnnotatedType();
-		Set<AnnotatedCallable<? super T>> constrainedCallables = determineConstrainedCallables( type );
 
-		if ( !constrainedCallables.isEmpty() ) {
-			ValidationEnabledAnnotatedType<T> wrappedType = new ValidationEnabledAnnotatedType<T>(
-					type,
-					constrainedCallables
-			);
-			processAnnotatedTypeEvent.setAnnotatedType( wrappedType );
+		try {
+			// the type was reported because of a constraint or @Valid on a field or on the class itself, no need to build
+			// its meta data
+			if ( executableConstraintsHelper != null
+					&& !executableConstraintsHelper.mayHostExecutableConstraints( type.getJavaClass() ) ) {
+				skippedTypes.increment();
+				return;
+			}
+
+			Set<AnnotatedCallable<? super T>> constrainedCallables = determineConstrainedCallables( type );
+
+			if ( !constrainedCallables.isEmpty() ) {
+				ValidationEnabledAnnotatedType<T> wrappedType = new ValidationEnabledAnnotatedType<T>(
+						type,
+						constrainedCallables
+				);
+				processAnnotatedTypeEvent.setAnnotatedType( wrappedType );
+			}
+		}
+		finally {
+			processedTypes.increment();
+			processingTimeInNanos.add( System.nanoTime() - start );
 		}
 	}
 
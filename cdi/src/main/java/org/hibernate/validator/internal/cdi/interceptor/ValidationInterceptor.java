@@ -6,11 +6,19 @@
  */
 package org.hibernate.validator.internal.cdi.interceptor;
 
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.Option.IDENTITY_COMPARISONS;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.STRONG;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.WEAK;
+
 import java.io.Serializable;
 import java.lang.reflect.Member;
+import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.annotation.Priority;
 import javax.inject.Inject;
@@ -24,6 +32,10 @@
 import javax.validation.Path;
 import javax.validation.Validator;
 import javax.validation.executable.ExecutableValidator;
+import javax.validation.metadata.BeanDescriptor;
+import javax.validation.metadata.MethodDescriptor;
+
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
 
 /**
  * An interceptor which performs a validation of the Bean Validation constraints specified at the parameters and/or return
@@ -50,6 +62,23 @@ public class ValidationInterceptor implements Serializable {
 	@Inject
 	private Validator validator;
 
+	/**
+	 * The validation plans of the intercepted methods, keyed by the bean descriptor they have been determined from.
+	 * <p>
+	 * A bean descriptor is retained by the meta data of the validator factory which created it, so the plans are
+	 * shared by all the interceptor instances using the same factory but never with validators of other factories,
+	 * e.g. those of other deployments. The descriptors are weakly referenced so that the plans are discarded along
+	 * with the meta data of their factory.
+	 */
+	private static final ConcurrentReferenceHashMap<BeanDescriptor, ConcurrentMap<Method, MethodValidationPlan>> METHOD_VALIDATION_PLANS = new ConcurrentReferenceHashMap<>(
+			16,
+			0.75f,
+			16,
+			WEAK,
+			STRONG,
+			EnumSet.of( IDENTITY_COMPARISONS )
+	);
+
 	/**
 	 * Validates the Bean Validation constraints specified at the parameters and/or return value of the intercepted method.
 	 *
@@ -62,33 +91,39 @@ public class ValidationInterceptor implements Serializable {
 	 */
 	@AroundInvoke
 	public Object validateMethodInvocation(InvocationContext ctx) throws Exception {
+		MethodValidationPlan validationPlan = getMethodValidationPlan( ctx.getTarget().getClass(), ctx.getMethod() );
 		ExecutableValidator executableValidator = validator.forExecutables();
-		Set<ConstraintViolation<Object>> violations = executableValidator.validateParameters(
-				ctx.getTarget(),
-				ctx.getMethod(),
-				ctx.getParameters()
-		);
 
-		if ( !violations.isEmpty() ) {
-			throw new ConstraintViolationException(
-					getMessage( ctx.getMethod(), ctx.getParameters(), violations ),
-					violations
+		if ( validationPlan.validateParameters ) {
+			Set<ConstraintViolation<Object>> violations = executableValidator.validateParameters(
+					ctx.getTarget(),
+					ctx.getMethod(),
+					ctx.getParameters()
 			);
+
+			if ( !violations.isEmpty() ) {
+				throw new ConstraintViolationException(
+						getMessage( ctx.getMethod(), ctx.getParameters(), violations ),
+						violations
+				);
+			}
 		}
 
 		Object result = ctx.proceed();
 
-		violations = executableValidator.validateReturnValue(
-				ctx.getTarget(),
-				ctx.getMethod(),
-				result
-		);
-
-		if ( !violations.isEmpty() ) {
-			throw new ConstraintViolationException(
-					getMessage( ctx.getMethod(), ctx.getParameters(), violations ),
-					violations
+		if ( validationPlan.validateReturnValue ) {
+			Set<ConstraintViolation<Object>> violations = executableValidator.validateReturnValue(
+					ctx.getTarget(),
+					ctx.getMethod(),
+					result
 			);
+
+			if ( !violations.isEmpty() ) {
+				throw new ConstraintViolationException(
+						getMessage( ctx.getMethod(), ctx.getParameters(), violations ),
+						violations
+				);
+			}
 		}
 
 		return result;
@@ -133,6 +168,51 @@ public void validateConstructorInvocation(InvocationContext ctx) throws Exceptio
 		}
 	}
 
+	/**
+	 * Returns the validation plan of the given method, determining it from the constraint meta data of the bean class
+	 * on first invocation.
+	 */
+	private MethodValidationPlan getMethodValidationPlan(Class<?> beanClass, Method method) {
+		BeanDescriptor beanDescriptor = validator.getConstraintsForClass( beanClass );
+		ConcurrentMap<Method, MethodValidationPlan> methodValidationPlans = getMethodValidationPlans( beanDescriptor );
+		MethodValidationPlan validationPlan = methodValidationPlans.get( method );
+
+		if ( validationPlan == null ) {
+			MethodDescriptor methodDescriptor = beanDescriptor.getConstraintsForMethod( method.getName(), method.getParameterTypes() );
+
+			if ( methodDescriptor == null ) {
+				validationPlan = MethodValidationPlan.NONE;
+			}
+			else {
+				validationPlan = MethodValidationPlan.of(
+						methodDescriptor.hasConstrainedParameters(),
+						methodDescriptor.hasConstrainedReturnValue()
+				);
+			}
+
+			methodValidationPlans.putIfAbsent( method, validationPlan );
+		}
+
+		return validationPlan;
+	}
+
+	private static ConcurrentMap<Method, MethodValidationPlan> getMethodValidationPlans(BeanDescriptor beanDescriptor) {
+		ConcurrentMap<Method, MethodValidationPlan> methodValidationPlans = METHOD_VALIDATION_PLANS.get( beanDescriptor );
+
+		if ( methodValidationPlans == null ) {
+			methodValidationPlans = new ConcurrentHashMap<>();
+			ConcurrentMap<Method, MethodValidationPlan> cachedMethodValidationPlans = METHOD_VALIDATION_PLANS.putIfAbsent(
+					beanDescriptor,
+					methodValidationPlans
+			);
+			if ( cachedMethodValidationPlans != null ) {
+				methodValidationPlans = cachedMethodValidationPlans;
+			}
+		}
+
+		return methodValidationPlans;
+	}
+
 	private String getMessage(Member member, Object[] args, Set<? extends ConstraintViolation<?>> violations) {
 
 		StringBuilder message = new StringBuilder();
@@ -180,4 +260,34 @@ private Path.Node getLeafNode(ConstraintViolation<?> constraintViolation) {
 		}
 		return leafNode;
 	}
+
+	/**
+	 * Describes which parts of the invocation of a given method need to be validated. Parameters are considered
+	 * constrained if they, or the method as a whole, host constraints or are marked for cascaded validation, the return
+	 * value likewise.
+	 */
+	private static final class MethodValidationPlan {
+
+		private static final MethodValidationPlan NONE = new MethodValidationPlan( false, false );
+		private static final MethodValidationPlan PARAMETERS = new MethodValidationPlan( true, false );
+		private static final MethodValidationPlan RETURN_VALUE = new MethodValidationPlan( false, true );
+		private static final MethodValidationPlan ALL = new MethodValidationPlan( true, true );
+
+		private final boolean validateParameters;
+		private final boolean validateReturnValue;
+
+		private MethodValidationPlan(boolean validateParameters, boolean validateReturnValue) {
+			this.validateParameters = validateParameters;
+			this.validateReturnValue = validateReturnValue;
+		}
+
+		private static MethodValidationPlan of(boolean validateParameters, boolean validateReturnValue) {
+			if ( validateParameters ) {
+				return validateReturnValue ? ALL : PARAMETERS;
+			}
+			else {
+				return validateReturnValue ? RETURN_VALUE : NONE;
+			}
+		}
+	}
 }
@@ -15,27 +15,38 @@
 import static org.testng.Assert.fail;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import javax.enterprise.inject.Default;
 import javax.enterprise.inject.spi.AfterBeanDiscovery;
 import javax.enterprise.inject.spi.Annotated;
+import javax.enterprise.inject.spi.AnnotatedConstructor;
+import javax.enterprise.inject.spi.AnnotatedMethod;
+import javax.enterprise.inject.spi.AnnotatedType;
 import javax.enterprise.inject.spi.Bean;
 import javax.enterprise.inject.spi.BeanManager;
+import javax.enterprise.inject.spi.ProcessAnnotatedType;
 import javax.enterprise.inject.spi.ProcessBean;
 import javax.enterprise.util.AnnotationLiteral;
+import javax.validation.Valid;
 import javax.validation.Validator;
 import javax.validation.ValidatorFactory;
+import javax.validation.constraints.NotNull;
 
 import org.easymock.EasyMock;
 import org.easymock.IAnswer;
+import org.hibernate.validator.cfg.defs.NotNullDef;
 import org.hibernate.validator.internal.cdi.ValidationExtension;
 import org.hibernate.validator.internal.cdi.ValidationProviderHelper;
 import org.hibernate.validator.internal.cdi.ValidatorBean;
 import org.hibernate.validator.internal.cdi.ValidatorFactoryBean;
+import org.hibernate.validator.spi.cfg.ConstraintMappingContributor;
+import org.hibernate.validator.testutil.ValidationXmlTestHelper;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
@@ -215,6 +226,101 @@ public void testProcessAnnotatedTypeNullParameter() {
 		}
 	}
 
+	@Test
+	public void testTypeWithoutExecutableConstraintsIsSkipped() {
+		// no methods of the type are expected to be examined, nor the type to be replaced
+		ProcessAnnotatedType<FieldConstrainedBean> event = createProcessAnnotatedTypeMock( FieldConstrainedBean.class, false );
+
+		extension.processAnnotatedType( event );
+
+		verify( event );
+	}
+
+	@Test
+	public void testTypeWithTypeArgumentConstraintIsProcessed() {
+		ProcessAnnotatedType<TypeArgumentConstrainedBean> event = createProcessAnnotatedTypeMock( TypeArgumentConstrainedBean.class, true );
+
+		extension.processAnnotatedType( event );
+
+		verify( event );
+	}
+
+	@Test
+	public void testTypeWithCascadedParameterIsProcessed() {
+		ProcessAnnotatedType<CascadingBean> event = createProcessAnnotatedTypeMock( CascadingBean.class, true );
+
+		extension.processAnnotatedType( event );
+
+		verify( event );
+	}
+
+	@Test
+	public void testTypeWithProgrammaticExecutableConstraintsIsProcessed() {
+		runWithCustomValidationXml( "ValidationExtensionTest_programmatic-validation.xml", new Runnable() {
+
+			@Override
+			public void run() {
+				ProcessAnnotatedType<FieldConstrainedBean> event = createProcessAnnotatedTypeMock( FieldConstrainedBean.class, true );
+
+				new ValidationExtension().processAnnotatedType( event );
+
+				verify( event );
+			}
+		} );
+	}
+
+	@Test
+	public void testTypeWithXmlExecutableConstraintsIsProcessed() {
+		runWithCustomValidationXml( "ValidationExtensionTest_xml-validation.xml", new Runnable() {
+
+			@Override
+			public void run() {
+				ProcessAnnotatedType<FieldConstrainedBean> event = createProcessAnnotatedTypeMock( FieldConstrainedBean.class, true );
+
+				new ValidationExtension().processAnnotatedType( event );
+
+				verify( event );
+			}
+		} );
+	}
+
+	/**
+	 * Creates the event for the given type. If the type is expected to be processed, its methods are exposed and the
+	 * type is expected to be replaced with a type wrapping its constrained methods.
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> ProcessAnnotatedType<T> createProcessAnnotatedTypeMock(Class<T> beanClass, boolean processingExpected) {
+		AnnotatedType<T> annotatedType = createMock( AnnotatedType.class );
+		expect( annotatedType.getJavaClass() ).andStubReturn( beanClass );
+
+		ProcessAnnotatedType<T> event = createMock( ProcessAnnotatedType.class );
+		expect( event.getAnnotatedType() ).andReturn( annotatedType );
+
+		if ( processingExpected ) {
+			Set<AnnotatedMethod<? super T>> annotatedMethods = new HashSet<>();
+			for ( Method method : beanClass.getDeclaredMethods() ) {
+				AnnotatedMethod<T> annotatedMethod = createMock( AnnotatedMethod.class );
+				expect( annotatedMethod.getJavaMember() ).andStubReturn( method );
+				replay( annotatedMethod );
+				annotatedMethods.add( annotatedMethod );
+			}
+
+			expect( annotatedType.getConstructors() ).andStubReturn( Collections.<AnnotatedConstructor<T>>emptySet() );
+			expect( annotatedType.getMethods() ).andStubReturn( annotatedMethods );
+
+			event.setAnnotatedType( isA( AnnotatedType.class ) );
+			expectLastCall();
+		}
+
+		replay( annotatedType, event );
+
+		return event;
+	}
+
+	private void runWithCustomValidationXml(String validationXmlName, Runnable runnable) {
+		new ValidationXmlTestHelper( ValidationExtensionTest.class ).runWithCustomValidationXml( validationXmlName, runnable );
+	}
+
 	private <T> ProcessBean<T> getProcessBeanEvent(final Bean<T> bean) {
 		return new ProcessBean<T>() {
 
@@ -233,5 +339,38 @@ public void addDefinitionError(Throwable t) {
 			}
 		};
 	}
-}
 
+	public static class FieldConstrainedBean {
+
+		@NotNull
+		private String name;
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	public static class TypeArgumentConstrainedBean {
+
+		public void process(List<@NotNull String> values) {
+		}
+	}
+
+	public static class CascadingBean {
+
+		public void process(@Valid FieldConstrainedBean bean) {
+		}
+	}
+
+	public static class SetterConstraintContributor implements ConstraintMappingContributor {
+
+		@Override
+		public void createConstraintMappings(ConstraintMappingBuilder builder) {
+			builder.addConstraintMapping()
+					.type( FieldConstrainedBean.class )
+							.method( "setName", String.class )
+									.parameter( 0 )
+											.constraint( new NotNullDef() );
+		}
+	}
+}
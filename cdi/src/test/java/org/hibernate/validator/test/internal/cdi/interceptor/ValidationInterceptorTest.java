@@ -0,0 +1,346 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.cdi.interceptor;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertNumberOfViolations;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.interceptor.InvocationContext;
+import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.constraints.NotNull;
+import javax.validation.executable.ExecutableValidator;
+import javax.validation.metadata.BeanDescriptor;
+import javax.validation.metadata.ConstraintDescriptor;
+import javax.validation.metadata.ConstructorDescriptor;
+import javax.validation.metadata.MethodDescriptor;
+import javax.validation.metadata.MethodType;
+import javax.validation.metadata.PropertyDescriptor;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.cfg.ConstraintMapping;
+import org.hibernate.validator.cfg.defs.NotNullDef;
+import org.hibernate.validator.internal.cdi.interceptor.ValidationInterceptor;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the validation plans determined by {@link ValidationInterceptor}.
+ */
+public class ValidationInterceptorTest {
+
+	@Test
+	public void testUnconstrainedMethodIsNotValidated() throws Exception {
+		CountingValidator validator = new CountingValidator( Validation.buildDefaultValidatorFactory().getValidator() );
+		ValidationInterceptor interceptor = createInterceptor( validator );
+
+		Method method = Service.class.getMethod( "unconstrained", String.class );
+		interceptor.validateMethodInvocation( new MethodInvocationContext( new Service(), method, null ) );
+		interceptor.validateMethodInvocation( new MethodInvocationContext( new Service(), method, null ) );
+
+		assertEquals( validator.validatedParameters, 0 );
+		assertEquals( validator.validatedReturnValues, 0 );
+	}
+
+	@Test
+	public void testConstrainedMethodIsValidated() throws Exception {
+		CountingValidator validator = new CountingValidator( Validation.buildDefaultValidatorFactory().getValidator() );
+		ValidationInterceptor interceptor = createInterceptor( validator );
+
+		Method method = Service.class.getMethod( "constrainedParameter", String.class );
+		interceptor.validateMethodInvocation( new MethodInvocationContext( new Service(), method, "foo" ) );
+
+		try {
+			interceptor.validateMethodInvocation( new MethodInvocationContext( new Service(), method, null ) );
+			fail( "Expected exception wasn't thrown" );
+		}
+		catch (ConstraintViolationException e) {
+			assertNumberOfViolations( e.getConstraintViolations(), 1 );
+		}
+
+		assertEquals( validator.validatedParameters, 2 );
+		assertEquals( validator.validatedReturnValues, 0 );
+
+		method = Service.class.getMethod( "constrainedReturnValue", String.class );
+		interceptor.validateMethodInvocation( new MethodInvocationContext( new Service(), method, "foo" ) );
+
+		assertEquals( validator.validatedParameters, 2 );
+		assertEquals( validator.validatedReturnValues, 1 );
+	}
+
+	@Test
+	public void testValidationPlansAreSharedBetweenInterceptorInstances() throws Exception {
+		CountingValidator validator = new CountingValidator( Validation.buildDefaultValidatorFactory().getValidator() );
+		Method method = Service.class.getMethod( "constrainedParameter", String.class );
+
+		createInterceptor( validator ).validateMethodInvocation( new MethodInvocationContext( new Service(), method, "foo" ) );
+		createInterceptor( validator ).validateMethodInvocation( new MethodInvocationContext( new Service(), method, "bar" ) );
+
+		assertEquals( validator.retrievedMethodDescriptors, 1, "The validation plan should have been determined once" );
+		assertEquals( validator.validatedParameters, 2 );
+	}
+
+	@Test
+	public void testValidationPlansAreNotSharedBetweenValidators() throws Exception {
+		Method method = Service.class.getMethod( "unconstrained", String.class );
+
+		CountingValidator defaultValidator = new CountingValidator( Validation.buildDefaultValidatorFactory().getValidator() );
+		createInterceptor( defaultValidator ).validateMethodInvocation(
+				new MethodInvocationContext( new Service(), method, null )
+		);
+		assertEquals( defaultValidator.validatedParameters, 0 );
+
+		HibernateValidatorConfiguration configuration = Validation.byProvider( HibernateValidator.class ).configure();
+		ConstraintMapping mapping = configuration.createConstraintMapping();
+		mapping.type( Service.class )
+				.method( "unconstrained", String.class )
+						.parameter( 0 )
+								.constraint( new NotNullDef() );
+		CountingValidator programmaticValidator = new CountingValidator(
+				configuration.addMapping( mapping ).buildValidatorFactory().getValidator()
+		);
+
+		try {
+			createInterceptor( programmaticValidator ).validateMethodInvocation(
+					new MethodInvocationContext( new Service(), method, null )
+			);
+			fail( "Expected exception wasn't thrown" );
+		}
+		catch (ConstraintViolationException e) {
+			assertNumberOfViolations( e.getConstraintViolations(), 1 );
+		}
+		assertEquals( programmaticValidator.validatedParameters, 1 );
+	}
+
+	private static ValidationInterceptor createInterceptor(Validator validator) throws Exception {
+		ValidationInterceptor interceptor = new ValidationInterceptor();
+
+		Field validatorField = ValidationInterceptor.class.getDeclaredField( "validator" );
+		validatorField.setAccessible( true );
+		validatorField.set( interceptor, validator );
+
+		return interceptor;
+	}
+
+	public static class Service {
+
+		public String unconstrained(String parameter) {
+			return parameter;
+		}
+
+		public String constrainedParameter(@NotNull String parameter) {
+			return parameter;
+		}
+
+		@NotNull
+		public String constrainedReturnValue(String parameter) {
+			return parameter;
+		}
+	}
+
+	private static class MethodInvocationContext implements InvocationContext {
+
+		private final Object target;
+		private final Method method;
+		private Object[] parameters;
+
+		private MethodInvocationContext(Object target, Method method, Object parameter) {
+			this.target = target;
+			this.method = method;
+			this.parameters = new Object[] { parameter };
+		}
+
+		@Override
+		public Object getTarget() {
+			return target;
+		}
+
+		@Override
+		public Object getTimer() {
+			return null;
+		}
+
+		@Override
+		public Method getMethod() {
+			return method;
+		}
+
+		@Override
+		public Constructor<?> getConstructor() {
+			return null;
+		}
+
+		@Override
+		public Object[] getParameters() {
+			return parameters;
+		}
+
+		@Override
+		public void setParameters(Object[] parameters) {
+			this.parameters = parameters;
+		}
+
+		@Override
+		public Map<String, Object> getContextData() {
+			return Collections.emptyMap();
+		}
+
+		@Override
+		public Object proceed() throws Exception {
+			return method.invoke( target, parameters );
+		}
+	}
+
+	/**
+	 * Counts the parameter and return value validations triggered via {@link #forExecutables()}.
+	 */
+	private static class CountingValidator implements Validator, ExecutableValidator {
+
+		private final Validator delegate;
+
+		private final Map<Class<?>, BeanDescriptor> beanDescriptors = new HashMap<>();
+
+		private int validatedParameters;
+		private int validatedReturnValues;
+		private int retrievedMethodDescriptors;
+
+		private CountingValidator(Validator delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... groups) {
+			return delegate.validate( object, groups );
+		}
+
+		@Override
+		public <T> Set<ConstraintViolation<T>> validateProperty(T object, String propertyName, Class<?>... groups) {
+			return delegate.validateProperty( object, propertyName, groups );
+		}
+
+		@Override
+		public <T> Set<ConstraintViolation<T>> validateValue(Class<T> beanType, String propertyName, Object value, Class<?>... groups) {
+			return delegate.validateValue( beanType, propertyName, value, groups );
+		}
+
+		@Override
+		public BeanDescriptor getConstraintsForClass(Class<?> clazz) {
+			return beanDescriptors.computeIfAbsent( clazz, c -> new CountingBeanDescriptor( delegate.getConstraintsForClass( c ) ) );
+		}
+
+		@Override
+		public <T> T unwrap(Class<T> type) {
+			return delegate.unwrap( type );
+		}
+
+		@Override
+		public ExecutableValidator forExecutables() {
+			return this;
+		}
+
+		@Override
+		public <T> Set<ConstraintViolation<T>> validateParameters(T object, Method method, Object[] parameterValues, Class<?>... groups) {
+			validatedParameters++;
+			return delegate.forExecutables().validateParameters( object, method, parameterValues, groups );
+		}
+
+		@Override
+		public <T> Set<ConstraintViolation<T>> validateReturnValue(T object, Method method, Object returnValue, Class<?>... groups) {
+			validatedReturnValues++;
+			return delegate.forExecutables().validateReturnValue( object, method, returnValue, groups );
+		}
+
+		@Override
+		public <T> Set<ConstraintViolation<T>> validateConstructorParameters(Constructor<? extends T> constructor, Object[] parameterValues, Class<?>... groups) {
+			return delegate.forExecutables().validateConstructorParameters( constructor, parameterValues, groups );
+		}
+
+		@Override
+		public <T> Set<ConstraintViolation<T>> validateConstructorReturnValue(Constructor<? extends T> constructor, T createdObject, Class<?>... groups) {
+			return delegate.forExecutables().validateConstructorReturnValue( constructor, createdObject, groups );
+		}
+
+		/**
+		 * Counts the retrieved method descriptors.
+		 */
+		private class CountingBeanDescriptor implements BeanDescriptor {
+
+			private final BeanDescriptor delegate;
+
+			private CountingBeanDescriptor(BeanDescriptor delegate) {
+				this.delegate = delegate;
+			}
+
+			@Override
+			public boolean isBeanConstrained() {
+				return delegate.isBeanConstrained();
+			}
+
+			@Override
+			public PropertyDescriptor getConstraintsForProperty(String propertyName) {
+				return delegate.getConstraintsForProperty( propertyName );
+			}
+
+			@Override
+			public Set<PropertyDescriptor> getConstrainedProperties() {
+				return delegate.getConstrainedProperties();
+			}
+
+			@Override
+			public MethodDescriptor getConstraintsForMethod(String methodName, Class<?>... parameterTypes) {
+				retrievedMethodDescriptors++;
+				return delegate.getConstraintsForMethod( methodName, parameterTypes );
+			}
+
+			@Override
+			public Set<MethodDescriptor> getConstrainedMethods(MethodType methodType, MethodType... methodTypes) {
+				return delegate.getConstrainedMethods( methodType, methodTypes );
+			}
+
+			@Override
+			public ConstructorDescriptor getConstraintsForConstructor(Class<?>... parameterTypes) {
+				return delegate.getConstraintsForConstructor( parameterTypes );
+			}
+
+			@Override
+			public Set<ConstructorDescriptor> getConstrainedConstructors() {
+				return delegate.getConstrainedConstructors();
+			}
+
+			@Override
+			public boolean hasConstraints() {
+				return delegate.hasConstraints();
+			}
+
+			@Override
+			public Class<?> getElementClass() {
+				return delegate.getElementClass();
+			}
+
+			@Override
+			public Set<ConstraintDescriptor<?>> getConstraintDescriptors() {
+				return delegate.getConstraintDescriptors();
+			}
+
+			@Override
+			public ConstraintFinder findConstraints() {
+				return delegate.findConstraints();
+			}
+		}
+	}
+}
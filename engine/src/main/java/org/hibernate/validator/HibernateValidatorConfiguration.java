@@ -10,6 +10,7 @@
 import javax.validation.valueextraction.ValueExtractor;
 
 import org.hibernate.validator.cfg.ConstraintMapping;
+import org.hibernate.validator.spi.regex.RegularExpressionEngine;
 import org.hibernate.validator.spi.resourceloading.ResourceBundleLocator;
 
 /**
@@ -29,6 +30,24 @@ public interface HibernateValidatorConfiguration extends Configuration<Hibernate
 	 */
 	String FAIL_FAST = "hibernate.validator.fail_fast";
 
+	/**
+	 * Property corresponding to the {@link #maxViolations} method.
+	 * Accepts a non-negative integer. Defaults to {@code 0}, i.e. no limit.
+	 *
+	 * @since 6.0
+	 */
+	@Incubating
+	String MAX_VIOLATIONS = "hibernate.validator.max_violations";
+
+	/**
+	 * Property corresponding to the {@link #lazyMessageInterpolation} method.
+	 * Accepts {@code true} or {@code false}. Defaults to {@code false}.
+	 *
+	 * @since 6.0
+	 */
+	@Incubating
+	String LAZY_MESSAGE_INTERPOLATION = "hibernate.validator.lazy_message_interpolation";
+
 	/**
 	 * Property corresponding to the {@link #allowOverridingMethodAlterParameterConstraint} method.
 	 * Accepts {@code true} or {@code false}.
@@ -59,6 +78,75 @@ public interface HibernateValidatorConfiguration extends Configuration<Hibernate
 	 */
 	String CONSTRAINT_MAPPING_CONTRIBUTORS = "hibernate.validator.constraint_mapping_contributors";
 
+	/**
+	 * Property corresponding to the {@link #propertyAccessStrategy} method.
+	 * Accepts the name of one of the {@link PropertyAccessStrategy} constants, e.g. {@code METHOD_HANDLES}.
+	 * Defaults to {@code REFLECTION}.
+	 *
+	 * @since 6.0
+	 */
+	@Incubating
+	String PROPERTY_ACCESS_STRATEGY = "hibernate.validator.property_access_strategy";
+
+	/**
+	 * Property for configuring the types whose meta data should be built eagerly when bootstrapping the validator
+	 * factory, instead of upon their first validation. Accepts a String with the comma separated fully-qualified class
+	 * names of these types; an entry of the form {@code com.acme.model.*} denotes all the types of the given package
+	 * and its sub-packages.
+	 *
+	 * @see HibernateValidatorFactory#warmUpMetaData(Iterable)
+	 * @since 6.0
+	 */
+	@Incubating
+	String METADATA_WARM_UP = "hibernate.validator.metadata_warm_up";
+
+	/**
+	 * Property corresponding to the {@link #metaDataCachePolicy} method.
+	 * Accepts the name of one of the {@link MetaDataCachePolicy} constants, e.g. {@code BOUNDED}.
+	 * Defaults to {@code SOFT}.
+	 *
+	 * @since 6.0
+	 */
+	@Incubating
+	String METADATA_CACHE_POLICY = "hibernate.validator.metadata_cache_policy";
+
+	/**
+	 * Property corresponding to the {@link #metaDataCacheMaxSize} method.
+	 * Accepts a positive integer. Defaults to {@value #DEFAULT_METADATA_CACHE_MAX_SIZE}.
+	 *
+	 * @since 6.0
+	 */
+	@Incubating
+	String METADATA_CACHE_MAX_SIZE = "hibernate.validator.metadata_cache_max_size";
+
+	/**
+	 * The default maximum number of bean types whose meta data is retained when using
+	 * {@link MetaDataCachePolicy#BOUNDED}.
+	 *
+	 * @since 6.0
+	 */
+	@Incubating
+	int DEFAULT_METADATA_CACHE_MAX_SIZE = 1000;
+
+	/**
+	 * Property corresponding to the {@link #regularExpressionEngine} method.
+	 * Accepts the fully-qualified class name of a {@link RegularExpressionEngine} implementation having a no-args
+	 * constructor. Defaults to an engine based on {@link java.util.regex.Pattern}.
+	 *
+	 * @since 6.0
+	 */
+	@Incubating
+	String REGULAR_EXPRESSION_ENGINE = "hibernate.validator.regular_expression_engine";
+
+	/**
+	 * Property corresponding to the {@link #useMetaDataIndex} method.
+	 * Accepts {@code true} or {@code false}. Defaults to {@code false}.
+	 *
+	 * @since 6.0
+	 */
+	@Incubating
+	String USE_METADATA_INDEX = "hibernate.validator.use_metadata_index";
+
 	/**
 	 * <p>
 	 * Returns the {@link ResourceBundleLocator} used by the
@@ -198,4 +286,113 @@ public interface HibernateValidatorConfiguration extends Configuration<Hibernate
 	 * @since 5.3
 	 */
 	HibernateValidatorConfiguration allowParallelMethodsDefineParameterConstraints(boolean allow);
+
+	/**
+	 * Sets the strategy used for reading the values of constrained and cascaded fields and getters. The accessors are
+	 * created once per field or getter when the meta data of a bean is built. The default is
+	 * {@link PropertyAccessStrategy#REFLECTION}.
+	 *
+	 * @param propertyAccessStrategy the property access strategy to use; must not be {@code null}
+	 *
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @since 6.0
+	 */
+	@Incubating
+	HibernateValidatorConfiguration propertyAccessStrategy(PropertyAccessStrategy propertyAccessStrategy);
+
+	/**
+	 * Sets the policy for retaining the meta data of the validated beans once it has been built. The default is
+	 * {@link MetaDataCachePolicy#SOFT}, which lets the garbage collector reclaim the meta data when the heap runs low;
+	 * {@link MetaDataCachePolicy#STRONG} and {@link MetaDataCachePolicy#BOUNDED} make the retention predictable.
+	 *
+	 * @param metaDataCachePolicy the meta data cache policy to use; must not be {@code null}
+	 *
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @see HibernateValidatorFactory#getMetaDataCacheStatistics()
+	 * @since 6.0
+	 */
+	@Incubating
+	HibernateValidatorConfiguration metaDataCachePolicy(MetaDataCachePolicy metaDataCachePolicy);
+
+	/**
+	 * Sets the maximum number of bean types whose meta data is retained when using {@link MetaDataCachePolicy#BOUNDED}.
+	 * Defaults to {@value #DEFAULT_METADATA_CACHE_MAX_SIZE}.
+	 *
+	 * @param maxSize the maximum number of bean types; must be greater than 0
+	 *
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @since 6.0
+	 */
+	@Incubating
+	HibernateValidatorConfiguration metaDataCacheMaxSize(int maxSize);
+
+	/**
+	 * Sets the maximum number of constraint violations to collect in a single validation call. As soon as that number
+	 * is reached, the validation is aborted, including the traversal of cascaded beans, container elements and
+	 * remaining groups. This allows to reject obviously invalid object graphs without walking them entirely.
+	 * <p>
+	 * Fail fast mode, if enabled, takes precedence and behaves like a maximum of {@code 1}.
+	 *
+	 * @param maxViolations the maximum number of constraint violations; {@code 0}, the default, means no limit
+	 *
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @since 6.0
+	 */
+	@Incubating
+	HibernateValidatorConfiguration maxViolations(int maxViolations);
+
+	/**
+	 * Enables or disables the lazy interpolation of the constraint violation messages. When enabled, the message of a
+	 * {@link javax.validation.ConstraintViolation} is only interpolated on the first call to
+	 * {@link javax.validation.ConstraintViolation#getMessage()}, which saves the interpolation cost when the violations
+	 * are only counted or classified, e.g. by property path or constraint.
+	 * <p>
+	 * Note that the interpolation then happens in the thread calling {@code getMessage()}, using the validated value at
+	 * that time, and that interpolation errors are raised by {@code getMessage()} instead of the validation call.
+	 *
+	 * @param lazyMessageInterpolation {@code true} to interpolate the messages lazily, {@code false}, the default, to
+	 * interpolate them when the violations are created
+	 *
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @since 6.0
+	 */
+	@Incubating
+	HibernateValidatorConfiguration lazyMessageInterpolation(boolean lazyMessageInterpolation);
+
+	/**
+	 * Sets the engine compiling the regular expressions of the {@link javax.validation.constraints.Pattern} constraints,
+	 * including those composing other constraints. Each distinct combination of expression and flags is compiled once
+	 * per validator factory. The default engine is based on {@link java.util.regex.Pattern}.
+	 *
+	 * @param regularExpressionEngine the regular expression engine to use; must not be {@code null}
+	 *
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @since 6.0
+	 */
+	@Incubating
+	HibernateValidatorConfiguration regularExpressionEngine(RegularExpressionEngine regularExpressionEngine);
+
+	/**
+	 * Enables or disables the usage of the meta data indexes generated by the Hibernate Validator annotation processor
+	 * when invoked with the {@code generateMetaDataIndex} option. When enabled, the annotations of the elements which
+	 * are not listed in the index of their type are not read when building the meta data of that type.
+	 * <p>
+	 * The index is not checked against the compiled types: it must be regenerated whenever the annotations of the
+	 * indexed types change, otherwise the constraints of elements missing from a stale index are ignored.
+	 *
+	 * @param useMetaDataIndex {@code true} to use the meta data indexes, {@code false}, the default, to read the
+	 * annotations of all the elements
+	 *
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @since 6.0
+	 */
+	@Incubating
+	HibernateValidatorConfiguration useMetaDataIndex(boolean useMetaDataIndex);
 }
@@ -108,4 +108,33 @@ public interface HibernateValidatorContext extends ValidatorContext {
 	 * @since 5.3
 	 */
 	HibernateValidatorContext allowParallelMethodsDefineParameterConstraints(boolean allow);
+
+	/**
+	 * Sets the maximum number of constraint violations to collect in a single validation call, after which the
+	 * validation is aborted.
+	 *
+	 * @param maxViolations the maximum number of constraint violations; {@code 0} means no limit
+	 *
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @see HibernateValidatorConfiguration#maxViolations(int)
+	 * @since 6.0
+	 */
+	@Incubating
+	HibernateValidatorContext maxViolations(int maxViolations);
+
+	/**
+	 * Enables or disables the lazy interpolation of the constraint violation messages.
+	 *
+	 * @param lazyMessageInterpolation {@code true} to interpolate the messages on the first call to
+	 * {@link javax.validation.ConstraintViolation#getMessage()}, {@code false} to interpolate them when the violations
+	 * are created
+	 *
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @see HibernateValidatorConfiguration#lazyMessageInterpolation(boolean)
+	 * @since 6.0
+	 */
+	@Incubating
+	HibernateValidatorContext lazyMessageInterpolation(boolean lazyMessageInterpolation);
 }
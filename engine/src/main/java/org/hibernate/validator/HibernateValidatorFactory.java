@@ -7,6 +7,9 @@
 
 package org.hibernate.validator;
 
+import java.time.Duration;
+import java.util.Map;
+
 import javax.validation.ValidatorFactory;
 
 /**
@@ -25,4 +28,65 @@ public interface HibernateValidatorFactory extends ValidatorFactory {
 	 */
 	@Override
 	HibernateValidatorContext usingContext();
+
+	/**
+	 * Builds the meta data of the given types, so that their first validation doesn't have to pay for it. The meta
+	 * data of the types is built in parallel by threads dedicated to the warm-up, bounded by the number of available
+	 * processors. Their context class loader is the
+	 * {@link HibernateValidatorConfiguration#externalClassLoader(ClassLoader) external class loader} if one has been
+	 * configured, the context class loader of the calling thread otherwise.
+	 * <p>
+	 * The meta data is built for the validators obtained via {@link #getValidator()} or a context using the
+	 * parameter name provider of this factory.
+	 *
+	 * @param beanClasses the types to build the meta data for
+	 *
+	 * @return the time it took to build the meta data of each type, in the iteration order of the given types
+	 *
+	 * @throws javax.validation.ValidationException if the meta data of one of the types cannot be built, e.g. due
+	 * to an invalid constraint declaration
+	 * @throws UnsupportedOperationException if this factory doesn't support building the meta data ahead of time
+	 * @see HibernateValidatorConfiguration#METADATA_WARM_UP
+	 * @since 6.0
+	 */
+	@Incubating
+	default Map<Class<?>, Duration> warmUpMetaData(Iterable<Class<?>> beanClasses) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Builds the meta data of all the types of the given package and its sub-packages, as found by scanning the
+	 * directories and JAR files of the class path. The types are loaded using the
+	 * {@link HibernateValidatorConfiguration#externalClassLoader(ClassLoader) external class loader} if one has been
+	 * configured.
+	 *
+	 * @param packageName the name of the package whose types to build the meta data for
+	 *
+	 * @return the time it took to build the meta data of each type
+	 *
+	 * @throws javax.validation.ValidationException if the package cannot be scanned or the meta data of one of the
+	 * types cannot be built
+	 * @throws UnsupportedOperationException if this factory doesn't support building the meta data ahead of time
+	 * @see #warmUpMetaData(Iterable)
+	 * @since 6.0
+	 */
+	@Incubating
+	default Map<Class<?>, Duration> warmUpMetaData(String packageName) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Returns a snapshot of the counters of the caches retaining the bean meta data of this factory, summed up over
+	 * all the parameter name providers used by the validators of this factory.
+	 *
+	 * @return the meta data cache statistics
+	 *
+	 * @throws UnsupportedOperationException if this factory doesn't expose the statistics of its meta data caches
+	 * @see HibernateValidatorConfiguration#metaDataCachePolicy(MetaDataCachePolicy)
+	 * @since 6.0
+	 */
+	@Incubating
+	default MetaDataCacheStatistics getMetaDataCacheStatistics() {
+		throw new UnsupportedOperationException();
+	}
 }
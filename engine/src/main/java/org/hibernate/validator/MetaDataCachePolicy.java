@@ -0,0 +1,36 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator;
+
+/**
+ * The policies available for retaining the meta data of the validated beans once it has been built.
+ *
+ * @see HibernateValidatorConfiguration#metaDataCachePolicy(MetaDataCachePolicy)
+ * @see HibernateValidatorFactory#getMetaDataCacheStatistics()
+ * @since 6.0
+ */
+@Incubating
+public enum MetaDataCachePolicy {
+
+	/**
+	 * The meta data is softly referenced and may be reclaimed by the garbage collector when the heap runs low, in
+	 * which case it is built again upon the next validation of the bean type. This is the default.
+	 */
+	SOFT,
+
+	/**
+	 * The meta data is strongly referenced and retained until the validator factory is closed.
+	 */
+	STRONG,
+
+	/**
+	 * The meta data is strongly referenced, but at most
+	 * {@link HibernateValidatorConfiguration#metaDataCacheMaxSize(int) a given number} of bean types is retained; when
+	 * that number is exceeded, the meta data of the least recently used bean type is evicted.
+	 */
+	BOUNDED
+}
@@ -0,0 +1,45 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator;
+
+/**
+ * A snapshot of the counters of the cache retaining the meta data of the validated beans.
+ *
+ * @see HibernateValidatorFactory#getMetaDataCacheStatistics()
+ * @since 6.0
+ */
+@Incubating
+public interface MetaDataCacheStatistics {
+
+	/**
+	 * @return the number of meta data requests served from the cache
+	 */
+	long getHitCount();
+
+	/**
+	 * @return the number of meta data requests which required to build the meta data
+	 */
+	long getMissCount();
+
+	/**
+	 * @return the number of times the meta data of a bean type has been built again after it had been dropped from
+	 * the cache, be it by an eviction or by the garbage collector
+	 */
+	long getRebuildCount();
+
+	/**
+	 * @return the number of bean types evicted from the cache because its maximum size was exceeded; evictions of
+	 * softly referenced meta data by the garbage collector are not counted here, but are reflected by
+	 * {@link #getRebuildCount()}
+	 */
+	long getEvictionCount();
+
+	/**
+	 * @return the number of bean types whose meta data is currently cached
+	 */
+	long getSize();
+}
@@ -0,0 +1,30 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator;
+
+/**
+ * The strategies available for reading the values of constrained or cascaded fields and getters.
+ *
+ * @see HibernateValidatorConfiguration#propertyAccessStrategy(PropertyAccessStrategy)
+ * @since 6.0
+ */
+@Incubating
+public enum PropertyAccessStrategy {
+
+	/**
+	 * Values are read using {@link java.lang.reflect.Field#get(Object)} and
+	 * {@link java.lang.reflect.Method#invoke(Object, Object...)}. This is the default.
+	 */
+	REFLECTION,
+
+	/**
+	 * Values are read using {@link java.lang.invoke.MethodHandle}s, which are created once per field or getter when the
+	 * meta data of a bean is built. This avoids the argument array handling and exception wrapping of reflective access
+	 * on each read.
+	 */
+	METHOD_HANDLES
+}
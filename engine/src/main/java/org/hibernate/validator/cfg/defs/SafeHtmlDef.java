@@ -33,5 +33,10 @@ public SafeHtmlDef additionalTagsWithAttributes(SafeHtml.Tag... additionalTagsWi
 		return this;
 	}
 
+	public SafeHtmlDef maxLength(int maxLength) {
+		addParameter( "maxLength", maxLength );
+		return this;
+	}
+
 }
 
@@ -64,6 +64,15 @@
 	 */
 	Tag[] additionalTagsWithAttributes() default { };
 
+	/**
+	 * @return The maximum length of the value. Longer values are considered invalid without being parsed, which
+	 * protects against the cost of parsing overly large inputs. Must not be negative. Per default the length is not
+	 * limited.
+	 *
+	 * @since 6.0
+	 */
+	int maxLength() default Integer.MAX_VALUE;
+
 	/**
 	 * Allows to specify whitelist tags with specified optional attributes. Adding a tag with a given attribute also
 	 * whitelists the tag itself without any attribute.
@@ -76,6 +76,11 @@
  * </constraint-mappings>
  * }
  * </pre>
+ * <p>
+ * Alternatively, the {@code org.hibernate.validator.constraintvalidators.RFC3986URLValidator} can be configured the
+ * same way. It checks the URL against the generic syntax of RFC 3986 without creating a {@code java.net.URL}, hence
+ * does not require any protocol handler and is more efficient.
+ * </p>
  *
  * @see <a href="http://www.ietf.org/rfc/rfc2396.txt">RFC2396</a>
  * @see org.hibernate.validator.cfg.ConstraintMapping#constraintDefinition(Class)
@@ -0,0 +1,329 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.constraintvalidators;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+
+import org.hibernate.validator.constraints.URL;
+
+/**
+ * Validate that the character sequence (e.g. string) is a valid URL by scanning it according to the generic URI syntax
+ * of RFC 3986.
+ * <p>
+ * Contrary to the default validator, no {@code java.net.URL} is created: the scheme, host and port are located as
+ * offsets into the validated character sequence and compared in place, so that validating a value does not allocate
+ * any object. As no protocol handler is required, URLs with any syntactically valid scheme are accepted.
+ * <p>
+ * Compared to the {@code java.net.URL} based validation, this validator is stricter regarding the allowed characters:
+ * characters such as spaces, {@code <}, {@code >}, {@code "}, {@code \}, <code>{</code> or {@code |} must be
+ * percent-encoded, leading or trailing whitespace is not ignored and the port must not exceed 65535. Non-ASCII
+ * characters are accepted, as in internationalized resource identifiers.
+ *
+ * @see <a href="https://tools.ietf.org/html/rfc3986">RFC 3986</a>
+ * @since 6.0
+ */
+public class RFC3986URLValidator implements ConstraintValidator<URL, CharSequence> {
+
+	private static final int NO_PORT = -1;
+
+	private static final int INVALID = -2;
+
+	private static final int MAX_PORT = 65535;
+
+	/**
+	 * The ASCII characters allowed in a host name: unreserved characters and sub-delimiters.
+	 */
+	private static final boolean[] REG_NAME_CHARACTERS = new boolean[128];
+
+	static {
+		for ( char c = 'a'; c <= 'z'; c++ ) {
+			REG_NAME_CHARACTERS[c] = true;
+		}
+		for ( char c = 'A'; c <= 'Z'; c++ ) {
+			REG_NAME_CHARACTERS[c] = true;
+		}
+		for ( char c = '0'; c <= '9'; c++ ) {
+			REG_NAME_CHARACTERS[c] = true;
+		}
+		for ( char c : "-._~!$&'()*+,;=".toCharArray() ) {
+			REG_NAME_CHARACTERS[c] = true;
+		}
+	}
+
+	private String protocol;
+	private String host;
+	private int port;
+
+	@Override
+	public void initialize(URL url) {
+		this.protocol = url.protocol();
+		this.host = url.host();
+		this.port = url.port();
+	}
+
+	@Override
+	public boolean isValid(CharSequence value, ConstraintValidatorContext constraintValidatorContext) {
+		if ( value == null || value.length() == 0 ) {
+			return true;
+		}
+
+		int length = value.length();
+
+		// scheme = ALPHA *( ALPHA / DIGIT / "+" / "-" / "." ), followed by ":"
+		if ( !isAlpha( value.charAt( 0 ) ) ) {
+			return false;
+		}
+		int schemeEnd = 1;
+		while ( schemeEnd < length && isSchemeCharacter( value.charAt( schemeEnd ) ) ) {
+			schemeEnd++;
+		}
+		if ( schemeEnd == length || value.charAt( schemeEnd ) != ':' ) {
+			return false;
+		}
+
+		int position = schemeEnd + 1;
+		int hostStart = position;
+		int hostEnd = position;
+		int urlPort = NO_PORT;
+
+		// authority = [ userinfo "@" ] host [ ":" port ], following "//"
+		if ( position + 1 < length && value.charAt( position ) == '/' && value.charAt( position + 1 ) == '/' ) {
+			int authorityStart = position + 2;
+			int authorityEnd = authorityStart;
+			while ( authorityEnd < length && !isAuthorityDelimiter( value.charAt( authorityEnd ) ) ) {
+				authorityEnd++;
+			}
+
+			hostStart = authorityStart;
+			for ( int i = authorityStart; i < authorityEnd; i++ ) {
+				if ( value.charAt( i ) == '@' ) {
+					hostStart = i + 1;
+				}
+			}
+			if ( hostStart > authorityStart && !isValidUserInfo( value, authorityStart, hostStart - 1 ) ) {
+				return false;
+			}
+
+			hostEnd = scanHost( value, hostStart, authorityEnd );
+			if ( hostEnd == INVALID ) {
+				return false;
+			}
+
+			if ( hostEnd < authorityEnd ) {
+				urlPort = scanPort( value, hostEnd + 1, authorityEnd );
+				if ( urlPort == INVALID ) {
+					return false;
+				}
+			}
+
+			position = authorityEnd;
+		}
+
+		if ( !isValidPathQueryAndFragment( value, position, length ) ) {
+			return false;
+		}
+
+		if ( protocol != null && protocol.length() > 0 && !isProtocolMatching( value, schemeEnd ) ) {
+			return false;
+		}
+
+		if ( host != null && host.length() > 0 && !isHostMatching( value, hostStart, hostEnd ) ) {
+			return false;
+		}
+
+		if ( port != -1 && urlPort != port ) {
+			return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * The scheme is case-insensitive, the expected protocol is compared to its lower case form as done by
+	 * {@code java.net.URL}.
+	 */
+	private boolean isProtocolMatching(CharSequence value, int schemeEnd) {
+		if ( protocol.length() != schemeEnd ) {
+			return false;
+		}
+
+		for ( int i = 0; i < schemeEnd; i++ ) {
+			if ( Character.toLowerCase( value.charAt( i ) ) != protocol.charAt( i ) ) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private boolean isHostMatching(CharSequence value, int hostStart, int hostEnd) {
+		if ( host.length() != hostEnd - hostStart ) {
+			return false;
+		}
+
+		for ( int i = hostStart; i < hostEnd; i++ ) {
+			if ( value.charAt( i ) != host.charAt( i - hostStart ) ) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * @return the index of the end of the host, i.e. the end of the authority or the index of the port separator, or
+	 * {@link #INVALID} if the host is invalid
+	 */
+	private static int scanHost(CharSequence value, int start, int end) {
+		int i = start;
+
+		// IP-literal = "[" ( IPv6address / IPvFuture ) "]"; only the allowed characters are checked
+		if ( i < end && value.charAt( i ) == '[' ) {
+			boolean hasColon = false;
+			i++;
+			while ( i < end && value.charAt( i ) != ']' ) {
+				char c = value.charAt( i );
+				if ( c == ':' ) {
+					hasColon = true;
+				}
+				else if ( !isHexDigit( c ) && c != '.' ) {
+					return INVALID;
+				}
+				i++;
+			}
+			if ( i == end || !hasColon ) {
+				return INVALID;
+			}
+			i++;
+			return i == end || value.charAt( i ) == ':' ? i : INVALID;
+		}
+
+		// IPv4address / reg-name
+		while ( i < end ) {
+			char c = value.charAt( i );
+			if ( c == ':' ) {
+				return i;
+			}
+			if ( c == '%' ) {
+				if ( !isPercentEncoded( value, i, end ) ) {
+					return INVALID;
+				}
+				i += 3;
+			}
+			else if ( isRegNameCharacter( c ) ) {
+				i++;
+			}
+			else {
+				return INVALID;
+			}
+		}
+
+		return i;
+	}
+
+	/**
+	 * @return the port, {@link #NO_PORT} if it is empty or {@link #INVALID} if it is invalid
+	 */
+	private static int scanPort(CharSequence value, int start, int end) {
+		if ( start == end ) {
+			return NO_PORT;
+		}
+
+		int port = 0;
+		for ( int i = start; i < end; i++ ) {
+			char c = value.charAt( i );
+			if ( c < '0' || c > '9' ) {
+				return INVALID;
+			}
+			port = port * 10 + ( c - '0' );
+			if ( port > MAX_PORT ) {
+				return INVALID;
+			}
+		}
+
+		return port;
+	}
+
+	private static boolean isValidUserInfo(CharSequence value, int start, int end) {
+		int i = start;
+		while ( i < end ) {
+			char c = value.charAt( i );
+			if ( c == '%' ) {
+				if ( !isPercentEncoded( value, i, end ) ) {
+					return false;
+				}
+				i += 3;
+			}
+			else if ( isRegNameCharacter( c ) || c == ':' ) {
+				i++;
+			}
+			else {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static boolean isValidPathQueryAndFragment(CharSequence value, int start, int end) {
+		boolean inFragment = false;
+		int i = start;
+		while ( i < end ) {
+			char c = value.charAt( i );
+			if ( c == '%' ) {
+				if ( !isPercentEncoded( value, i, end ) ) {
+					return false;
+				}
+				i += 3;
+			}
+			else if ( c == '#' ) {
+				if ( inFragment ) {
+					return false;
+				}
+				inFragment = true;
+				i++;
+			}
+			else if ( isRegNameCharacter( c ) || c == ':' || c == '@' || c == '/' || c == '?' ) {
+				i++;
+			}
+			else {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static boolean isPercentEncoded(CharSequence value, int index, int end) {
+		return index + 2 < end && isHexDigit( value.charAt( index + 1 ) ) && isHexDigit( value.charAt( index + 2 ) );
+	}
+
+	private static boolean isAuthorityDelimiter(char c) {
+		return c == '/' || c == '?' || c == '#';
+	}
+
+	/**
+	 * Non-ASCII characters are accepted except for the C1 control characters, as done for internationalized resource
+	 * identifiers.
+	 */
+	private static boolean isRegNameCharacter(char c) {
+		return c < 128 ? REG_NAME_CHARACTERS[c] : c >= 0xA0;
+	}
+
+	private static boolean isSchemeCharacter(char c) {
+		return isAlpha( c ) || ( c >= '0' && c <= '9' ) || c == '+' || c == '-' || c == '.';
+	}
+
+	private static boolean isAlpha(char c) {
+		return ( c >= 'a' && c <= 'z' ) || ( c >= 'A' && c <= 'Z' );
+	}
+
+	private static boolean isHexDigit(char c) {
+		return ( c >= '0' && c <= '9' ) || ( c >= 'a' && c <= 'f' ) || ( c >= 'A' && c <= 'F' );
+	}
+}
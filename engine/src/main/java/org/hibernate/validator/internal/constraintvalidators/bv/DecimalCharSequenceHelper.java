@@ -0,0 +1,305 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.constraintvalidators.bv;
+
+import java.math.BigDecimal;
+
+/**
+ * Evaluates character sequences representing decimal numbers - in the format accepted by
+ * {@link BigDecimal#BigDecimal(String)} - by scanning their characters, without creating a {@code String} or a
+ * {@code BigDecimal} for them.
+ * <p>
+ * Only ASCII input is handled by the scanner. Sequences containing other characters, e.g. non-ASCII digits which are
+ * accepted by {@code BigDecimal}, or exponents too large to be handled safely are delegated to {@code BigDecimal}, so
+ * the results are always the same as if the sequence had been converted to a {@code BigDecimal}.
+ */
+final class DecimalCharSequenceHelper {
+
+	/**
+	 * Returned by {@link #compare(CharSequence, Bound)} if the given sequence does not represent a number.
+	 */
+	static final int NOT_A_NUMBER = Integer.MIN_VALUE;
+
+	/**
+	 * The maximum number of digits of an exponent handled by the scanner, so that computations on the exponent never
+	 * overflow.
+	 */
+	private static final int MAX_EXPONENT_LENGTH = 9;
+
+	private static final long INVALID_EXPONENT = Long.MIN_VALUE;
+
+	private static final long UNSUPPORTED_EXPONENT = Long.MAX_VALUE;
+
+	private DecimalCharSequenceHelper() {
+	}
+
+	/**
+	 * Compares the number represented by the given sequence with the given bound.
+	 *
+	 * @return a negative integer, zero, or a positive integer as the number is less than, equal to, or greater than
+	 * the bound or {@link #NOT_A_NUMBER} if the given sequence does not represent a number
+	 */
+	static int compare(CharSequence value, Bound bound) {
+		int length = value.length();
+		int i = 0;
+
+		boolean negative = false;
+		if ( length > 0 ) {
+			char sign = value.charAt( 0 );
+			if ( sign == '-' ) {
+				negative = true;
+				i++;
+			}
+			else if ( sign == '+' ) {
+				i++;
+			}
+		}
+
+		int digitCount = 0;
+		int integerDigitCount = -1;
+		int firstNonZeroDigit = -1;
+		int firstNonZeroPosition = -1;
+
+		for ( ; i < length; i++ ) {
+			char c = value.charAt( i );
+			if ( c >= '0' && c <= '9' ) {
+				if ( c != '0' && firstNonZeroDigit < 0 ) {
+					firstNonZeroDigit = digitCount;
+					firstNonZeroPosition = i;
+				}
+				digitCount++;
+			}
+			else if ( c == '.' && integerDigitCount < 0 ) {
+				integerDigitCount = digitCount;
+			}
+			else {
+				break;
+			}
+		}
+
+		int mantissaEnd = i;
+		long exponent = parseExponent( value, i );
+
+		if ( exponent == UNSUPPORTED_EXPONENT ) {
+			return compareAsBigDecimal( value, bound );
+		}
+		if ( exponent == INVALID_EXPONENT || digitCount == 0 ) {
+			return NOT_A_NUMBER;
+		}
+		if ( integerDigitCount < 0 ) {
+			integerDigitCount = digitCount;
+		}
+
+		int signum = firstNonZeroDigit < 0 ? 0 : ( negative ? -1 : 1 );
+		if ( signum != bound.signum ) {
+			return signum < bound.signum ? -1 : 1;
+		}
+		if ( signum == 0 ) {
+			return 0;
+		}
+
+		// the value is 0.d1d2...dn * 10^adjustedExponent with d1 being the first non-zero digit
+		long adjustedExponent = (long) integerDigitCount - firstNonZeroDigit + exponent;
+		int magnitudeComparison;
+		if ( adjustedExponent != bound.adjustedExponent ) {
+			magnitudeComparison = adjustedExponent < bound.adjustedExponent ? -1 : 1;
+		}
+		else {
+			magnitudeComparison = compareDigits( value, firstNonZeroPosition, mantissaEnd, bound.digits );
+		}
+
+		return signum * magnitudeComparison;
+	}
+
+	/**
+	 * Checks whether the number represented by the given sequence has at most the given number of integer and fraction
+	 * digits, as determined by the precision and scale of the corresponding {@code BigDecimal}.
+	 *
+	 * @return {@code true} if the sequence represents a number within the given limits, {@code false} otherwise
+	 */
+	static boolean hasDigits(CharSequence value, int maxIntegerLength, int maxFractionLength) {
+		int length = value.length();
+		int i = 0;
+
+		if ( length > 0 && ( value.charAt( 0 ) == '-' || value.charAt( 0 ) == '+' ) ) {
+			i++;
+		}
+
+		int digitCount = 0;
+		int integerDigitCount = -1;
+		int firstNonZeroDigit = -1;
+
+		for ( ; i < length; i++ ) {
+			char c = value.charAt( i );
+			if ( c >= '0' && c <= '9' ) {
+				if ( c != '0' && firstNonZeroDigit < 0 ) {
+					firstNonZeroDigit = digitCount;
+				}
+				digitCount++;
+			}
+			else if ( c == '.' && integerDigitCount < 0 ) {
+				integerDigitCount = digitCount;
+			}
+			else {
+				break;
+			}
+		}
+
+		long exponent = parseExponent( value, i );
+
+		if ( exponent == UNSUPPORTED_EXPONENT ) {
+			return hasDigitsAsBigDecimal( value, maxIntegerLength, maxFractionLength );
+		}
+		if ( exponent == INVALID_EXPONENT || digitCount == 0 ) {
+			return false;
+		}
+		if ( integerDigitCount < 0 ) {
+			integerDigitCount = digitCount;
+		}
+
+		// the unscaled value of zero has a precision of 1
+		long precision = firstNonZeroDigit < 0 ? 1 : digitCount - firstNonZeroDigit;
+		long scale = (long) ( digitCount - integerDigitCount ) - exponent;
+
+		long integerPartLength = precision - scale;
+		long fractionPartLength = scale < 0 ? 0 : scale;
+
+		return maxIntegerLength >= integerPartLength && maxFractionLength >= fractionPartLength;
+	}
+
+	/**
+	 * Parses the optional exponent starting at the given position, which must be followed by the end of the sequence.
+	 *
+	 * @return the exponent, {@code 0} if there is none, {@link #INVALID_EXPONENT} if the remainder of the sequence is
+	 * not a valid exponent or {@link #UNSUPPORTED_EXPONENT} if it must be handled by {@code BigDecimal}
+	 */
+	private static long parseExponent(CharSequence value, int start) {
+		int length = value.length();
+		if ( start == length ) {
+			return 0;
+		}
+
+		char marker = value.charAt( start );
+		if ( marker != 'e' && marker != 'E' ) {
+			return marker > 0x7F ? UNSUPPORTED_EXPONENT : INVALID_EXPONENT;
+		}
+
+		int i = start + 1;
+		boolean negative = false;
+		if ( i < length && ( value.charAt( i ) == '-' || value.charAt( i ) == '+' ) ) {
+			negative = value.charAt( i ) == '-';
+			i++;
+		}
+
+		// skip leading zeros so they do not count against the maximum length
+		int digitsStart = i;
+		while ( i < length && value.charAt( i ) == '0' ) {
+			i++;
+		}
+
+		long exponent = 0;
+		int significantDigits = 0;
+		for ( ; i < length; i++ ) {
+			char c = value.charAt( i );
+			if ( c < '0' || c > '9' ) {
+				return c > 0x7F ? UNSUPPORTED_EXPONENT : INVALID_EXPONENT;
+			}
+			if ( ++significantDigits > MAX_EXPONENT_LENGTH ) {
+				return UNSUPPORTED_EXPONENT;
+			}
+			exponent = exponent * 10 + ( c - '0' );
+		}
+
+		if ( i == digitsStart ) {
+			return INVALID_EXPONENT;
+		}
+
+		return negative ? -exponent : exponent;
+	}
+
+	/**
+	 * Compares the digits of the mantissa in the given range - skipping the decimal point - with the given digits, the
+	 * shorter sequence of digits being padded with zeros.
+	 */
+	private static int compareDigits(CharSequence value, int start, int end, char[] digits) {
+		int j = 0;
+		for ( int i = start; i < end; i++ ) {
+			char c = value.charAt( i );
+			if ( c == '.' ) {
+				continue;
+			}
+			if ( j == digits.length ) {
+				// the bound has no more digits; any remaining non-zero digit makes the value greater
+				for ( ; i < end; i++ ) {
+					c = value.charAt( i );
+					if ( c != '0' && c != '.' ) {
+						return 1;
+					}
+				}
+				return 0;
+			}
+			if ( c != digits[j] ) {
+				return c < digits[j] ? -1 : 1;
+			}
+			j++;
+		}
+
+		// the digits of the bound do not have trailing zeros, so any remaining one makes the bound greater
+		return j < digits.length ? -1 : 0;
+	}
+
+	private static int compareAsBigDecimal(CharSequence value, Bound bound) {
+		try {
+			return new BigDecimal( value.toString() ).compareTo( bound.value );
+		}
+		catch (NumberFormatException nfe) {
+			return NOT_A_NUMBER;
+		}
+	}
+
+	private static boolean hasDigitsAsBigDecimal(CharSequence value, int maxIntegerLength, int maxFractionLength) {
+		BigDecimal bigNum;
+		try {
+			bigNum = new BigDecimal( value.toString() );
+		}
+		catch (NumberFormatException nfe) {
+			return false;
+		}
+
+		int integerPartLength = bigNum.precision() - bigNum.scale();
+		int fractionPartLength = bigNum.scale() < 0 ? 0 : bigNum.scale();
+
+		return maxIntegerLength >= integerPartLength && maxFractionLength >= fractionPartLength;
+	}
+
+	/**
+	 * A bound pre-parsed into the form used by the scanner: its sign, the digits of its magnitude without leading and
+	 * trailing zeros and its exponent when written as {@code 0.d1d2...dn * 10^adjustedExponent}.
+	 */
+	static final class Bound {
+
+		private final BigDecimal value;
+		private final int signum;
+		private final char[] digits;
+		private final long adjustedExponent;
+
+		Bound(BigDecimal value) {
+			this.value = value;
+			this.signum = value.signum();
+
+			if ( signum == 0 ) {
+				this.digits = new char[0];
+				this.adjustedExponent = 0;
+			}
+			else {
+				BigDecimal magnitude = value.abs().stripTrailingZeros();
+				this.digits = magnitude.unscaledValue().toString().toCharArray();
+				this.adjustedExponent = (long) magnitude.precision() - magnitude.scale();
+			}
+		}
+	}
+}
@@ -24,13 +24,13 @@ public class DecimalMaxValidatorForCharSequence implements ConstraintValidator<D
 
 	private static final Log log = LoggerFactory.make();
 
-	private BigDecimal maxValue;
+	private DecimalCharSequenceHelper.Bound maxValue;
 	private boolean inclusive;
 
 	@Override
 	public void initialize(DecimalMax maxValue) {
 		try {
-			this.maxValue = new BigDecimal( maxValue.value() );
+			this.maxValue = new DecimalCharSequenceHelper.Bound( new BigDecimal( maxValue.value() ) );
 		}
 		catch (NumberFormatException nfe) {
 			throw log.getInvalidBigDecimalFormatException( maxValue.value(), nfe );
@@ -44,12 +44,11 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext constraint
 		if ( value == null ) {
 			return true;
 		}
-		try {
-			int comparisonResult = new BigDecimal( value.toString() ).compareTo( maxValue );
-			return inclusive ? comparisonResult <= 0 : comparisonResult < 0;
-		}
-		catch (NumberFormatException nfe) {
+
+		int comparisonResult = DecimalCharSequenceHelper.compare( value, maxValue );
+		if ( comparisonResult == DecimalCharSequenceHelper.NOT_A_NUMBER ) {
 			return false;
 		}
+		return inclusive ? comparisonResult <= 0 : comparisonResult < 0;
 	}
 }
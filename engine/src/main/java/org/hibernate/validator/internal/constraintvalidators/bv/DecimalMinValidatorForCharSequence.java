@@ -24,13 +24,13 @@ public class DecimalMinValidatorForCharSequence implements ConstraintValidator<D
 
 	private static final Log log = LoggerFactory.make();
 
-	private BigDecimal minValue;
+	private DecimalCharSequenceHelper.Bound minValue;
 	private boolean inclusive;
 
 	@Override
 	public void initialize(DecimalMin minValue) {
 		try {
-			this.minValue = new BigDecimal( minValue.value() );
+			this.minValue = new DecimalCharSequenceHelper.Bound( new BigDecimal( minValue.value() ) );
 		}
 		catch (NumberFormatException nfe) {
 			throw log.getInvalidBigDecimalFormatException( minValue.value(), nfe );
@@ -44,12 +44,11 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext constraint
 		if ( value == null ) {
 			return true;
 		}
-		try {
-			int comparisonResult = new BigDecimal( value.toString() ).compareTo( minValue );
-			return inclusive ? comparisonResult >= 0 : comparisonResult > 0;
-		}
-		catch (NumberFormatException nfe) {
+
+		int comparisonResult = DecimalCharSequenceHelper.compare( value, minValue );
+		if ( comparisonResult == DecimalCharSequenceHelper.NOT_A_NUMBER ) {
 			return false;
 		}
+		return inclusive ? comparisonResult >= 0 : comparisonResult > 0;
 	}
 }
@@ -42,6 +42,11 @@ public boolean isValid(Number num, ConstraintValidatorContext constraintValidato
 			return true;
 		}
 
+		// integral values have no fraction, so only their decimal digits need to be counted
+		if ( num instanceof Integer || num instanceof Long ) {
+			return maxIntegerLength >= integerPartLength( num.longValue() );
+		}
+
 		BigDecimal bigNum;
 		if ( num instanceof BigDecimal ) {
 			bigNum = (BigDecimal) num;
@@ -56,6 +61,19 @@ public boolean isValid(Number num, ConstraintValidatorContext constraintValidato
 		return ( maxIntegerLength >= integerPartLength && maxFractionLength >= fractionPartLength );
 	}
 
+	/**
+	 * Returns the number of decimal digits of the given value, {@code 0} having one digit. Negative values are not
+	 * negated, so that the minimum value does not overflow.
+	 */
+	private static int integerPartLength(long value) {
+		int length = 1;
+		while ( value >= 10 || value <= -10 ) {
+			value /= 10;
+			length++;
+		}
+		return length;
+	}
+
 	private void validateParameters() {
 		if ( maxIntegerLength < 0 ) {
 			throw log.getInvalidLengthForIntegerPartException();
@@ -20,11 +20,11 @@
  */
 public class MaxValidatorForCharSequence implements ConstraintValidator<Max, CharSequence> {
 
-	private BigDecimal maxValue;
+	private DecimalCharSequenceHelper.Bound maxValue;
 
 	@Override
 	public void initialize(Max maxValue) {
-		this.maxValue = BigDecimal.valueOf( maxValue.value() );
+		this.maxValue = new DecimalCharSequenceHelper.Bound( BigDecimal.valueOf( maxValue.value() ) );
 	}
 
 	@Override
@@ -33,11 +33,8 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext constraint
 		if ( value == null ) {
 			return true;
 		}
-		try {
-			return new BigDecimal( value.toString() ).compareTo( maxValue ) != 1;
-		}
-		catch (NumberFormatException nfe) {
-			return false;
-		}
+
+		int comparisonResult = DecimalCharSequenceHelper.compare( value, maxValue );
+		return comparisonResult != DecimalCharSequenceHelper.NOT_A_NUMBER && comparisonResult <= 0;
 	}
 }
@@ -20,11 +20,11 @@
  */
 public class MinValidatorForCharSequence implements ConstraintValidator<Min, CharSequence> {
 
-	private BigDecimal minValue;
+	private DecimalCharSequenceHelper.Bound minValue;
 
 	@Override
 	public void initialize(Min minValue) {
-		this.minValue = BigDecimal.valueOf( minValue.value() );
+		this.minValue = new DecimalCharSequenceHelper.Bound( BigDecimal.valueOf( minValue.value() ) );
 	}
 
 	@Override
@@ -33,11 +33,8 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext constraint
 		if ( value == null ) {
 			return true;
 		}
-		try {
-			return new BigDecimal( value.toString() ).compareTo( minValue ) != -1;
-		}
-		catch (NumberFormatException nfe) {
-			return false;
-		}
+
+		int comparisonResult = DecimalCharSequenceHelper.compare( value, minValue );
+		return comparisonResult != DecimalCharSequenceHelper.NOT_A_NUMBER && comparisonResult >= 0;
 	}
 }
@@ -36,8 +36,13 @@ public boolean isValid(Number value, ConstraintValidatorContext constraintValida
 			return true;
 		}
 
+		// the most commonly constrained types are compared directly
+		if ( value instanceof Integer || value instanceof Long ) {
+			return value.longValue() >= minValue;
+		}
+
 		//handling of NaN, positive infinity and negative infinity
-		else if ( value instanceof Double ) {
+		if ( value instanceof Double ) {
 			if ( (Double) value == Double.POSITIVE_INFINITY ) {
 				return true;
 			}
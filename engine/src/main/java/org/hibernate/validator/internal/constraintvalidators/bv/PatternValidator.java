@@ -6,23 +6,33 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.bv;
 
-import java.util.regex.Matcher;
 import java.util.regex.PatternSyntaxException;
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 import javax.validation.constraints.Pattern;
 
+import org.hibernate.validator.internal.engine.constraintvalidation.JavaRegularExpressionEngine;
+import org.hibernate.validator.internal.engine.constraintvalidation.RegularExpressionCache;
+import org.hibernate.validator.internal.engine.constraintvalidation.RegularExpressionCacheAware;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.spi.regex.RegularExpression;
 
 /**
  * @author Hardy Ferentschik
  */
-public class PatternValidator implements ConstraintValidator<Pattern, CharSequence> {
+public class PatternValidator implements ConstraintValidator<Pattern, CharSequence>, RegularExpressionCacheAware {
 
 	private static final Log log = LoggerFactory.make();
 
-	private java.util.regex.Pattern pattern;
+	private RegularExpressionCache regularExpressionCache;
+
+	private RegularExpression pattern;
+
+	@Override
+	public void setRegularExpressionCache(RegularExpressionCache regularExpressionCache) {
+		this.regularExpressionCache = regularExpressionCache;
+	}
 
 	@Override
 	public void initialize(Pattern parameters) {
@@ -33,7 +43,12 @@ public void initialize(Pattern parameters) {
 		}
 
 		try {
-			pattern = java.util.regex.Pattern.compile( parameters.regexp(), intFlag );
+			if ( regularExpressionCache != null ) {
+				pattern = regularExpressionCache.getRegularExpression( parameters.regexp(), intFlag );
+			}
+			else {
+				pattern = JavaRegularExpressionEngine.INSTANCE.compile( parameters.regexp(), intFlag );
+			}
 		}
 		catch (PatternSyntaxException e) {
 			throw log.getInvalidRegularExpressionException( e );
@@ -45,7 +60,6 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext constraint
 		if ( value == null ) {
 			return true;
 		}
-		Matcher m = pattern.matcher( value );
-		return m.matches();
+		return pattern.matches( value );
 	}
 }
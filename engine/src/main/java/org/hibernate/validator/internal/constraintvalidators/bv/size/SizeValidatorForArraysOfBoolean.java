@@ -6,7 +6,6 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.bv.size;
 
-import java.lang.reflect.Array;
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 import javax.validation.constraints.Size;
@@ -32,7 +31,7 @@ public boolean isValid(boolean[] array, ConstraintValidatorContext constraintVal
 		if ( array == null ) {
 			return true;
 		}
-		int length = Array.getLength( array );
+		int length = array.length;
 		return length >= min && length <= max;
 	}
 }
@@ -62,15 +62,118 @@ public class EmailValidator implements ConstraintValidator<Email, CharSequence>
 			DOMAIN + "|" + IP_DOMAIN + "|" + "\\[IPv6:" + IP_V6_DOMAIN + "\\]", CASE_INSENSITIVE
 	);
 
+	/**
+	 * The maximum length of a domain label, as verified by {@link IDN#toASCII(String)}.
+	 */
+	private static final int MAX_DOMAIN_LABEL_LENGTH = 63;
+
+	/**
+	 * The ASCII characters allowed in an unquoted atom of the local part and in a domain label, whatever the case.
+	 */
+	private static final boolean[] ATOM_CHARACTERS = new boolean[128];
+
+	static {
+		for ( char c = 'a'; c <= 'z'; c++ ) {
+			ATOM_CHARACTERS[c] = true;
+			ATOM_CHARACTERS[Character.toUpperCase( c )] = true;
+		}
+		for ( char c = '0'; c <= '9'; c++ ) {
+			ATOM_CHARACTERS[c] = true;
+		}
+		for ( char c : "!#$%&'*+/=?^_`{|}~-".toCharArray() ) {
+			ATOM_CHARACTERS[c] = true;
+		}
+	}
+
 	@Override
 	public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
 		if ( value == null || value.length() == 0 ) {
 			return true;
 		}
 
+		switch ( scanAsciiEmail( value ) ) {
+			case VALID:
+				return true;
+			case INVALID:
+				return false;
+			default:
+				return isValidUsingPatterns( value.toString() );
+		}
+	}
+
+	/**
+	 * Validates the given email address in a single pass over its characters, without regular expressions, which
+	 * gives the same result as {@link #isValidUsingPatterns(String)} for the common case of ASCII email addresses
+	 * without quoted local part nor IP address literal as domain part.
+	 */
+	private static ScanResult scanAsciiEmail(CharSequence value) {
+		// the domain part is scanned backwards up to the last '@', as the local part may contain '@' only if quoted
+		int domainLength = 0;
+		int labelLength = 0;
+		int i = value.length() - 1;
+		for ( ; i >= 0; i-- ) {
+			char c = value.charAt( i );
+			if ( c == '@' ) {
+				break;
+			}
+			else if ( c == '.' ) {
+				if ( labelLength == 0 ) {
+					return ScanResult.INVALID;
+				}
+				labelLength = 0;
+			}
+			else if ( c < ATOM_CHARACTERS.length && ATOM_CHARACTERS[c] ) {
+				if ( ++labelLength > MAX_DOMAIN_LABEL_LENGTH ) {
+					return ScanResult.INVALID;
+				}
+			}
+			else if ( c >= ATOM_CHARACTERS.length || ( c == ']' && domainLength == 0 ) ) {
+				// internationalized domain name or IP address literal
+				return ScanResult.USE_PATTERNS;
+			}
+			else {
+				return ScanResult.INVALID;
+			}
+			domainLength++;
+		}
+
+		if ( i < 0 || labelLength == 0 || domainLength > MAX_DOMAIN_PART_LENGTH ) {
+			return ScanResult.INVALID;
+		}
+
+		int localPartLength = i;
+		int atomLength = 0;
+		for ( i = 0; i < localPartLength; i++ ) {
+			char c = value.charAt( i );
+			if ( c == '.' ) {
+				if ( atomLength == 0 ) {
+					return ScanResult.INVALID;
+				}
+				atomLength = 0;
+			}
+			else if ( c < ATOM_CHARACTERS.length && ATOM_CHARACTERS[c] ) {
+				atomLength++;
+			}
+			else if ( c == '"' || c >= ATOM_CHARACTERS.length ) {
+				// quoted local part or internationalized local part
+				return ScanResult.USE_PATTERNS;
+			}
+			else {
+				// as no quote has been found so far, the character cannot be part of a quoted string
+				return ScanResult.INVALID;
+			}
+		}
+
+		if ( atomLength == 0 || localPartLength > MAX_LOCAL_PART_LENGTH ) {
+			return ScanResult.INVALID;
+		}
+
+		return ScanResult.VALID;
+	}
+
+	private boolean isValidUsingPatterns(String stringValue) {
 		// cannot split email string at @ as it can be a part of quoted local part of email.
 		// so we need to split at a position of last @ present in the string:
-		String stringValue = value.toString();
 		int splitPosition = stringValue.lastIndexOf( "@" );
 
 		// need to check if
@@ -119,4 +222,9 @@ private boolean matchDomain(String domain) {
 		return matcher.matches();
 	}
 
+	private enum ScanResult {
+		VALID,
+		INVALID,
+		USE_PATTERNS
+	}
 }
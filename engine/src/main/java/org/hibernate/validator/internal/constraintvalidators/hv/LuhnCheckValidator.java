@@ -6,7 +6,6 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.hv;
 
-import java.util.List;
 import javax.validation.ConstraintValidator;
 
 import org.hibernate.validator.constraints.LuhnCheck;
@@ -43,7 +42,7 @@ public void initialize(LuhnCheck constraintAnnotation) {
 	 * @return {@code true} if the luhn check result matches the check digit, {@code false} otherwise
 	 */
 	@Override
-	public boolean isCheckDigitValid(List<Integer> digits, char checkDigit) {
+	public boolean isCheckDigitValid(int[] digits, char checkDigit) {
 		int modResult = ModUtil.calculateLuhnMod10Check( digits );
 
 		if ( !Character.isDigit( checkDigit ) ) {
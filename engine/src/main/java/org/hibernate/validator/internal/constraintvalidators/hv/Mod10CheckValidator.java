@@ -6,7 +6,6 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.hv;
 
-import java.util.List;
 import javax.validation.ConstraintValidator;
 
 import org.hibernate.validator.constraints.Mod10Check;
@@ -67,7 +66,7 @@ public void initialize(Mod10Check constraintAnnotation) {
 	 * @return {@code true} if the mod 10 result matches the check digit, {@code false} otherwise
 	 */
 	@Override
-	public boolean isCheckDigitValid(List<Integer> digits, char checkDigit) {
+	public boolean isCheckDigitValid(int[] digits, char checkDigit) {
 		int modResult = ModUtil.calculateMod10Check( digits, this.multiplier, this.weight );
 
 		if ( !Character.isDigit( checkDigit ) ) {
@@ -6,8 +6,6 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.hv;
 
-import java.util.Collections;
-import java.util.List;
 import javax.validation.ConstraintValidator;
 
 import org.hibernate.validator.constraints.Mod11Check;
@@ -112,9 +110,9 @@ public void initialize(
 	 * @return {@code true} if the mod11 result matches the check digit, {@code false} otherwise
 	 */
 	@Override
-	public boolean isCheckDigitValid(List<Integer> digits, char checkDigit) {
+	public boolean isCheckDigitValid(int[] digits, char checkDigit) {
 		if ( reverseOrder ) {
-			Collections.reverse( digits );
+			reverse( digits );
 		}
 
 		int modResult = ModUtil.calculateModXCheckWithWeights( digits, 11, this.threshold, customWeights );
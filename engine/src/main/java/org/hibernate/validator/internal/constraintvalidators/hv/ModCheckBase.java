@@ -6,9 +6,6 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.hv;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.regex.Pattern;
 import javax.validation.ConstraintValidatorContext;
 
 import org.hibernate.validator.internal.util.logging.Log;
@@ -27,8 +24,6 @@ public abstract class ModCheckBase {
 
 	private static final Log log = LoggerFactory.make();
 
-	private static final Pattern NUMBERS_ONLY_REGEXP = Pattern.compile( "[^0-9]" );
-
 	private static final int DEC_RADIX = 10;
 
 	/**
@@ -53,30 +48,56 @@ public boolean isValid(final CharSequence value, final ConstraintValidatorContex
 			return true;
 		}
 
-		String valueAsString = value.toString();
-		String digitsAsString;
-		char checkDigit;
-		try {
-			digitsAsString = extractVerificationString( valueAsString );
-			checkDigit = extractCheckDigit( valueAsString );
+		int length = value.length();
+		int verificationStart;
+		int verificationEnd;
+		int checkDigitPosition;
+
+		// the sequence contains the check digit as last character, all the characters before are verified
+		if ( endIndex == Integer.MAX_VALUE ) {
+			verificationStart = 0;
+			verificationEnd = length - 1;
 		}
-		catch (IndexOutOfBoundsException e) {
-			return false;
+		else if ( checkDigitIndex == -1 ) {
+			verificationStart = startIndex;
+			verificationEnd = endIndex;
+		}
+		else {
+			verificationStart = startIndex;
+			verificationEnd = endIndex + 1;
 		}
-		digitsAsString = stripNonDigitsIfRequired( digitsAsString );
 
-		List<Integer> digits;
-		try {
-			digits = extractDigits( digitsAsString );
+		// take last character of the sequence to be validated unless the index is given explicitly
+		if ( checkDigitIndex == -1 ) {
+			checkDigitPosition = endIndex == Integer.MAX_VALUE ? length - 1 : endIndex;
 		}
-		catch (NumberFormatException e) {
+		else {
+			checkDigitPosition = checkDigitIndex;
+		}
+
+		if ( verificationStart > verificationEnd || verificationEnd > length
+				|| checkDigitPosition < 0 || checkDigitPosition >= length ) {
 			return false;
 		}
 
-		return this.isCheckDigitValid( digits, checkDigit );
+		int[] digits = extractDigits( value, verificationStart, verificationEnd );
+		if ( digits == null ) {
+			return false;
+		}
+
+		return this.isCheckDigitValid( digits, value.charAt( checkDigitPosition ) );
 	}
 
-	public abstract boolean isCheckDigitValid(List<Integer> digits, char checkDigit);
+	/**
+	 * Validates the check digit against the digits of the value.
+	 *
+	 * @param digits the digits over which to calculate the checksum. The array is created for each validated value,
+	 * so it may be modified by implementations, e.g. to reverse the processing direction.
+	 * @param checkDigit the check digit
+	 *
+	 * @return {@code true} if the checksum matches the check digit, {@code false} otherwise
+	 */
+	public abstract boolean isCheckDigitValid(int[] digits, char checkDigit);
 
 	protected void initialize(int startIndex, int endIndex, int checkDigitIndex, boolean ignoreNonDigitCharacters) {
 		this.startIndex = startIndex;
@@ -106,23 +127,69 @@ protected int extractDigit(char value) throws NumberFormatException {
 	}
 
 	/**
-	 * Parses the {@link String} value as a {@link List} of {@link Integer} objects
+	 * Reverses the given digits in place.
 	 *
-	 * @param value the input string to be parsed
+	 * @param digits the digits to reverse
+	 */
+	protected static void reverse(int[] digits) {
+		for ( int i = 0, j = digits.length - 1; i < j; i++, j-- ) {
+			int digit = digits[i];
+			digits[i] = digits[j];
+			digits[j] = digit;
+		}
+	}
+
+	/**
+	 * Extracts the digits of the given range of the character sequence, skipping the characters which are not ASCII
+	 * digits if non digit characters are ignored.
 	 *
-	 * @return List of {@code Integer} objects.
+	 * @param value the character sequence
+	 * @param start the start index of the range, inclusive
+	 * @param end the end index of the range, exclusive
 	 *
-	 * @throws NumberFormatException in case any of the characters is not a digit
+	 * @return the digits or {@code null} if the range contains a character which is not a digit and non digit
+	 * characters are not ignored
 	 */
-	private List<Integer> extractDigits(final String value) throws NumberFormatException {
-		List<Integer> digits = new ArrayList<Integer>( value.length() );
-		char[] chars = value.toCharArray();
-		for ( char c : chars ) {
-			digits.add( extractDigit( c ) );
+	private int[] extractDigits(CharSequence value, int start, int end) {
+		if ( ignoreNonDigitCharacters ) {
+			int digitCount = 0;
+			for ( int i = start; i < end; i++ ) {
+				if ( isAsciiDigit( value.charAt( i ) ) ) {
+					digitCount++;
+				}
+			}
+
+			int[] digits = new int[digitCount];
+			int j = 0;
+			for ( int i = start; i < end; i++ ) {
+				char c = value.charAt( i );
+				if ( isAsciiDigit( c ) ) {
+					digits[j++] = c - '0';
+				}
+			}
+			return digits;
+		}
+
+		int[] digits = new int[end - start];
+		for ( int i = start; i < end; i++ ) {
+			char c = value.charAt( i );
+			if ( isAsciiDigit( c ) ) {
+				digits[i - start] = c - '0';
+			}
+			else if ( Character.isDigit( c ) ) {
+				digits[i - start] = Character.digit( c, DEC_RADIX );
+			}
+			else {
+				return null;
+			}
 		}
 		return digits;
 	}
 
+	private static boolean isAsciiDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
 	private boolean validateOptions() {
 		if ( this.startIndex < 0 ) {
 			throw log.getStartIndexCannotBeNegativeException( this.startIndex );
@@ -143,41 +210,4 @@ private boolean validateOptions() {
 		return true;
 	}
 
-	private String stripNonDigitsIfRequired(String value) {
-		if ( ignoreNonDigitCharacters ) {
-			return NUMBERS_ONLY_REGEXP.matcher( value ).replaceAll( "" );
-		}
-		else {
-			return value;
-		}
-	}
-
-	private String extractVerificationString(String value) throws IndexOutOfBoundsException {
-		// the string contains the check digit, just return the digits to verify
-		if ( endIndex == Integer.MAX_VALUE ) {
-			return value.substring( 0, value.length() - 1 );
-		}
-		else if ( checkDigitIndex == -1 ) {
-			return value.substring( startIndex, endIndex );
-		}
-		else {
-			return value.substring( startIndex, endIndex + 1 );
-		}
-	}
-
-	private char extractCheckDigit(String value) throws IndexOutOfBoundsException {
-		// take last character of string to be validated unless the index is given explicitly
-		if ( checkDigitIndex == -1 ) {
-			if ( endIndex == Integer.MAX_VALUE ) {
-				return value.charAt( value.length() - 1 );
-			}
-			else {
-				return value.charAt( endIndex );
-			}
-		}
-		else {
-			return value.charAt( checkDigitIndex );
-		}
-	}
-
 }
@@ -6,7 +6,6 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.hv;
 
-import java.util.List;
 import javax.validation.ConstraintValidator;
 
 import org.hibernate.validator.constraints.ModCheck;
@@ -57,7 +56,7 @@ public void initialize(ModCheck constraintAnnotation) {
 	 * @return {@code true} if the mod 10/11 result matches the check digit, {@code false} otherwise
 	 */
 	@Override
-	public boolean isCheckDigitValid(List<Integer> digits, char checkDigit) {
+	public boolean isCheckDigitValid(int[] digits, char checkDigit) {
 		int modResult = -1;
 		int checkValue = extractDigit( checkDigit );
 
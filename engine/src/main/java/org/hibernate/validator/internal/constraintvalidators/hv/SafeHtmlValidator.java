@@ -7,17 +7,22 @@
 package org.hibernate.validator.internal.constraintvalidators.hv;
 
 import java.util.Iterator;
+import java.util.List;
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
 import org.jsoup.parser.Parser;
 import org.jsoup.safety.Cleaner;
 import org.jsoup.safety.Whitelist;
 
 import org.hibernate.validator.constraints.SafeHtml;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
 
 /**
  * Validate that the string does not contain malicious code.
@@ -28,10 +33,18 @@
  * @author Hardy Ferentschik
  */
 public class SafeHtmlValidator implements ConstraintValidator<SafeHtml, CharSequence> {
-	private Whitelist whitelist;
+
+	private static final Log log = LoggerFactory.make();
+
+	private static final String SHELL_PREFIX = "<html><head></head><body>";
+
+	private Cleaner cleaner;
+
+	private int maxLength;
 
 	@Override
 	public void initialize(SafeHtml safeHtmlAnnotation) {
+		Whitelist whitelist = null;
 		switch ( safeHtmlAnnotation.whitelistType() ) {
 			case BASIC:
 				whitelist = Whitelist.basic();
@@ -54,6 +67,11 @@ public void initialize(SafeHtml safeHtmlAnnotation) {
 		for ( SafeHtml.Tag tag : safeHtmlAnnotation.additionalTagsWithAttributes() ) {
 			whitelist.addAttributes( tag.name(), tag.attributes() );
 		}
+
+		// the cleaner does not keep any state between invocations, it can be shared
+		cleaner = new Cleaner( whitelist );
+		maxLength = safeHtmlAnnotation.maxLength();
+		validateParameters();
 	}
 
 	@Override
@@ -62,7 +80,11 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
 			return true;
 		}
 
-		return new Cleaner( whitelist ).isValid( getFragmentAsDocument( value ) );
+		if ( value.length() > maxLength ) {
+			return false;
+		}
+
+		return cleaner.isValid( getFragmentAsDocument( value ) );
 	}
 
 	/**
@@ -72,6 +94,57 @@ private Document getFragmentAsDocument(CharSequence value) {
 		// using the XML parser ensures that all elements in the input are retained, also if they actually are not allowed at the given
 		// location; E.g. a <td> element isn't allowed directly within the <body> element, so it would be used by the default HTML parser.
 		// we need to retain it though to apply the given white list properly; See HV-873
+
+		// the fragment is parsed within the shell of a document, so that no second document needs to be built; this is
+		// only possible if the fragment doesn't close the elements of the shell itself. The shell is left open, the
+		// parser closes it at the end of the input: a closing suffix would be swallowed by a trailing unterminated tag
+		// of the fragment (e.g. "a<b") instead of that tag being dropped as when parsing the fragment on its own
+		Document document = Jsoup.parse(
+				new StringBuilder( SHELL_PREFIX.length() + value.length() )
+						.append( SHELL_PREFIX )
+						.append( value )
+						.toString(),
+				"",
+				Parser.xmlParser()
+		);
+
+		if ( isShellRetained( document ) ) {
+			removeTopLevelNodesOtherThanElementsAndText( document.child( 0 ).child( 1 ) );
+			return document;
+		}
+
+		return getFragmentAsDocumentWithSeparateShell( value );
+	}
+
+	/**
+	 * Whether the given document solely consists of the shell wrapping the fragment, i.e. the fragment did not close
+	 * the {@code <body>} or {@code <html>} element of the shell before its end.
+	 */
+	private boolean isShellRetained(Document document) {
+		return document.childNodeSize() == 1
+				&& document.child( 0 ).childNodeSize() == 2
+				&& document.child( 0 ).child( 1 ).nodeName().equals( "body" );
+	}
+
+	/**
+	 * Only the elements (and text, which is always safe) of the fragment are validated, as done when moving them into
+	 * a separate shell; e.g. comments are ignored at the top level.
+	 */
+	private void removeTopLevelNodesOtherThanElementsAndText(Element body) {
+		List<Node> nodes = body.childNodes();
+		for ( int i = nodes.size() - 1; i >= 0; i-- ) {
+			Node node = nodes.get( i );
+			if ( !( node instanceof Element ) && !( node instanceof TextNode ) ) {
+				node.remove();
+			}
+		}
+	}
+
+	/**
+	 * Returns a document whose {@code <body>} element contains the given HTML fragment, by parsing the fragment on
+	 * its own and moving its elements into the body of a new document.
+	 */
+	private Document getFragmentAsDocumentWithSeparateShell(CharSequence value) {
 		Document fragment = Jsoup.parse( value.toString(), "", Parser.xmlParser() );
 		Document document = Document.createShell( "" );
 
@@ -83,4 +156,10 @@ private Document getFragmentAsDocument(CharSequence value) {
 
 		return document;
 	}
+
+	private void validateParameters() {
+		if ( maxLength < 0 ) {
+			throw log.getLengthCannotBeNegativeException();
+		}
+	}
 }
@@ -32,6 +32,7 @@ class ScriptAssertContext {
 	public ScriptAssertContext(String languageName, String script) {
 		this.script = script;
 		this.scriptEvaluator = getScriptEvaluator( languageName );
+		compileScript();
 	}
 
 	public boolean evaluateScriptAssertExpression(Object object, String alias) {
@@ -64,6 +65,15 @@ private ScriptEvaluator getScriptEvaluator(String languageName) {
 		}
 	}
 
+	private void compileScript() {
+		try {
+			scriptEvaluator.compile( script );
+		}
+		catch (ScriptException e) {
+			throw log.getErrorDuringScriptExecutionException( script, e );
+		}
+	}
+
 	private boolean handleResult(Object evaluationResult) {
 		if ( evaluationResult == null ) {
 			throw log.getScriptMustReturnTrueOrFalseException( script );
@@ -6,7 +6,6 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.hv.br;
 
-import java.util.regex.Pattern;
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 
@@ -18,7 +17,6 @@
  * @author Hardy Ferentschik
  */
 public class CNPJValidator implements ConstraintValidator<CNPJ, CharSequence> {
-	private static final Pattern DIGITS_ONLY = Pattern.compile( "\\d+" );
 
 	private final Mod11CheckValidator withSeparatorMod11Validator1 = new Mod11CheckValidator();
 	private final Mod11CheckValidator withSeparatorMod11Validator2 = new Mod11CheckValidator();
@@ -55,7 +53,7 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
 			return true;
 		}
 
-		if ( DIGITS_ONLY.matcher( value ).matches() ) {
+		if ( isDigitsOnly( value ) ) {
 			return withoutSeparatorMod11Validator1.isValid( value, context )
 					&& withoutSeparatorMod11Validator2.isValid( value, context );
 		}
@@ -64,4 +62,21 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
 					&& withSeparatorMod11Validator2.isValid( value, context );
 		}
 	}
+
+	private static boolean isDigitsOnly(CharSequence value) {
+		int length = value.length();
+		if ( length == 0 ) {
+			return false;
+		}
+		for ( int i = 0; i < length; i++ ) {
+			if ( !isDigit( value.charAt( i ) ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
 }
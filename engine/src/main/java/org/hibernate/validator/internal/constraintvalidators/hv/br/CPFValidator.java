@@ -6,7 +6,6 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.hv.br;
 
-import java.util.regex.Pattern;
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 
@@ -18,8 +17,6 @@
  * @author Hardy Ferentschik
  */
 public class CPFValidator implements ConstraintValidator<CPF, CharSequence> {
-	private static final Pattern DIGITS_ONLY = Pattern.compile( "\\d+" );
-	private static final Pattern SINGLE_DASH_SEPARATOR = Pattern.compile( "\\d+-\\d\\d" );
 
 	private final Mod11CheckValidator withSeparatorMod11Validator1 = new Mod11CheckValidator();
 	private final Mod11CheckValidator withSeparatorMod11Validator2 = new Mod11CheckValidator();
@@ -67,11 +64,11 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
 			return true;
 		}
 
-		if ( DIGITS_ONLY.matcher( value ).matches() ) {
+		if ( isDigitsOnly( value ) ) {
 			return withoutSeparatorMod11Validator1.isValid( value, context )
 					&& withoutSeparatorMod11Validator2.isValid( value, context );
 		}
-		else if ( SINGLE_DASH_SEPARATOR.matcher( value ).matches() ) {
+		else if ( hasSingleDashSeparator( value ) ) {
 			return withDashOnlySeparatorMod11Validator1.isValid( value, context )
 					&& withDashOnlySeparatorMod11Validator2.isValid( value, context );
 		}
@@ -81,4 +78,37 @@ else if ( SINGLE_DASH_SEPARATOR.matcher( value ).matches() ) {
 
 		}
 	}
+
+	private static boolean isDigitsOnly(CharSequence value) {
+		int length = value.length();
+		if ( length == 0 ) {
+			return false;
+		}
+		for ( int i = 0; i < length; i++ ) {
+			if ( !isDigit( value.charAt( i ) ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks whether the value consists of digits followed by a dash and two digits.
+	 */
+	private static boolean hasSingleDashSeparator(CharSequence value) {
+		int length = value.length();
+		if ( length < 4 || value.charAt( length - 3 ) != '-' ) {
+			return false;
+		}
+		for ( int i = 0; i < length; i++ ) {
+			if ( i != length - 3 && !isDigit( value.charAt( i ) ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
 }
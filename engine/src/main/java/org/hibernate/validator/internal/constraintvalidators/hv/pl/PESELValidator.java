@@ -6,9 +6,6 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.hv.pl;
 
-import java.util.Collections;
-import java.util.List;
-
 import javax.validation.ConstraintValidator;
 
 import org.hibernate.validator.constraints.pl.PESEL;
@@ -35,8 +32,8 @@ public void initialize(PESEL constraintAnnotation) {
 	}
 
 	@Override
-	public boolean isCheckDigitValid(List<Integer> digits, char checkDigit) {
-		Collections.reverse( digits );
+	public boolean isCheckDigitValid(int[] digits, char checkDigit) {
+		reverse( digits );
 
 		int modResult = ModUtil.calculateModXCheckWithWeights( digits, 10, Integer.MAX_VALUE, WEIGHTS_PESEL );
 		switch ( modResult ) {
@@ -7,8 +7,6 @@
 package org.hibernate.validator.internal.constraintvalidators.hv.pl;
 
 import java.lang.annotation.Annotation;
-import java.util.Collections;
-import java.util.List;
 import javax.validation.ConstraintValidator;
 
 import org.hibernate.validator.internal.constraintvalidators.hv.ModCheckBase;
@@ -24,8 +22,8 @@
 public abstract class PolishNumberValidator<T extends Annotation> extends ModCheckBase implements ConstraintValidator<T, CharSequence> {
 
 	@Override
-	public boolean isCheckDigitValid(List<Integer> digits, char checkDigit) {
-		Collections.reverse( digits );
+	public boolean isCheckDigitValid(int[] digits, char checkDigit) {
+		reverse( digits );
 
 		// as we need sum % 11 rather than 11 - (sum % 11) returned by Mod11 algorithm:
 		int modResult = 11 - ModUtil.calculateModXCheckWithWeights( digits, 11, Integer.MAX_VALUE, getWeights( digits ) );
@@ -38,5 +36,5 @@ public boolean isCheckDigitValid(List<Integer> digits, char checkDigit) {
 		}
 	}
 
-	protected abstract int[] getWeights(List<Integer> digits);
+	protected abstract int[] getWeights(int[] digits);
 }
@@ -6,8 +6,6 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.hv.pl;
 
-import java.util.List;
-
 import org.hibernate.validator.constraints.pl.REGON;
 
 /**
@@ -37,11 +35,11 @@ public void initialize(REGON constraintAnnotation) {
 	 * @return an array of weights to be used to calculate a checksum
 	 */
 	@Override
-	protected int[] getWeights(List<Integer> digits) {
-		if ( digits.size() == 8 ) {
+	protected int[] getWeights(int[] digits) {
+		if ( digits.length == 8 ) {
 			return WEIGHTS_REGON_9;
 		}
-		else if ( digits.size() == 13 ) {
+		else if ( digits.length == 13 ) {
 			return WEIGHTS_REGON_14;
 		}
 		else {
@@ -33,9 +33,12 @@
 import javax.validation.valueextraction.ValueExtractor;
 
 import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.MetaDataCachePolicy;
+import org.hibernate.validator.PropertyAccessStrategy;
 import org.hibernate.validator.cfg.ConstraintMapping;
 import org.hibernate.validator.internal.cfg.context.DefaultConstraintMapping;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorFactoryImpl;
+import org.hibernate.validator.internal.engine.constraintvalidation.JavaRegularExpressionEngine;
 import org.hibernate.validator.internal.engine.resolver.DefaultTraversableResolver;
 import org.hibernate.validator.internal.util.Contracts;
 import org.hibernate.validator.internal.util.TypeResolutionHelper;
@@ -49,6 +52,7 @@
 import org.hibernate.validator.messageinterpolation.ResourceBundleMessageInterpolator;
 import org.hibernate.validator.resourceloading.PlatformResourceBundleLocator;
 import org.hibernate.validator.spi.cfg.ConstraintMappingContributor;
+import org.hibernate.validator.spi.regex.RegularExpressionEngine;
 import org.hibernate.validator.spi.resourceloading.ResourceBundleLocator;
 
 /**
@@ -91,9 +95,16 @@ public class ConfigurationImpl implements HibernateValidatorConfiguration, Confi
 	// HV-specific options
 	private final Set<DefaultConstraintMapping> programmaticMappings = newHashSet();
 	private boolean failFast;
+	private int maxViolations;
+	private boolean lazyMessageInterpolation;
 	private final List<ValueExtractor<?>> cascadedValueExtractors = new ArrayList<>();
 	private ClassLoader externalClassLoader;
 	private final MethodValidationConfiguration methodValidationConfiguration = new MethodValidationConfiguration();
+	private PropertyAccessStrategy propertyAccessStrategy = PropertyAccessStrategy.REFLECTION;
+	private MetaDataCachePolicy metaDataCachePolicy = MetaDataCachePolicy.SOFT;
+	private int metaDataCacheMaxSize = DEFAULT_METADATA_CACHE_MAX_SIZE;
+	private RegularExpressionEngine regularExpressionEngine = JavaRegularExpressionEngine.INSTANCE;
+	private boolean useMetaDataIndex;
 
 	public ConfigurationImpl(BootstrapState state) {
 		this();
@@ -245,6 +256,82 @@ public MethodValidationConfiguration getMethodValidationConfiguration() {
 		return this.methodValidationConfiguration;
 	}
 
+	@Override
+	public HibernateValidatorConfiguration propertyAccessStrategy(PropertyAccessStrategy propertyAccessStrategy) {
+		Contracts.assertNotNull( propertyAccessStrategy, MESSAGES.parameterMustNotBeNull( "propertyAccessStrategy" ) );
+
+		this.propertyAccessStrategy = propertyAccessStrategy;
+		return this;
+	}
+
+	public PropertyAccessStrategy getPropertyAccessStrategy() {
+		return propertyAccessStrategy;
+	}
+
+	@Override
+	public HibernateValidatorConfiguration maxViolations(int maxViolations) {
+		if ( maxViolations < 0 ) {
+			throw log.getInvalidMaxViolationsException( String.valueOf( maxViolations ) );
+		}
+
+		this.maxViolations = maxViolations;
+		return this;
+	}
+
+	@Override
+	public HibernateValidatorConfiguration lazyMessageInterpolation(boolean lazyMessageInterpolation) {
+		this.lazyMessageInterpolation = lazyMessageInterpolation;
+		return this;
+	}
+
+	@Override
+	public HibernateValidatorConfiguration metaDataCachePolicy(MetaDataCachePolicy metaDataCachePolicy) {
+		Contracts.assertNotNull( metaDataCachePolicy, MESSAGES.parameterMustNotBeNull( "metaDataCachePolicy" ) );
+
+		this.metaDataCachePolicy = metaDataCachePolicy;
+		return this;
+	}
+
+	public MetaDataCachePolicy getMetaDataCachePolicy() {
+		return metaDataCachePolicy;
+	}
+
+	@Override
+	public HibernateValidatorConfiguration metaDataCacheMaxSize(int maxSize) {
+		if ( maxSize <= 0 ) {
+			throw log.getInvalidMetaDataCacheMaxSizeException( String.valueOf( maxSize ) );
+		}
+
+		this.metaDataCacheMaxSize = maxSize;
+		return this;
+	}
+
+	public int getMetaDataCacheMaxSize() {
+		return metaDataCacheMaxSize;
+	}
+
+	@Override
+	public HibernateValidatorConfiguration useMetaDataIndex(boolean useMetaDataIndex) {
+		this.useMetaDataIndex = useMetaDataIndex;
+		return this;
+	}
+
+	public boolean getUseMetaDataIndex() {
+		return useMetaDataIndex;
+	}
+
+	@Override
+	public HibernateValidatorConfiguration regularExpressionEngine(RegularExpressionEngine regularExpressionEngine) {
+		Contracts.assertNotNull( regularExpressionEngine, MESSAGES.parameterMustNotBeNull( "regularExpressionEngine" ) );
+
+		this.regularExpressionEngine = regularExpressionEngine;
+		return this;
+	}
+
+	public RegularExpressionEngine getRegularExpressionEngine() {
+		return regularExpressionEngine;
+	}
+
 	@Override
 	public final DefaultConstraintMapping createConstraintMapping() {
 		return new DefaultConstraintMapping();
@@ -359,6 +446,14 @@ public final boolean getFailFast() {
 		return failFast;
 	}
 
+	public final int getMaxViolations() {
+		return maxViolations;
+	}
+
+	public final boolean getLazyMessageInterpolation() {
+		return lazyMessageInterpolation;
+	}
+
 	@Override
 	public final ConstraintValidatorFactory getConstraintValidatorFactory() {
 		return validationBootstrapParameters.getConstraintValidatorFactory();
@@ -6,6 +6,8 @@
  */
 package org.hibernate.validator.internal.engine;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.lang.annotation.ElementType;
 import java.util.Map;
@@ -25,7 +27,19 @@
 	private static final Log log = LoggerFactory.make();
 	private static final long serialVersionUID = -4970067626703103139L;
 
-	private final String interpolatedMessage;
+	private String interpolatedMessage;
+
+	/**
+	 * The inputs of the message interpolation if it is deferred until the first call to {@link #getMessage()},
+	 * {@code null} otherwise or once the message has been interpolated.
+	 */
+	private transient volatile DeferredMessageInterpolation deferredMessageInterpolation;
+
+	/**
+	 * Whether the message interpolation was deferred; if so, the message is not taken into account for equality, the
+	 * message template and expression variables it derives from are used instead.
+	 */
+	private final boolean messageInterpolationDeferred;
 	private final T rootBean;
 	private final Object value;
 	private final Path propertyPath;
@@ -43,6 +57,7 @@
 	public static <T> ConstraintViolation<T> forBeanValidation(String messageTemplate,
 															   Map<String, Object> expressionVariables,
 															   String interpolatedMessage,
+															   DeferredMessageInterpolation deferredMessageInterpolation,
 															   Class<T> rootBeanClass,
 															   T rootBean,
 															   Object leafBeanInstance,
@@ -55,6 +70,7 @@ public static <T> ConstraintViolation<T> forBeanValidation(String messageTemplat
 				messageTemplate,
 				expressionVariables,
 				interpolatedMessage,
+				deferredMessageInterpolation,
 				rootBeanClass,
 				rootBean,
 				leafBeanInstance,
@@ -71,6 +87,7 @@ public static <T> ConstraintViolation<T> forBeanValidation(String messageTemplat
 	public static <T> ConstraintViolation<T> forParameterValidation(String messageTemplate,
 																	Map<String, Object> expressionVariables,
 																	String interpolatedMessage,
+																	DeferredMessageInterpolation deferredMessageInterpolation,
 																	Class<T> rootBeanClass,
 																	T rootBean,
 																	Object leafBeanInstance,
@@ -84,6 +101,7 @@ public static <T> ConstraintViolation<T> forParameterValidation(String messageTe
 				messageTemplate,
 				expressionVariables,
 				interpolatedMessage,
+				deferredMessageInterpolation,
 				rootBeanClass,
 				rootBean,
 				leafBeanInstance,
@@ -100,6 +118,7 @@ public static <T> ConstraintViolation<T> forParameterValidation(String messageTe
 	public static <T> ConstraintViolation<T> forReturnValueValidation(String messageTemplate,
 																	  Map<String, Object> expressionVariables,
 																	  String interpolatedMessage,
+																	  DeferredMessageInterpolation deferredMessageInterpolation,
 																	  Class<T> rootBeanClass,
 																	  T rootBean,
 																	  Object leafBeanInstance,
@@ -113,6 +132,7 @@ public static <T> ConstraintViolation<T> forReturnValueValidation(String message
 				messageTemplate,
 				expressionVariables,
 				interpolatedMessage,
+				deferredMessageInterpolation,
 				rootBeanClass,
 				rootBean,
 				leafBeanInstance,
@@ -129,6 +149,7 @@ public static <T> ConstraintViolation<T> forReturnValueValidation(String message
 	private ConstraintViolationImpl(String messageTemplate,
 			Map<String, Object> expressionVariables,
 			String interpolatedMessage,
+			DeferredMessageInterpolation deferredMessageInterpolation,
 			Class<T> rootBeanClass,
 			T rootBean,
 			Object leafBeanInstance,
@@ -142,6 +163,8 @@ private ConstraintViolationImpl(String messageTemplate,
 		this.messageTemplate = messageTemplate;
 		this.expressionVariables = expressionVariables;
 		this.interpolatedMessage = interpolatedMessage;
+		this.deferredMessageInterpolation = deferredMessageInterpolation;
+		this.messageInterpolationDeferred = deferredMessageInterpolation != null;
 		this.rootBean = rootBean;
 		this.value = value;
 		this.propertyPath = propertyPath;
@@ -158,6 +181,12 @@ private ConstraintViolationImpl(String messageTemplate,
 
 	@Override
 	public final String getMessage() {
+		DeferredMessageInterpolation deferredMessageInterpolation = this.deferredMessageInterpolation;
+		if ( deferredMessageInterpolation != null ) {
+			// concurrent callers may interpolate the message more than once, which is harmless
+			interpolatedMessage = deferredMessageInterpolation.interpolate();
+			this.deferredMessageInterpolation = null;
+		}
 		return interpolatedMessage;
 	}
 
@@ -241,7 +270,8 @@ public <C> C getDynamicPayload(Class<C> type) {
 	 *
 	 * {@code expressionVariables} and {@code dynamicPayload} are not taken into account for equality. These
 	 * variables solely enrich the actual Constraint Violation with additional information e.g how we actually
-	 * got to this CV.
+	 * got to this CV. If the message interpolation is deferred, the expression variables are compared instead of the
+	 * not yet interpolated message.
 	 *
 	 * @return true if the two ConstraintViolation's are considered equals; false otherwise
 	 */
@@ -256,7 +286,15 @@ public boolean equals(Object o) {
 
 		ConstraintViolationImpl<?> that = (ConstraintViolationImpl<?>) o;
 
-		if ( interpolatedMessage != null ? !interpolatedMessage.equals( that.interpolatedMessage ) : that.interpolatedMessage != null ) {
+		if ( messageInterpolationDeferred != that.messageInterpolationDeferred ) {
+			return false;
+		}
+		if ( messageInterpolationDeferred ) {
+			if ( expressionVariables != null ? !expressionVariables.equals( that.expressionVariables ) : that.expressionVariables != null ) {
+				return false;
+			}
+		}
+		else if ( interpolatedMessage != null ? !interpolatedMessage.equals( that.interpolatedMessage ) : that.interpolatedMessage != null ) {
 			return false;
 		}
 		if ( propertyPath != null ? !propertyPath.equals( that.propertyPath ) : that.propertyPath != null ) {
@@ -296,7 +334,7 @@ public int hashCode() {
 	public String toString() {
 		final StringBuilder sb = new StringBuilder();
 		sb.append( "ConstraintViolationImpl" );
-		sb.append( "{interpolatedMessage='" ).append( interpolatedMessage ).append( '\'' );
+		sb.append( "{interpolatedMessage='" ).append( getMessage() ).append( '\'' );
 		sb.append( ", propertyPath=" ).append( propertyPath );
 		sb.append( ", rootBeanClass=" ).append( rootBeanClass );
 		sb.append( ", messageTemplate='" ).append( messageTemplate ).append( '\'' );
@@ -308,7 +346,13 @@ public String toString() {
 	 * @see #equals(Object) on which fields are taken into account
 	 */
 	private int createHashCode() {
-		int result = interpolatedMessage != null ? interpolatedMessage.hashCode() : 0;
+		int result;
+		if ( messageInterpolationDeferred ) {
+			result = expressionVariables != null ? expressionVariables.hashCode() : 0;
+		}
+		else {
+			result = interpolatedMessage != null ? interpolatedMessage.hashCode() : 0;
+		}
 		result = 31 * result + ( propertyPath != null ? propertyPath.hashCode() : 0 );
 		result = 31 * result + ( rootBean != null ? rootBean.hashCode() : 0 );
 		result = 31 * result + ( leafBeanInstance != null ? leafBeanInstance.hashCode() : 0 );
@@ -319,4 +363,10 @@ private int createHashCode() {
 		result = 31 * result + ( elementType != null ? elementType.hashCode() : 0 );
 		return result;
 	}
+
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		// the interpolation inputs are not serializable, interpolate the message if not done yet
+		getMessage();
+		out.defaultWriteObject();
+	}
 }
@@ -0,0 +1,30 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine;
+
+import javax.validation.MessageInterpolator;
+
+/**
+ * The inputs required to interpolate the message of a constraint violation, kept by the violation until its message is
+ * first requested when lazy message interpolation is enabled.
+ */
+public final class DeferredMessageInterpolation {
+
+	private final MessageInterpolator messageInterpolator;
+	private final String messageTemplate;
+	private final MessageInterpolatorContext context;
+
+	DeferredMessageInterpolation(MessageInterpolator messageInterpolator, String messageTemplate, MessageInterpolatorContext context) {
+		this.messageInterpolator = messageInterpolator;
+		this.messageTemplate = messageTemplate;
+		this.context = context;
+	}
+
+	String interpolate() {
+		return ValidationContext.interpolate( messageInterpolator, messageTemplate, context );
+	}
+}
@@ -0,0 +1,304 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import org.hibernate.validator.internal.metadata.BeanMetaDataManager;
+import org.hibernate.validator.internal.util.Contracts;
+import org.hibernate.validator.internal.util.StringHelper;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.internal.util.privilegedactions.GetClassLoader;
+import org.hibernate.validator.internal.util.privilegedactions.GetResources;
+import org.hibernate.validator.internal.util.privilegedactions.LoadClass;
+import org.hibernate.validator.internal.util.privilegedactions.SetContextClassLoader;
+
+/**
+ * Builds the bean meta data for a set of types ahead of their first validation, so that the reflection and
+ * annotation processing cost is paid at bootstrap rather than by the first validation call.
+ * <p>
+ * The meta data of the given types is built in parallel by a pool of daemon threads dedicated to the warm-up, bounded
+ * by the number of available processors and shut down once done. The context class loader of these threads is the
+ * user class loader if one is configured, the one of the calling thread otherwise. As the {@link BeanMetaDataManager}
+ * is thread-safe, types sharing a hierarchy may be processed concurrently.
+ */
+final class MetaDataWarmUp {
+
+	private static final Log log = LoggerFactory.make();
+
+	private static final String PACKAGE_WILDCARD = ".*";
+
+	private static final String CLASS_FILE_EXTENSION = ".class";
+
+	private static final String THREAD_NAME_PREFIX = "hibernate-validator-metadata-warm-up-";
+
+	private MetaDataWarmUp() {
+	}
+
+	/**
+	 * Builds the meta data of the given types.
+	 *
+	 * @param beanMetaDataManager the manager to populate
+	 * @param beanClasses the types to build the meta data for
+	 * @param externalClassLoader the user class loader, may be {@code null} in which case the context class loader of
+	 * the calling thread is used
+	 *
+	 * @return the time it took to build the meta data of each type, in the iteration order of the given types
+	 */
+	static Map<Class<?>, Duration> warmUp(BeanMetaDataManager beanMetaDataManager, Iterable<Class<?>> beanClasses, ClassLoader externalClassLoader) {
+		Contracts.assertNotNull( beanClasses, "The bean classes must not be null." );
+
+		Set<Class<?>> types = new LinkedHashSet<>();
+		for ( Class<?> beanClass : beanClasses ) {
+			Contracts.assertNotNull( beanClass, "The bean classes must not contain null." );
+			types.add( beanClass );
+		}
+
+		int poolSize = Math.min( types.size(), Runtime.getRuntime().availableProcessors() );
+		if ( poolSize <= 1 ) {
+			Map<Class<?>, Duration> timings = new LinkedHashMap<>();
+			for ( Class<?> type : types ) {
+				timings.put( type, buildMetaData( beanMetaDataManager, type ) );
+			}
+			return Collections.unmodifiableMap( timings );
+		}
+
+		ClassLoader contextClassLoader = externalClassLoader != null ? externalClassLoader : run( GetClassLoader.fromContext() );
+		ExecutorService executor = Executors.newFixedThreadPool( poolSize, new WarmUpThreadFactory() );
+		try {
+			Map<Class<?>, Future<Duration>> tasks = new LinkedHashMap<>();
+			for ( Class<?> type : types ) {
+				tasks.put( type, executor.submit( () -> {
+					if ( contextClassLoader != null ) {
+						run( SetContextClassLoader.action( contextClassLoader ) );
+					}
+					return buildMetaData( beanMetaDataManager, type );
+				} ) );
+			}
+
+			Map<Class<?>, Duration> timings = new LinkedHashMap<>();
+			for ( Map.Entry<Class<?>, Future<Duration>> task : tasks.entrySet() ) {
+				timings.put( task.getKey(), getResult( task.getValue() ) );
+			}
+			return Collections.unmodifiableMap( timings );
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Resolves the types given as value of the
+	 * {@link org.hibernate.validator.HibernateValidatorConfiguration#METADATA_WARM_UP} property.
+	 *
+	 * @param propertyValue comma-separated fully-qualified class names and/or package names followed by {@code .*}
+	 * @param externalClassLoader the user class loader, may be {@code null}
+	 *
+	 * @return the resolved types; may be empty but never {@code null}
+	 */
+	static Set<Class<?>> resolveTypes(String propertyValue, ClassLoader externalClassLoader) {
+		if ( StringHelper.isNullOrEmptyString( propertyValue ) ) {
+			return Collections.emptySet();
+		}
+
+		Set<Class<?>> types = new LinkedHashSet<>();
+		for ( String name : propertyValue.split( "," ) ) {
+			name = name.trim();
+			if ( name.isEmpty() ) {
+				continue;
+			}
+
+			if ( name.endsWith( PACKAGE_WILDCARD ) ) {
+				types.addAll( getTypesInPackage( name.substring( 0, name.length() - PACKAGE_WILDCARD.length() ), externalClassLoader ) );
+			}
+			else {
+				types.add( run( LoadClass.action( name, externalClassLoader ) ) );
+			}
+		}
+
+		return types;
+	}
+
+	/**
+	 * Returns the top-level and named nested types of the given package and its sub-packages, as found in the
+	 * directories and JAR files of the class path.
+	 *
+	 * @param packageName the name of the package to scan
+	 * @param externalClassLoader the user class loader, may be {@code null} in which case the thread context class
+	 * loader or the Hibernate Validator class loader is used
+	 *
+	 * @return the types of the package; may be empty but never {@code null}
+	 */
+	static Set<Class<?>> getTypesInPackage(String packageName, ClassLoader externalClassLoader) {
+		Contracts.assertNotNull( packageName, "The package name must not be null." );
+
+		ClassLoader classLoader = externalClassLoader;
+		if ( classLoader == null ) {
+			classLoader = run( GetClassLoader.fromContext() );
+		}
+		if ( classLoader == null ) {
+			classLoader = run( GetClassLoader.fromClass( MetaDataWarmUp.class ) );
+		}
+
+		String packagePath = packageName.replace( '.', '/' );
+		Set<String> classNames = new LinkedHashSet<>();
+
+		Enumeration<URL> packageUrls = run( GetResources.action( classLoader, packagePath ) );
+		while ( packageUrls.hasMoreElements() ) {
+			URL packageUrl = packageUrls.nextElement();
+			try {
+				if ( "file".equals( packageUrl.getProtocol() ) ) {
+					collectClassNames( new File( packageUrl.toURI() ), packageName, classNames );
+				}
+				else if ( "jar".equals( packageUrl.getProtocol() ) ) {
+					collectClassNames( (JarURLConnection) packageUrl.openConnection(), packagePath, classNames );
+				}
+			}
+			catch (IOException | URISyntaxException e) {
+				throw log.getUnableToScanPackageException( packageName, e );
+			}
+		}
+
+		Set<Class<?>> types = new LinkedHashSet<>();
+		for ( String className : classNames ) {
+			try {
+				Class<?> type = run( LoadClass.action( className, classLoader ) );
+				if ( !type.isAnonymousClass() && !type.isLocalClass() && !type.isSynthetic() ) {
+					types.add( type );
+				}
+			}
+			// e.g. a type referring to an optional dependency which is not present
+			catch (LinkageError e) {
+				log.unableToLoadScannedType( className, packageName, e );
+			}
+		}
+
+		return types;
+	}
+
+	private static Duration buildMetaData(BeanMetaDataManager beanMetaDataManager, Class<?> beanClass) {
+		long start = System.nanoTime();
+		beanMetaDataManager.getBeanMetaData( beanClass );
+		Duration duration = Duration.ofNanos( System.nanoTime() - start );
+		log.builtBeanMetaData( beanClass, duration.toNanos() / 1_000_000D );
+		return duration;
+	}
+
+	/**
+	 * Returns the result of the given task, rethrowing any exception raised while building the meta data, e.g. a
+	 * definition error, as is.
+	 */
+	private static Duration getResult(Future<Duration> task) {
+		try {
+			return task.get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw log.getInterruptedWhileBuildingMetaDataException( e );
+		}
+		catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if ( cause instanceof RuntimeException ) {
+				throw (RuntimeException) cause;
+			}
+			if ( cause instanceof Error ) {
+				throw (Error) cause;
+			}
+			// the task doesn't throw checked exceptions
+			throw new IllegalStateException( cause );
+		}
+	}
+
+	private static void collectClassNames(File directory, String packageName, Set<String> classNames) {
+		File[] files = directory.listFiles();
+		if ( files == null ) {
+			return;
+		}
+
+		for ( File file : files ) {
+			if ( file.isDirectory() ) {
+				collectClassNames( file, packageName + "." + file.getName(), classNames );
+			}
+			else if ( isTypeClassFile( file.getName() ) ) {
+				classNames.add( packageName + "." + stripClassFileExtension( file.getName() ) );
+			}
+		}
+	}
+
+	private static void collectClassNames(JarURLConnection connection, String packagePath, Set<String> classNames) throws IOException {
+		connection.setUseCaches( false );
+		String prefix = packagePath + "/";
+
+		try ( JarFile jarFile = connection.getJarFile() ) {
+			Enumeration<JarEntry> entries = jarFile.entries();
+			while ( entries.hasMoreElements() ) {
+				String entryName = entries.nextElement().getName();
+				if ( entryName.startsWith( prefix ) && isTypeClassFile( entryName.substring( entryName.lastIndexOf( '/' ) + 1 ) ) ) {
+					classNames.add( stripClassFileExtension( entryName ).replace( '/', '.' ) );
+				}
+			}
+		}
+	}
+
+	private static boolean isTypeClassFile(String fileName) {
+		return fileName.endsWith( CLASS_FILE_EXTENSION )
+				&& !fileName.equals( "package-info" + CLASS_FILE_EXTENSION )
+				&& !fileName.equals( "module-info" + CLASS_FILE_EXTENSION );
+	}
+
+	private static String stripClassFileExtension(String fileName) {
+		return fileName.substring( 0, fileName.length() - CLASS_FILE_EXTENSION.length() );
+	}
+
+	/**
+	 * Creates the daemon threads building the meta data, so that an interrupted warm-up never prevents the JVM from
+	 * exiting.
+	 */
+	private static final class WarmUpThreadFactory implements ThreadFactory {
+
+		private final AtomicInteger threadCount = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread( runnable, THREAD_NAME_PREFIX + threadCount.incrementAndGet() );
+			thread.setDaemon( true );
+			return thread;
+		}
+	}
+
+	/**
+	 * Runs the given privileged action, using a privileged block if required.
+	 * <p>
+	 * <b>NOTE:</b> This must never be changed into a publicly available method to avoid execution of arbitrary
+	 * privileged actions within HV's protection domain.
+	 */
+	private static <T> T run(PrivilegedAction<T> action) {
+		return System.getSecurityManager() != null ? AccessController.doPrivileged( action ) : action.run();
+	}
+}
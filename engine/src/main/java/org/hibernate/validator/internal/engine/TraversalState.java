@@ -0,0 +1,332 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import org.hibernate.validator.internal.engine.path.NodeImpl;
+import org.hibernate.validator.internal.engine.path.PathImpl;
+import org.hibernate.validator.internal.metadata.core.MetaConstraint;
+
+/**
+ * Keeps track of the beans and constraints processed during a validation call, so that each bean gets validated only
+ * once per group and property path - which also prevents cycles in the object graph from being followed endlessly -
+ * and each constraint only once per bean and property path.
+ * <p>
+ * This is on the hot path of the validation of large object graphs, hence:
+ * <ul>
+ * <li>beans and constraints are looked up in open-addressing tables comparing by identity, without allocating any
+ * key object,</li>
+ * <li>groups are mapped to small indices and the groups a bean has been processed in are stored as bits,</li>
+ * <li>paths are recorded by their leaf node, which is immutable and links to its parents, so no copy of the path is
+ * needed and comparing paths does not materialize their nodes.</li>
+ * </ul>
+ * The tracking of the processed beans may be disabled altogether if it is known that no cascaded validation will
+ * happen, e.g. if the meta data of the validated bean does not have any cascaded element.
+ */
+final class TraversalState {
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	private final boolean processedBeansTrackingEnabled;
+
+	private final IdentityTable<BeanState> beanStates = new IdentityTable<>();
+
+	private Class<?>[] groups = new Class<?>[4];
+
+	private int groupCount;
+
+	TraversalState(boolean processedBeansTrackingEnabled) {
+		this.processedBeansTrackingEnabled = processedBeansTrackingEnabled;
+	}
+
+	boolean isBeanAlreadyValidated(Object bean, Class<?> group, PathImpl path) {
+		if ( !processedBeansTrackingEnabled ) {
+			return false;
+		}
+
+		BeanState beanState = beanStates.get( bean );
+		return beanState != null
+				&& beanState.isProcessedInGroup( indexOf( group ) )
+				&& beanState.isProcessedForPath( path.getLeafNode() );
+	}
+
+	void markBeanAsProcessed(Object bean, Class<?> group, PathImpl path) {
+		if ( !processedBeansTrackingEnabled ) {
+			return;
+		}
+
+		BeanState beanState = getOrCreateBeanState( bean );
+		beanState.markProcessedInGroup( indexOf( group ) );
+		beanState.markProcessedForPath( path.getLeafNode() );
+	}
+
+	boolean isConstraintProcessed(Object bean, PathImpl path, MetaConstraint<?> metaConstraint) {
+		BeanState beanState = beanStates.get( bean );
+		return beanState != null && beanState.isConstraintProcessed( path.getLeafNode(), metaConstraint );
+	}
+
+	void markConstraintProcessed(Object bean, PathImpl path, MetaConstraint<?> metaConstraint) {
+		getOrCreateBeanState( bean ).markConstraintProcessed( path.getLeafNode(), metaConstraint );
+	}
+
+	private BeanState getOrCreateBeanState(Object bean) {
+		BeanState beanState = beanStates.get( bean );
+		if ( beanState == null ) {
+			beanState = new BeanState();
+			beanStates.put( bean, beanState );
+		}
+		return beanState;
+	}
+
+	/**
+	 * Returns the index of the given group, registering the group if required. There are only a few groups per
+	 * validation call, so a linear scan is the cheapest lookup.
+	 */
+	private int indexOf(Class<?> group) {
+		for ( int i = 0; i < groupCount; i++ ) {
+			if ( groups[i] == group ) {
+				return i;
+			}
+		}
+
+		if ( groupCount == groups.length ) {
+			groups = Arrays.copyOf( groups, groupCount * 2 );
+		}
+		groups[groupCount] = group;
+		return groupCount++;
+	}
+
+	private static boolean isRootPath(NodeImpl leafNode) {
+		return leafNode.getParent() == null && leafNode.getName() == null;
+	}
+
+	/**
+	 * @return {@code true} if one of the given paths is a sub path of - or equal to - the other one, {@code false}
+	 * otherwise
+	 */
+	private static boolean isSubPathOrSuperPath(NodeImpl leafNode1, NodeImpl leafNode2) {
+		int depth1 = depthOf( leafNode1 );
+		int depth2 = depthOf( leafNode2 );
+
+		while ( depth1 > depth2 ) {
+			leafNode1 = leafNode1.getParent();
+			depth1--;
+		}
+		while ( depth2 > depth1 ) {
+			leafNode2 = leafNode2.getParent();
+			depth2--;
+		}
+
+		// nodes include their parents in equals(), so this compares the whole common prefix
+		return leafNode1.equals( leafNode2 );
+	}
+
+	private static int depthOf(NodeImpl leafNode) {
+		int depth = 0;
+		for ( NodeImpl node = leafNode; node != null; node = node.getParent() ) {
+			depth++;
+		}
+		return depth;
+	}
+
+	/**
+	 * The processing state of a single bean.
+	 */
+	private static final class BeanState {
+
+		/**
+		 * The groups with an index lower than 64 this bean has been processed in.
+		 */
+		private long groupBits;
+
+		/**
+		 * The groups with an index of 64 or higher this bean has been processed in; only created if needed.
+		 */
+		private BitSet extraGroupBits;
+
+		/**
+		 * The leaf nodes of the paths this bean has been processed for.
+		 */
+		private NodeImpl[] processedPaths;
+
+		private int processedPathCount;
+
+		/**
+		 * The processed constraints, each mapped to the leaf node of the single path it has been processed for or -
+		 * rarely - to a list of such nodes.
+		 */
+		private IdentityTable<Object> processedConstraints;
+
+		private boolean isProcessedInGroup(int groupIndex) {
+			if ( groupIndex < Long.SIZE ) {
+				return ( groupBits & ( 1L << groupIndex ) ) != 0;
+			}
+			return extraGroupBits != null && extraGroupBits.get( groupIndex );
+		}
+
+		private void markProcessedInGroup(int groupIndex) {
+			if ( groupIndex < Long.SIZE ) {
+				groupBits |= 1L << groupIndex;
+				return;
+			}
+			if ( extraGroupBits == null ) {
+				extraGroupBits = new BitSet();
+			}
+			extraGroupBits.set( groupIndex );
+		}
+
+		private boolean isProcessedForPath(NodeImpl leafNode) {
+			for ( int i = 0; i < processedPathCount; i++ ) {
+				NodeImpl processedPath = processedPaths[i];
+				if ( isRootPath( leafNode ) || isRootPath( processedPath ) || isSubPathOrSuperPath( leafNode, processedPath ) ) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private void markProcessedForPath(NodeImpl leafNode) {
+			if ( processedPaths == null ) {
+				processedPaths = new NodeImpl[2];
+			}
+			else {
+				for ( int i = 0; i < processedPathCount; i++ ) {
+					if ( processedPaths[i].equals( leafNode ) ) {
+						return;
+					}
+				}
+				if ( processedPathCount == processedPaths.length ) {
+					processedPaths = Arrays.copyOf( processedPaths, processedPathCount * 2 );
+				}
+			}
+			processedPaths[processedPathCount++] = leafNode;
+		}
+
+		private boolean isConstraintProcessed(NodeImpl leafNode, MetaConstraint<?> metaConstraint) {
+			if ( processedConstraints == null ) {
+				return false;
+			}
+
+			Object paths = processedConstraints.get( metaConstraint );
+			if ( paths == null ) {
+				return false;
+			}
+			if ( paths instanceof NodeImpl ) {
+				return paths.equals( leafNode );
+			}
+			return asNodeList( paths ).contains( leafNode );
+		}
+
+		private void markConstraintProcessed(NodeImpl leafNode, MetaConstraint<?> metaConstraint) {
+			if ( processedConstraints == null ) {
+				processedConstraints = new IdentityTable<>();
+			}
+
+			Object paths = processedConstraints.get( metaConstraint );
+			if ( paths == null ) {
+				processedConstraints.put( metaConstraint, leafNode );
+			}
+			else if ( paths instanceof NodeImpl ) {
+				if ( !paths.equals( leafNode ) ) {
+					List<NodeImpl> nodes = new ArrayList<>( 2 );
+					nodes.add( (NodeImpl) paths );
+					nodes.add( leafNode );
+					processedConstraints.put( metaConstraint, nodes );
+				}
+			}
+			else {
+				List<NodeImpl> nodes = asNodeList( paths );
+				if ( !nodes.contains( leafNode ) ) {
+					nodes.add( leafNode );
+				}
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private static List<NodeImpl> asNodeList(Object paths) {
+			return (List<NodeImpl>) paths;
+		}
+	}
+
+	/**
+	 * A minimal hash table comparing its keys by identity, using open addressing with linear probing. Unlike
+	 * {@link java.util.IdentityHashMap}, it does not support removals, which keeps the probing trivial.
+	 */
+	private static final class IdentityTable<V> {
+
+		private Object[] keys = new Object[INITIAL_CAPACITY];
+
+		private Object[] values = new Object[INITIAL_CAPACITY];
+
+		private int size;
+
+		private V get(Object key) {
+			int mask = keys.length - 1;
+			for ( int i = indexFor( key, mask ); ; i = ( i + 1 ) & mask ) {
+				Object candidate = keys[i];
+				if ( candidate == key ) {
+					@SuppressWarnings("unchecked")
+					V value = (V) values[i];
+					return value;
+				}
+				if ( candidate == null ) {
+					return null;
+				}
+			}
+		}
+
+		private void put(Object key, V value) {
+			int mask = keys.length - 1;
+			int i = indexFor( key, mask );
+			while ( keys[i] != null ) {
+				if ( keys[i] == key ) {
+					values[i] = value;
+					return;
+				}
+				i = ( i + 1 ) & mask;
+			}
+
+			keys[i] = key;
+			values[i] = value;
+
+			// keep the load factor at or below 1/2 so probe sequences stay short
+			if ( ++size * 2 > keys.length ) {
+				resize();
+			}
+		}
+
+		private void resize() {
+			Object[] oldKeys = keys;
+			Object[] oldValues = values;
+			keys = new Object[oldKeys.length * 2];
+			values = new Object[oldValues.length * 2];
+
+			int mask = keys.length - 1;
+			for ( int j = 0; j < oldKeys.length; j++ ) {
+				Object key = oldKeys[j];
+				if ( key != null ) {
+					int i = indexFor( key, mask );
+					while ( keys[i] != null ) {
+						i = ( i + 1 ) & mask;
+					}
+					keys[i] = key;
+					values[i] = oldValues[j];
+				}
+			}
+		}
+
+		private static int indexFor(Object key, int mask) {
+			int hash = System.identityHashCode( key );
+			// spread the higher bits as the identity hash codes of consecutively allocated objects may be close
+			return ( hash ^ ( hash >>> 16 ) ) & mask;
+		}
+	}
+}
@@ -6,14 +6,10 @@
  */
 package org.hibernate.validator.internal.engine;
 
-import static org.hibernate.validator.internal.util.CollectionHelper.newHashMap;
 import static org.hibernate.validator.internal.util.CollectionHelper.newHashSet;
 
 import java.lang.reflect.Executable;
 import java.util.Collections;
-import java.util.HashSet;
-import java.util.IdentityHashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -32,9 +28,9 @@
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintViolationCreationContext;
 import org.hibernate.validator.internal.engine.path.PathImpl;
+import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
 import org.hibernate.validator.internal.metadata.core.MetaConstraint;
 import org.hibernate.validator.internal.util.ExecutableParameterNameProvider;
-import org.hibernate.validator.internal.util.IdentitySet;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 
@@ -83,20 +79,10 @@
 	private final Object executableReturnValue;
 
 	/**
-	 * Maps a group to an identity set to keep track of already validated objects. We have to make sure
-	 * that each object gets only validated once per group and property path.
+	 * Keeps track of the beans and constraints processed so far. We have to make sure that each object gets only
+	 * validated once per group and property path and each constraint only once per bean and property path.
 	 */
-	private final Map<Class<?>, IdentitySet> processedBeansPerGroup;
-
-	/**
-	 * Maps an object to a list of paths in which it has been validated. The objects are the bean instances.
-	 */
-	private final Map<Object, Set<PathImpl>> processedPathsPerBean;
-
-	/**
-	 * Maps processed constraints to the bean and path for which they have been processed.
-	 */
-	private final Map<BeanAndPath, IdentitySet> processedMetaConstraints;
+	private final TraversalState traversalState;
 
 	/**
 	 * Contains all failing constraints so far.
@@ -133,11 +119,28 @@
 	 */
 	private final boolean failFast;
 
+	/**
+	 * The number of constraint violations after which validation should stop; derived from the fail fast mode and the
+	 * configured maximum number of violations.
+	 */
+	private final int violationBudget;
+
+	/**
+	 * Whether or not the messages of the constraint violations should be interpolated on first access only.
+	 */
+	private final boolean lazyMessageInterpolation;
+
 	/**
 	 * The name of the validated (leaf) property in case of a validateProperty()/validateValue() call.
 	 */
 	private String validatedProperty;
 
+	/**
+	 * The context passed to the constraint validators, created on first use and then reset for each constraint
+	 * validated within this validation call.
+	 */
+	private ConstraintValidatorContextImpl constraintValidatorContext;
+
 	private ValidationContext(ConstraintValidatorManager constraintValidatorManager,
 			MessageInterpolator messageInterpolator,
 			ConstraintValidatorFactory constraintValidatorFactory,
@@ -145,11 +148,14 @@ private ValidationContext(ConstraintValidatorManager constraintValidatorManager,
 			ExecutableParameterNameProvider parameterNameProvider,
 			ClockProvider clockProvider,
 			boolean failFast,
+			int maxViolations,
+			boolean lazyMessageInterpolation,
 			T rootBean,
 			Class<T> rootBeanClass,
 			Executable executable,
 			Object[] executableParameters,
-			Object executableReturnValue) {
+			Object executableReturnValue,
+			boolean processedBeansTrackingEnabled) {
 		this.constraintValidatorManager = constraintValidatorManager;
 		this.messageInterpolator = messageInterpolator;
 		this.constraintValidatorFactory = constraintValidatorFactory;
@@ -157,6 +163,8 @@ private ValidationContext(ConstraintValidatorManager constraintValidatorManager,
 		this.parameterNameProvider = parameterNameProvider;
 		this.clockProvider = clockProvider;
 		this.failFast = failFast;
+		this.violationBudget = failFast ? 1 : ( maxViolations > 0 ? maxViolations : Integer.MAX_VALUE );
+		this.lazyMessageInterpolation = lazyMessageInterpolation;
 
 		this.rootBean = rootBean;
 		this.rootBeanClass = rootBeanClass;
@@ -164,9 +172,7 @@ private ValidationContext(ConstraintValidatorManager constraintValidatorManager,
 		this.executableParameters = executableParameters;
 		this.executableReturnValue = executableReturnValue;
 
-		this.processedBeansPerGroup = newHashMap();
-		this.processedPathsPerBean = new IdentityHashMap<>();
-		this.processedMetaConstraints = newHashMap();
+		this.traversalState = new TraversalState( processedBeansTrackingEnabled );
 		this.failingConstraintViolations = newHashSet();
 	}
 
@@ -176,7 +182,9 @@ public static ValidationContextBuilder getValidationContext(
 			ConstraintValidatorFactory constraintValidatorFactory,
 			TraversableResolver traversableResolver,
 			ClockProvider clockProvider,
-			boolean failFast) {
+			boolean failFast,
+			int maxViolations,
+			boolean lazyMessageInterpolation) {
 
 		return new ValidationContextBuilder(
 				constraintValidatorManager,
@@ -184,7 +192,9 @@ public static ValidationContextBuilder getValidationContext(
 				constraintValidatorFactory,
 				traversableResolver,
 				clockProvider,
-				failFast
+				failFast,
+				maxViolations,
+				lazyMessageInterpolation
 		);
 	}
 
@@ -208,6 +218,14 @@ public boolean isFailFastModeEnabled() {
 		return failFast;
 	}
 
+	/**
+	 * @return {@code true} if as many constraint violations as allowed by the fail fast mode or the maximum number of
+	 * violations have been collected, and validation should therefore stop; {@code false} otherwise
+	 */
+	public boolean isViolationBudgetExhausted() {
+		return failingConstraintViolations.size() >= violationBudget;
+	}
+
 	public ConstraintValidatorManager getConstraintValidatorManager() {
 		return constraintValidatorManager;
 	}
@@ -231,6 +249,27 @@ public ClockProvider getClockProvider() {
 		return clockProvider;
 	}
 
+	/**
+	 * Returns the context to be passed to the constraint validator of the given constraint. The same instance is
+	 * returned for all the constraints of this validation call, so it must not be used any more once the validator has
+	 * been invoked and the resulting violations have been created.
+	 *
+	 * @param propertyPath the path of the value to be validated
+	 * @param descriptor the descriptor of the constraint to be validated
+	 *
+	 * @return a context ready to be passed to the constraint validator
+	 */
+	public ConstraintValidatorContextImpl getConstraintValidatorContext(PathImpl propertyPath, ConstraintDescriptor<?> descriptor) {
+		if ( constraintValidatorContext == null ) {
+			constraintValidatorContext = new ConstraintValidatorContextImpl( getParameterNames(), clockProvider, propertyPath, descriptor );
+		}
+		else {
+			constraintValidatorContext.reset( propertyPath, descriptor );
+		}
+
+		return constraintValidatorContext;
+	}
+
 	public Set<ConstraintViolation<T>> createConstraintViolations(ValueContext<?, ?> localContext,
 			ConstraintValidatorContextImpl constraintValidatorContext) {
 		Set<ConstraintViolation<T>> constraintViolations = newHashSet();
@@ -249,23 +288,26 @@ public ConstraintValidatorFactory getConstraintValidatorFactory() {
 	}
 
 	public boolean isBeanAlreadyValidated(Object value, Class<?> group, PathImpl path) {
-		boolean alreadyValidated;
-		alreadyValidated = isAlreadyValidatedForCurrentGroup( value, group );
-
-		if ( alreadyValidated ) {
-			alreadyValidated = isAlreadyValidatedForPath( value, path );
-		}
-
-		return alreadyValidated;
+		return traversalState.isBeanAlreadyValidated( value, group, path );
 	}
 
 	public void markCurrentBeanAsProcessed(ValueContext<?, ?> valueContext) {
-		markCurrentBeanAsProcessedForCurrentGroup( valueContext.getCurrentBean(), valueContext.getCurrentGroup() );
-		markCurrentBeanAsProcessedForCurrentPath( valueContext.getCurrentBean(), valueContext.getPropertyPath() );
+		traversalState.markBeanAsProcessed( valueContext.getCurrentBean(), valueContext.getCurrentGroup(), valueContext.getPropertyPath() );
 	}
 
 	public void addConstraintFailures(Set<ConstraintViolation<T>> failingConstraintViolations) {
-		this.failingConstraintViolations.addAll( failingConstraintViolations );
+		if ( this.failingConstraintViolations.size() + failingConstraintViolations.size() <= violationBudget ) {
+			this.failingConstraintViolations.addAll( failingConstraintViolations );
+			return;
+		}
+
+		// a single constraint may report several violations; don't collect more than the budget allows
+		for ( ConstraintViolation<T> failingConstraintViolation : failingConstraintViolations ) {
+			if ( isViolationBudgetExhausted() ) {
+				break;
+			}
+			this.failingConstraintViolations.add( failingConstraintViolation );
+		}
 	}
 
 	public Set<ConstraintViolation<T>> getFailingConstraints() {
@@ -275,12 +317,22 @@ public Set<ConstraintViolation<T>> getFailingConstraints() {
 
 	public ConstraintViolation<T> createConstraintViolation(ValueContext<?, ?> localContext, ConstraintViolationCreationContext constraintViolationCreationContext, ConstraintDescriptor<?> descriptor) {
 		String messageTemplate = constraintViolationCreationContext.getMessage();
-		String interpolatedMessage = interpolate(
-				messageTemplate,
-				localContext.getCurrentValidatedValue(),
+		MessageInterpolatorContext messageInterpolatorContext = new MessageInterpolatorContext(
 				descriptor,
+				localContext.getCurrentValidatedValue(),
+				getRootBeanClass(),
 				constraintViolationCreationContext.getExpressionVariables()
 		);
+		String interpolatedMessage;
+		DeferredMessageInterpolation deferredMessageInterpolation;
+		if ( lazyMessageInterpolation ) {
+			interpolatedMessage = null;
+			deferredMessageInterpolation = new DeferredMessageInterpolation( messageInterpolator, messageTemplate, messageInterpolatorContext );
+		}
+		else {
+			interpolatedMessage = interpolate( messageInterpolator, messageTemplate, messageInterpolatorContext );
+			deferredMessageInterpolation = null;
+		}
 		// at this point we make a copy of the path to avoid side effects
 		Path path = PathImpl.createCopy( constraintViolationCreationContext.getPath() );
 		//same for expression variables
@@ -292,6 +344,7 @@ public ConstraintViolation<T> createConstraintViolation(ValueContext<?, ?> local
 					messageTemplate,
 					expressionVariables,
 					interpolatedMessage,
+					deferredMessageInterpolation,
 					getRootBeanClass(),
 					getRootBean(),
 					localContext.getCurrentBean(),
@@ -308,6 +361,7 @@ else if ( executableReturnValue != null ) {
 					messageTemplate,
 					expressionVariables,
 					interpolatedMessage,
+					deferredMessageInterpolation,
 					getRootBeanClass(),
 					getRootBean(),
 					localContext.getCurrentBean(),
@@ -324,6 +378,7 @@ else if ( executableReturnValue != null ) {
 					messageTemplate,
 					expressionVariables,
 					interpolatedMessage,
+					deferredMessageInterpolation,
 					getRootBeanClass(),
 					getRootBean(),
 					localContext.getCurrentBean(),
@@ -336,23 +391,12 @@ else if ( executableReturnValue != null ) {
 		}
 	}
 
-	public boolean hasMetaConstraintBeenProcessed(Object bean, Path path, MetaConstraint<?> metaConstraint) {
-		// TODO switch to proper multi key map (HF)
-		IdentitySet processedConstraints = processedMetaConstraints.get( new BeanAndPath( bean, path ) );
-		return processedConstraints != null && processedConstraints.contains( metaConstraint );
+	public boolean hasMetaConstraintBeenProcessed(Object bean, PathImpl path, MetaConstraint<?> metaConstraint) {
+		return traversalState.isConstraintProcessed( bean, path, metaConstraint );
 	}
 
-	public void markConstraintProcessed(Object bean, Path path, MetaConstraint<?> metaConstraint) {
-		// TODO switch to proper multi key map (HF)
-		BeanAndPath beanAndPath = new BeanAndPath( bean, path );
-		if ( processedMetaConstraints.containsKey( beanAndPath ) ) {
-			processedMetaConstraints.get( beanAndPath ).add( metaConstraint );
-		}
-		else {
-			IdentitySet set = new IdentitySet();
-			set.add( metaConstraint );
-			processedMetaConstraints.put( beanAndPath, set );
-		}
+	public void markConstraintProcessed(Object bean, PathImpl path, MetaConstraint<?> metaConstraint) {
+		traversalState.markConstraintProcessed( bean, path, metaConstraint );
 	}
 
 	public String getValidatedProperty() {
@@ -372,17 +416,9 @@ public String toString() {
 		return sb.toString();
 	}
 
-	private String interpolate(String messageTemplate,
-			Object validatedValue,
-			ConstraintDescriptor<?> descriptor,
-			Map<String, Object> messageParameters) {
-		MessageInterpolatorContext context = new MessageInterpolatorContext(
-				descriptor,
-				validatedValue,
-				getRootBeanClass(),
-				messageParameters
-		);
-
+	static String interpolate(MessageInterpolator messageInterpolator,
+			String messageTemplate,
+			MessageInterpolatorContext context) {
 		try {
 			return messageInterpolator.interpolate(
 					messageTemplate,
@@ -397,67 +433,6 @@ private String interpolate(String messageTemplate,
 		}
 	}
 
-	private boolean isAlreadyValidatedForPath(Object value, PathImpl path) {
-		Set<PathImpl> pathSet = processedPathsPerBean.get( value );
-		if ( pathSet == null ) {
-			return false;
-		}
-
-		for ( PathImpl p : pathSet ) {
-			if ( path.isRootPath() || p.isRootPath() || isSubPathOf( path, p ) || isSubPathOf( p, path ) ) {
-				return true;
-			}
-		}
-
-		return false;
-	}
-
-	private boolean isSubPathOf(Path p1, Path p2) {
-		Iterator<Path.Node> p1Iter = p1.iterator();
-		Iterator<Path.Node> p2Iter = p2.iterator();
-		while ( p1Iter.hasNext() ) {
-			Path.Node p1Node = p1Iter.next();
-			if ( !p2Iter.hasNext() ) {
-				return false;
-			}
-			Path.Node p2Node = p2Iter.next();
-			if ( !p1Node.equals( p2Node ) ) {
-				return false;
-			}
-		}
-		return true;
-	}
-
-	private boolean isAlreadyValidatedForCurrentGroup(Object value, Class<?> group) {
-		IdentitySet objectsProcessedInCurrentGroups = processedBeansPerGroup.get( group );
-		return objectsProcessedInCurrentGroups != null && objectsProcessedInCurrentGroups.contains( value );
-	}
-
-	private void markCurrentBeanAsProcessedForCurrentPath(Object value, PathImpl path) {
-		// HV-1031 The path object is mutated as we traverse the object tree, hence copy it before saving it
-		path = PathImpl.createCopy( path );
-
-		if ( processedPathsPerBean.containsKey( value ) ) {
-			processedPathsPerBean.get( value ).add( path );
-		}
-		else {
-			Set<PathImpl> set = new HashSet<>();
-			set.add( path );
-			processedPathsPerBean.put( value, set );
-		}
-	}
-
-	private void markCurrentBeanAsProcessedForCurrentGroup(Object value, Class<?> group) {
-		if ( processedBeansPerGroup.containsKey( group ) ) {
-			processedBeansPerGroup.get( group ).add( value );
-		}
-		else {
-			IdentitySet set = new IdentitySet();
-			set.add( value );
-			processedBeansPerGroup.put( group, set );
-		}
-	}
-
 	/**
 	 * Builder for creating {@link ValidationContext}s suited for the different kinds of validation.
 	 *
@@ -470,6 +445,8 @@ public static class ValidationContextBuilder {
 		private final TraversableResolver traversableResolver;
 		private final ClockProvider clockProvider;
 		private final boolean failFast;
+		private final int maxViolations;
+		private final boolean lazyMessageInterpolation;
 
 		private ValidationContextBuilder(
 				ConstraintValidatorManager constraintValidatorManager,
@@ -477,16 +454,20 @@ private ValidationContextBuilder(
 				ConstraintValidatorFactory constraintValidatorFactory,
 				TraversableResolver traversableResolver,
 				ClockProvider clockProvider,
-				boolean failFast) {
+				boolean failFast,
+				int maxViolations,
+				boolean lazyMessageInterpolation) {
 			this.constraintValidatorManager = constraintValidatorManager;
 			this.messageInterpolator = messageInterpolator;
 			this.constraintValidatorFactory = constraintValidatorFactory;
 			this.traversableResolver = traversableResolver;
 			this.clockProvider = clockProvider;
 			this.failFast = failFast;
+			this.maxViolations = maxViolations;
+			this.lazyMessageInterpolation = lazyMessageInterpolation;
 		}
 
-		public <T> ValidationContext<T> forValidate(T rootBean) {
+		public <T> ValidationContext<T> forValidate(T rootBean, BeanMetaData<?> rootBeanMetaData) {
 			@SuppressWarnings("unchecked")
 			Class<T> rootBeanClass = (Class<T>) rootBean.getClass();
 			return new ValidationContext<>(
@@ -497,11 +478,15 @@ public <T> ValidationContext<T> forValidate(T rootBean) {
 					null, //parameter name provider,
 					clockProvider,
 					failFast,
+					maxViolations,
+					lazyMessageInterpolation,
 					rootBean,
 					rootBeanClass,
 					null, //executable
 					null, //executable parameters
-					null //executable return value
+					null, //executable return value
+					// if the root bean does not cascade, no bean will ever be looked up by the cascaded validation
+					rootBeanMetaData.getCascadables().iterator().hasNext()
 			);
 		}
 
@@ -516,11 +501,14 @@ public <T> ValidationContext<T> forValidateProperty(T rootBean) {
 					null, //parameter name provider,
 					clockProvider,
 					failFast,
+					maxViolations,
+					lazyMessageInterpolation,
 					rootBean,
 					rootBeanClass,
 					null, //executable
 					null, //executable parameters
-					null //executable return value
+					null, //executable return value
+					true //processed beans tracking
 			);
 		}
 
@@ -533,11 +521,14 @@ public <T> ValidationContext<T> forValidateValue(Class<T> rootBeanClass) {
 					null, //parameter name provider
 					clockProvider,
 					failFast,
+					maxViolations,
+					lazyMessageInterpolation,
 					null, //root bean
 					rootBeanClass,
 					null, //executable
 					null, //executable parameters
-					null //executable return value
+					null, //executable return value
+					true //processed beans tracking
 			);
 		}
 
@@ -556,11 +547,14 @@ public <T> ValidationContext<T> forValidateParameters(
 					parameterNameProvider,
 					clockProvider,
 					failFast,
+					maxViolations,
+					lazyMessageInterpolation,
 					rootBean,
 					rootBeanClass,
 					executable,
 					executableParameters,
-					null //executable return value
+					null, //executable return value
+					true //processed beans tracking
 			);
 		}
 
@@ -578,57 +572,15 @@ public <T> ValidationContext<T> forValidateReturnValue(
 					null, //parameter name provider
 					clockProvider,
 					failFast,
+					maxViolations,
+					lazyMessageInterpolation,
 					rootBean,
 					rootBeanClass,
 					executable,
 					null, //executable parameters
-					executableReturnValue
+					executableReturnValue,
+					true //processed beans tracking
 			);
 		}
 	}
-
-	private static final class BeanAndPath {
-		private final Object bean;
-		private final Path path;
-		private final int hashCode;
-
-		private BeanAndPath(Object bean, Path path) {
-			this.bean = bean;
-			this.path = path;
-			// pre-calculate hash code, the class is immutable and hashCode is needed often
-			this.hashCode = createHashCode();
-		}
-
-		@Override
-		public boolean equals(Object o) {
-			if ( this == o ) {
-				return true;
-			}
-			if ( o == null || getClass() != o.getClass() ) {
-				return false;
-			}
-
-			BeanAndPath that = (BeanAndPath) o;
-
-			if ( bean != that.bean ) {  // instance equality
-				return false;
-			}
-			if ( !path.equals( that.path ) ) {
-				return false;
-			}
-
-			return true;
-		}
-
-		@Override
-		public int hashCode() {
-			return hashCode;
-		}
-
-		private int createHashCode() {
-			int result = System.identityHashCode( bean );
-			result = 31 * result + path.hashCode();
-			return result;
-		}
-	}
 }
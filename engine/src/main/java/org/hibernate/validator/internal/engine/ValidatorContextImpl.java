@@ -16,6 +16,8 @@
 import org.hibernate.validator.HibernateValidatorContext;
 import org.hibernate.validator.internal.engine.cascading.ValueExtractorManager;
 import org.hibernate.validator.internal.util.ExecutableParameterNameProvider;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
 
 /**
  * @author Emmanuel Bernard
@@ -26,6 +28,8 @@
  */
 public class ValidatorContextImpl implements HibernateValidatorContext {
 
+	private static final Log log = LoggerFactory.make();
+
 	private final ValidatorFactoryImpl validatorFactory;
 
 	private MessageInterpolator messageInterpolator;
@@ -34,6 +38,8 @@ public class ValidatorContextImpl implements HibernateValidatorContext {
 	private ExecutableParameterNameProvider parameterNameProvider;
 	private ClockProvider clockProvider;
 	private boolean failFast;
+	private int maxViolations;
+	private boolean lazyMessageInterpolation;
 	private final ValueExtractorManager valueExtractorManager;
 	private final MethodValidationConfiguration methodValidationConfiguration = new MethodValidationConfiguration();
 
@@ -46,6 +52,8 @@ public ValidatorContextImpl(ValidatorFactoryImpl validatorFactory) {
 		this.parameterNameProvider = validatorFactory.getExecutableParameterNameProvider();
 		this.clockProvider = validatorFactory.getClockProvider();
 		this.failFast = validatorFactory.isFailFast();
+		this.maxViolations = validatorFactory.getMaxViolations();
+		this.lazyMessageInterpolation = validatorFactory.isLazyMessageInterpolation();
 		// TODO make overwritable per this context
 		this.valueExtractorManager = validatorFactory.getValueExtractorManager();
 	}
@@ -111,6 +119,22 @@ public HibernateValidatorContext failFast(boolean failFast) {
 		return this;
 	}
 
+	@Override
+	public HibernateValidatorContext maxViolations(int maxViolations) {
+		if ( maxViolations < 0 ) {
+			throw log.getInvalidMaxViolationsException( String.valueOf( maxViolations ) );
+		}
+
+		this.maxViolations = maxViolations;
+		return this;
+	}
+
+	@Override
+	public HibernateValidatorContext lazyMessageInterpolation(boolean lazyMessageInterpolation) {
+		this.lazyMessageInterpolation = lazyMessageInterpolation;
+		return this;
+	}
+
 	@Override
 	public HibernateValidatorContext allowOverridingMethodAlterParameterConstraint(boolean allow) {
 		this.methodValidationConfiguration.allowOverridingMethodAlterParameterConstraint( allow );
@@ -138,6 +162,8 @@ public Validator getValidator() {
 				parameterNameProvider,
 				clockProvider,
 				failFast,
+				maxViolations,
+				lazyMessageInterpolation,
 				valueExtractorManager,
 				methodValidationConfiguration
 		);
@@ -12,7 +12,9 @@
 import java.lang.annotation.Annotation;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
@@ -31,11 +33,16 @@
 import org.hibernate.validator.HibernateValidatorConfiguration;
 import org.hibernate.validator.HibernateValidatorContext;
 import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.MetaDataCachePolicy;
+import org.hibernate.validator.MetaDataCacheStatistics;
+import org.hibernate.validator.PropertyAccessStrategy;
 import org.hibernate.validator.cfg.ConstraintMapping;
 import org.hibernate.validator.internal.cfg.context.DefaultConstraintMapping;
 import org.hibernate.validator.internal.engine.cascading.ValueExtractorManager;
 import org.hibernate.validator.internal.engine.constraintdefinition.ConstraintDefinitionContribution;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
+import org.hibernate.validator.internal.engine.constraintvalidation.JavaRegularExpressionEngine;
+import org.hibernate.validator.internal.metadata.BeanMetaDataCache;
 import org.hibernate.validator.internal.metadata.BeanMetaDataManager;
 import org.hibernate.validator.internal.metadata.core.ConstraintHelper;
 import org.hibernate.validator.internal.metadata.provider.MetaDataProvider;
@@ -50,6 +57,7 @@
 import org.hibernate.validator.internal.util.privilegedactions.LoadClass;
 import org.hibernate.validator.internal.util.privilegedactions.NewInstance;
 import org.hibernate.validator.spi.cfg.ConstraintMappingContributor;
+import org.hibernate.validator.spi.regex.RegularExpressionEngine;
 
 /**
  * Factory returning initialized {@code Validator} instances. This is the Hibernate Validator default
@@ -116,11 +124,42 @@ public class ValidatorFactoryImpl implements HibernateValidatorFactory {
 	 */
 	private final boolean failFast;
 
+	/**
+	 * Hibernate Validator specific maximum number of constraint violations after which the validation is aborted;
+	 * {@code 0} means no limit.
+	 */
+	private final int maxViolations;
+
+	/**
+	 * Hibernate Validator specific flag to interpolate the constraint violation messages on first access only.
+	 */
+	private final boolean lazyMessageInterpolation;
+
 	/**
 	 * Hibernate validator specific flags to relax constraints on parameters.
 	 */
 	private final MethodValidationConfiguration methodValidationConfiguration;
 
+	/**
+	 * Hibernate Validator specific strategy for reading property values.
+	 */
+	private final PropertyAccessStrategy propertyAccessStrategy;
+
+	/**
+	 * Hibernate Validator specific policy for retaining the bean meta data.
+	 */
+	private final MetaDataCachePolicy metaDataCachePolicy;
+
+	/**
+	 * Hibernate Validator specific maximum number of bean types retained with {@link MetaDataCachePolicy#BOUNDED}.
+	 */
+	private final int metaDataCacheMaxSize;
+
+	/**
+	 * Hibernate Validator specific flag to use the meta data indexes generated by the annotation processor.
+	 */
+	private final boolean useMetaDataIndex;
+
 	/**
 	 * Metadata provider for XML configuration.
 	 */
@@ -137,8 +176,14 @@ public class ValidatorFactoryImpl implements HibernateValidatorFactory {
 
 	private final ValueExtractorManager valueExtractorManager;
 
+	/**
+	 * The user class loader, used to load the types of a package when warming up the meta data; may be {@code null}.
+	 */
+	private final ClassLoader externalClassLoader;
+
 	public ValidatorFactoryImpl(ConfigurationState configurationState) {
 		ClassLoader externalClassLoader = getExternalClassLoader( configurationState );
+		this.externalClassLoader = externalClassLoader;
 
 		this.messageInterpolator = configurationState.getMessageInterpolator();
 		this.traversableResolver = configurationState.getTraversableResolver();
@@ -150,9 +195,16 @@ public ValidatorFactoryImpl(ConfigurationState configurationState) {
 		this.executableHelper = new ExecutableHelper( typeResolutionHelper );
 
 		boolean tmpFailFast = false;
+		int tmpMaxViolations = 0;
+		boolean tmpLazyMessageInterpolation = false;
 		boolean tmpAllowOverridingMethodAlterParameterConstraint = false;
 		boolean tmpAllowMultipleCascadedValidationOnReturnValues = false;
 		boolean tmpAllowParallelMethodsDefineParameterConstraints = false;
+		PropertyAccessStrategy tmpPropertyAccessStrategy = PropertyAccessStrategy.REFLECTION;
+		MetaDataCachePolicy tmpMetaDataCachePolicy = MetaDataCachePolicy.SOFT;
+		int tmpMetaDataCacheMaxSize = HibernateValidatorConfiguration.DEFAULT_METADATA_CACHE_MAX_SIZE;
+		RegularExpressionEngine tmpRegularExpressionEngine = JavaRegularExpressionEngine.INSTANCE;
+		boolean tmpUseMetaDataIndex = false;
 		List<ValueExtractor<?>> tmpCascadedValueExtractors = new ArrayList<>( 5 );
 
 		if ( configurationState instanceof ConfigurationImpl ) {
@@ -160,6 +212,8 @@ public ValidatorFactoryImpl(ConfigurationState configurationState) {
 
 			// check whether fail fast is programmatically enabled
 			tmpFailFast = hibernateSpecificConfig.getFailFast();
+			tmpMaxViolations = hibernateSpecificConfig.getMaxViolations();
+			tmpLazyMessageInterpolation = hibernateSpecificConfig.getLazyMessageInterpolation();
 
 			tmpAllowOverridingMethodAlterParameterConstraint =
 					hibernateSpecificConfig.getMethodValidationConfiguration()
@@ -172,6 +226,12 @@ public ValidatorFactoryImpl(ConfigurationState configurationState) {
 							.isAllowParallelMethodsDefineParameterConstraints();
 
 			tmpCascadedValueExtractors = new ArrayList<>( hibernateSpecificConfig.getCascadedValueExtractors() );
+
+			tmpPropertyAccessStrategy = hibernateSpecificConfig.getPropertyAccessStrategy();
+			tmpMetaDataCachePolicy = hibernateSpecificConfig.getMetaDataCachePolicy();
+			tmpMetaDataCacheMaxSize = hibernateSpecificConfig.getMetaDataCacheMaxSize();
+			tmpRegularExpressionEngine = hibernateSpecificConfig.getRegularExpressionEngine();
+			tmpUseMetaDataIndex = hibernateSpecificConfig.getUseMetaDataIndex();
 		}
 
 		this.valueExtractorManager = new ValueExtractorManager( tmpCascadedValueExtractors );
@@ -199,6 +259,12 @@ public ValidatorFactoryImpl(ConfigurationState configurationState) {
 
 		tmpFailFast = checkPropertiesForBoolean( properties, HibernateValidatorConfiguration.FAIL_FAST, tmpFailFast );
 		this.failFast = tmpFailFast;
+		this.maxViolations = checkPropertiesForMaxViolations( properties, tmpMaxViolations );
+		this.lazyMessageInterpolation = checkPropertiesForBoolean(
+				properties,
+				HibernateValidatorConfiguration.LAZY_MESSAGE_INTERPOLATION,
+				tmpLazyMessageInterpolation
+		);
 
 		this.methodValidationConfiguration = new MethodValidationConfiguration();
 
@@ -229,7 +295,27 @@ public ValidatorFactoryImpl(ConfigurationState configurationState) {
 				tmpAllowParallelMethodsDefineParameterConstraints
 		);
 
-		this.constraintValidatorManager = new ConstraintValidatorManager( configurationState.getConstraintValidatorFactory() );
+		this.propertyAccessStrategy = checkPropertiesForPropertyAccessStrategy( properties, tmpPropertyAccessStrategy );
+		this.metaDataCachePolicy = checkPropertiesForMetaDataCachePolicy( properties, tmpMetaDataCachePolicy );
+		this.metaDataCacheMaxSize = checkPropertiesForMetaDataCacheMaxSize( properties, tmpMetaDataCacheMaxSize );
+		this.useMetaDataIndex = checkPropertiesForBoolean(
+				properties,
+				HibernateValidatorConfiguration.USE_METADATA_INDEX,
+				tmpUseMetaDataIndex
+		);
+
+		this.constraintValidatorManager = new ConstraintValidatorManager(
+				configurationState.getConstraintValidatorFactory(),
+				checkPropertiesForRegularExpressionEngine( properties, tmpRegularExpressionEngine, externalClassLoader )
+		);
+
+		Set<Class<?>> warmUpTypes = MetaDataWarmUp.resolveTypes(
+				properties.get( HibernateValidatorConfiguration.METADATA_WARM_UP ),
+				externalClassLoader
+		);
+		if ( !warmUpTypes.isEmpty() ) {
+			warmUpMetaData( warmUpTypes );
+		}
 	}
 
 	private static ClassLoader getExternalClassLoader(ConfigurationState configurationState) {
@@ -276,6 +362,8 @@ public Validator getValidator() {
 				parameterNameProvider,
 				clockProvider,
 				failFast,
+				maxViolations,
+				lazyMessageInterpolation,
 				valueExtractorManager,
 				methodValidationConfiguration
 		);
@@ -314,6 +402,22 @@ public boolean isFailFast() {
 		return failFast;
 	}
 
+	public int getMaxViolations() {
+		return maxViolations;
+	}
+
+	public boolean isLazyMessageInterpolation() {
+		return lazyMessageInterpolation;
+	}
+
+	/**
+	 * @return {@code true} if constraints may be defined by other means than annotations, i.e. via XML mapping files or
+	 * the programmatic API, {@code false} otherwise
+	 */
+	public boolean hasXmlOrProgrammaticConstraintMappings() {
+		return xmlMetaDataProvider != null || !constraintMappings.isEmpty();
+	}
+
 	ValueExtractorManager getValueExtractorManager() {
 		return valueExtractorManager;
 	}
@@ -332,9 +436,37 @@ public HibernateValidatorContext usingContext() {
 		return new ValidatorContextImpl( this );
 	}
 
+	@Override
+	public Map<Class<?>, Duration> warmUpMetaData(Iterable<Class<?>> beanClasses) {
+		BeanMetaDataManager beanMetaDataManager = getOrCreateBeanMetaDataManager(
+				parameterNameProvider,
+				valueExtractorManager,
+				methodValidationConfiguration
+		);
+
+		return MetaDataWarmUp.warmUp( beanMetaDataManager, beanClasses, externalClassLoader );
+	}
+
+	@Override
+	public Map<Class<?>, Duration> warmUpMetaData(String packageName) {
+		return warmUpMetaData( MetaDataWarmUp.getTypesInPackage( packageName, externalClassLoader ) );
+	}
+
+	@Override
+	public MetaDataCacheStatistics getMetaDataCacheStatistics() {
+		BeanMetaDataCache.Statistics statistics = new BeanMetaDataCache.Statistics( 0, 0, 0, 0, 0 );
+		synchronized ( beanMetaDataManagerMap ) {
+			for ( BeanMetaDataManager beanMetaDataManager : beanMetaDataManagerMap.values() ) {
+				statistics = statistics.add( beanMetaDataManager.getCacheStatistics() );
+			}
+		}
+		return statistics;
+	}
+
 	@Override
 	public void close() {
 		constraintValidatorManager.clear();
+		valueExtractorManager.clear();
 		for ( BeanMetaDataManager beanMetaDataManager : beanMetaDataManagerMap.values() ) {
 			beanMetaDataManager.clear();
 		}
@@ -349,25 +481,16 @@ Validator createValidator(ConstraintValidatorFactory constraintValidatorFactory,
 			ExecutableParameterNameProvider parameterNameProvider,
 			ClockProvider clockProvider,
 			boolean failFast,
+			int maxViolations,
+			boolean lazyMessageInterpolation,
 			ValueExtractorManager valueExtractorManager,
 			MethodValidationConfiguration methodValidationConfiguration) {
 
-		BeanMetaDataManager beanMetaDataManager;
-		if ( !beanMetaDataManagerMap.containsKey( parameterNameProvider ) ) {
-			beanMetaDataManager = new BeanMetaDataManager(
-					constraintHelper,
-					executableHelper,
-					typeResolutionHelper,
-					parameterNameProvider,
-					valueExtractorManager,
-					buildDataProviders( parameterNameProvider ),
-					methodValidationConfiguration
-			);
-			beanMetaDataManagerMap.put( parameterNameProvider, beanMetaDataManager );
-		}
-		else {
-			beanMetaDataManager = beanMetaDataManagerMap.get( parameterNameProvider );
-		}
+		BeanMetaDataManager beanMetaDataManager = getOrCreateBeanMetaDataManager(
+				parameterNameProvider,
+				valueExtractorManager,
+				methodValidationConfiguration
+		);
 
 		return new ValidatorImpl(
 				constraintValidatorFactory,
@@ -378,10 +501,37 @@ Validator createValidator(ConstraintValidatorFactory constraintValidatorFactory,
 				clockProvider,
 				valueExtractorManager,
 				constraintValidatorManager,
-				failFast
+				failFast,
+				maxViolations,
+				lazyMessageInterpolation
 		);
 	}
 
+	private BeanMetaDataManager getOrCreateBeanMetaDataManager(ExecutableParameterNameProvider parameterNameProvider,
+			ValueExtractorManager valueExtractorManager,
+			MethodValidationConfiguration methodValidationConfiguration) {
+		synchronized ( beanMetaDataManagerMap ) {
+			BeanMetaDataManager beanMetaDataManager = beanMetaDataManagerMap.get( parameterNameProvider );
+			if ( beanMetaDataManager == null ) {
+				beanMetaDataManager = new BeanMetaDataManager(
+						constraintHelper,
+						executableHelper,
+						typeResolutionHelper,
+						parameterNameProvider,
+						valueExtractorManager,
+						buildDataProviders( parameterNameProvider ),
+						methodValidationConfiguration,
+						propertyAccessStrategy,
+						BeanMetaDataCache.newInstance( metaDataCachePolicy, metaDataCacheMaxSize ),
+						useMetaDataIndex
+				);
+				beanMetaDataManagerMap.put( parameterNameProvider, beanMetaDataManager );
+			}
+
+			return beanMetaDataManager;
+		}
+	}
+
 	private List<MetaDataProvider> buildDataProviders(ExecutableParameterNameProvider parameterNameProvider) {
 		List<MetaDataProvider> metaDataProviders = newArrayList();
 		if ( xmlMetaDataProvider != null ) {
@@ -416,6 +566,101 @@ private boolean checkPropertiesForBoolean(Map<String, String> properties, String
 		return value;
 	}
 
+	private static PropertyAccessStrategy checkPropertiesForPropertyAccessStrategy(Map<String, String> properties,
+			PropertyAccessStrategy programmaticValue) {
+		String propertyStringValue = properties.get( HibernateValidatorConfiguration.PROPERTY_ACCESS_STRATEGY );
+		if ( propertyStringValue == null ) {
+			return programmaticValue;
+		}
+
+		for ( PropertyAccessStrategy propertyAccessStrategy : PropertyAccessStrategy.values() ) {
+			if ( propertyAccessStrategy.name().equalsIgnoreCase( propertyStringValue.trim() ) ) {
+				return propertyAccessStrategy;
+			}
+		}
+
+		throw log.getInvalidPropertyAccessStrategyException(
+				propertyStringValue,
+				Arrays.toString( PropertyAccessStrategy.values() )
+		);
+	}
+
+	private static int checkPropertiesForMaxViolations(Map<String, String> properties, int programmaticValue) {
+		String propertyStringValue = properties.get( HibernateValidatorConfiguration.MAX_VIOLATIONS );
+		if ( propertyStringValue == null ) {
+			return programmaticValue;
+		}
+
+		int maxViolations;
+		try {
+			maxViolations = Integer.parseInt( propertyStringValue.trim() );
+		}
+		catch (NumberFormatException e) {
+			throw log.getInvalidMaxViolationsException( propertyStringValue );
+		}
+
+		if ( maxViolations < 0 ) {
+			throw log.getInvalidMaxViolationsException( propertyStringValue );
+		}
+
+		return maxViolations;
+	}
+
+	private static MetaDataCachePolicy checkPropertiesForMetaDataCachePolicy(Map<String, String> properties,
+			MetaDataCachePolicy programmaticValue) {
+		String propertyStringValue = properties.get( HibernateValidatorConfiguration.METADATA_CACHE_POLICY );
+		if ( propertyStringValue == null ) {
+			return programmaticValue;
+		}
+
+		for ( MetaDataCachePolicy metaDataCachePolicy : MetaDataCachePolicy.values() ) {
+			if ( metaDataCachePolicy.name().equalsIgnoreCase( propertyStringValue.trim() ) ) {
+				return metaDataCachePolicy;
+			}
+		}
+
+		throw log.getInvalidMetaDataCachePolicyException(
+				propertyStringValue,
+				Arrays.toString( MetaDataCachePolicy.values() )
+		);
+	}
+
+	private static int checkPropertiesForMetaDataCacheMaxSize(Map<String, String> properties, int programmaticValue) {
+		String propertyStringValue = properties.get( HibernateValidatorConfiguration.METADATA_CACHE_MAX_SIZE );
+		if ( propertyStringValue == null ) {
+			return programmaticValue;
+		}
+
+		int maxSize;
+		try {
+			maxSize = Integer.parseInt( propertyStringValue.trim() );
+		}
+		catch (NumberFormatException e) {
+			throw log.getInvalidMetaDataCacheMaxSizeException( propertyStringValue );
+		}
+
+		if ( maxSize <= 0 ) {
+			throw log.getInvalidMetaDataCacheMaxSizeException( propertyStringValue );
+		}
+
+		return maxSize;
+	}
+
+	private static RegularExpressionEngine checkPropertiesForRegularExpressionEngine(Map<String, String> properties,
+			RegularExpressionEngine programmaticValue, ClassLoader externalClassLoader) {
+		String propertyStringValue = properties.get( HibernateValidatorConfiguration.REGULAR_EXPRESSION_ENGINE );
+		if ( StringHelper.isNullOrEmptyString( propertyStringValue ) ) {
+			return programmaticValue;
+		}
+
+		Class<?> engineType = run( LoadClass.action( propertyStringValue.trim(), externalClassLoader ) );
+		if ( !RegularExpressionEngine.class.isAssignableFrom( engineType ) ) {
+			throw log.getInvalidRegularExpressionEngineException( propertyStringValue, RegularExpressionEngine.class );
+		}
+
+		return run( NewInstance.action( engineType.asSubclass( RegularExpressionEngine.class ), "regular expression engine class" ) );
+	}
+
 	/**
 	 * Returns a list with {@link ConstraintMappingContributor}s configured via the
 	 * {@link HibernateValidatorConfiguration#CONSTRAINT_MAPPING_CONTRIBUTORS} property.
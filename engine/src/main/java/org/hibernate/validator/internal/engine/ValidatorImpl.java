@@ -14,14 +14,12 @@
 import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
 import java.lang.reflect.TypeVariable;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 
 import javax.validation.ClockProvider;
@@ -38,8 +36,6 @@
 import javax.validation.valueextraction.ValueExtractor;
 
 import org.hibernate.validator.internal.engine.ValidationContext.ValidationContextBuilder;
-import org.hibernate.validator.internal.engine.cascading.AnnotatedObject;
-import org.hibernate.validator.internal.engine.cascading.ArrayElement;
 import org.hibernate.validator.internal.engine.cascading.ValueExtractorDescriptor;
 import org.hibernate.validator.internal.engine.cascading.ValueExtractorManager;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
@@ -69,7 +65,6 @@
 import org.hibernate.validator.internal.util.ExecutableParameterNameProvider;
 import org.hibernate.validator.internal.util.ReflectionHelper;
 import org.hibernate.validator.internal.util.TypeHelper;
-import org.hibernate.validator.internal.util.TypeVariableBindings;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 
@@ -138,6 +133,16 @@ public class ValidatorImpl implements Validator, ExecutableValidator {
 	 */
 	private final boolean failFast;
 
+	/**
+	 * The maximum number of constraint violations after which validation is stopped; {@code 0} means no limit.
+	 */
+	private final int maxViolations;
+
+	/**
+	 * Indicates if the constraint violation messages are interpolated on first access only.
+	 */
+	private final boolean lazyMessageInterpolation;
+
 	private final ValueExtractorManager valueExtractorManager;
 
 	public ValidatorImpl(ConstraintValidatorFactory constraintValidatorFactory,
@@ -148,7 +153,9 @@ public ValidatorImpl(ConstraintValidatorFactory constraintValidatorFactory,
 			ClockProvider clockProvider,
 			ValueExtractorManager valueExtractorManager,
 			ConstraintValidatorManager constraintValidatorManager,
-			boolean failFast) {
+			boolean failFast,
+			int maxViolations,
+			boolean lazyMessageInterpolation) {
 		this.constraintValidatorFactory = constraintValidatorFactory;
 		this.messageInterpolator = messageInterpolator;
 		this.traversableResolver = traversableResolver;
@@ -158,6 +165,8 @@ public ValidatorImpl(ConstraintValidatorFactory constraintValidatorFactory,
 		this.valueExtractorManager = valueExtractorManager;
 		this.constraintValidatorManager = constraintValidatorManager;
 		this.failFast = failFast;
+		this.maxViolations = maxViolations;
+		this.lazyMessageInterpolation = lazyMessageInterpolation;
 
 		validationOrderGenerator = new ValidationOrderGenerator();
 	}
@@ -171,12 +180,13 @@ public final <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... grou
 		}
 
 		ValidationOrder validationOrder = determineGroupValidationOrder( groups );
-		ValidationContext<T> validationContext = getValidationContext().forValidate( object );
+		BeanMetaData<?> rootBeanMetaData = beanMetaDataManager.getBeanMetaData( object.getClass() );
+		ValidationContext<T> validationContext = getValidationContext().forValidate( object, rootBeanMetaData );
 
 		ValueContext<?, Object> valueContext = ValueContext.getLocalExecutionContext(
 				parameterNameProvider,
 				object,
-				beanMetaDataManager.getBeanMetaData( object.getClass() ),
+				rootBeanMetaData,
 				PathImpl.createRootPath()
 		);
 
@@ -329,7 +339,9 @@ private ValidationContextBuilder getValidationContext() {
 				constraintValidatorFactory,
 				getCachingTraversableResolver(),
 				clockProvider,
-				failFast
+				failFast,
+				maxViolations,
+				lazyMessageInterpolation
 		);
 	}
 
@@ -603,6 +615,10 @@ public void keyedValue(String nodeName, Object key, Object value) {
 		}
 
 		private void doValidate(Object value, String nodeName) {
+			if ( shouldFailFast( validationContext ) ) {
+				return;
+			}
+
 			PathImpl before = valueContext.getPropertyPath();
 
 			if ( nodeName != null ) {
@@ -659,13 +675,17 @@ private void validateCascadedConstraints(ValidationContext<?> validationContext,
 			// reset the path
 			valueContext.setPropertyPath( originalPath );
 			valueContext.setCurrentGroup( originalGroup );
+
+			if ( shouldFailFast( validationContext ) ) {
+				return;
+			}
 		}
 	}
 
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	private void validateCascadedValues(Object value, ValidationContext<?> context, ValueContext<?, ?> valueContext, Cascadable cascadable, ValidationOrder validationOrder) {
 		for ( TypeVariable<?> cascadingTypeParameter : cascadable.getCascadingTypeParameters() ) {
-			List<TypeVariable<?>> cascadingTypeParametersOfValueType = getCorrespondingTypeParametersInSubType(
+			List<TypeVariable<?>> cascadingTypeParametersOfValueType = valueExtractorManager.getCorrespondingTypeParametersInSubType(
 					value.getClass(),
 					TypeHelper.getErasedReferenceType( cascadable.getCascadableType() ),
 					cascadingTypeParameter
@@ -689,36 +709,6 @@ private void validateCascadedValues(Object value, ValidationContext<?> context,
 		}
 	}
 
-	/**
-	 * Returns those type parameter(s) of the given value type which correspond to the given type variable of the given
-	 * super-type.
-	 */
-	private List<TypeVariable<?>> getCorrespondingTypeParametersInSubType(Class<?> subType, Class<?> superType, TypeVariable<?> typeParameterOfSuperType) {
-		if ( typeParameterOfSuperType == AnnotatedObject.INSTANCE ) {
-			return Collections.singletonList( AnnotatedObject.INSTANCE );
-		}
-		else if ( typeParameterOfSuperType == ArrayElement.INSTANCE ) {
-			return Collections.singletonList( ArrayElement.INSTANCE );
-		}
-
-		List<TypeVariable<?>> correspondingTypeParameters = new ArrayList<>();
-
-		Map<Class<?>, Map<TypeVariable<?>, TypeVariable<?>>> allBindings = TypeVariableBindings.getTypeVariableBindings( subType );
-		Map<TypeVariable<?>, TypeVariable<?>> bindingsOfSuperType = allBindings.get( superType );
-
-		// collect all type parameters of the sub-type that map to the given type parameter of the super-type
-		// TODO should only be null until migrated off of value unwrappers
-		if ( bindingsOfSuperType != null ) {
-			for ( Entry<TypeVariable<?>, TypeVariable<?>> binding : bindingsOfSuperType.entrySet() ) {
-				if ( typeParameterOfSuperType == binding.getValue() ) {
-					correspondingTypeParameters.add( binding.getKey() );
-				}
-			}
-		}
-
-		return correspondingTypeParameters;
-	}
-
 	private class CascadingValueReceiver implements ValueExtractor.ValueReceiver {
 
 		private final ValidationContext<?> context;
@@ -1395,7 +1385,7 @@ private boolean isReturnValueValidation(PathImpl path) {
 	}
 
 	private boolean shouldFailFast(ValidationContext<?> context) {
-		return context.isFailFastModeEnabled() && !context.getFailingConstraints().isEmpty();
+		return context.isViolationBudgetExhausted();
 	}
 
 	private PropertyMetaData getBeanPropertyMetaData(BeanMetaData<?> beanMetaData, Path.Node propertyNode ) {
@@ -6,6 +6,9 @@
  */
 package org.hibernate.validator.internal.engine.cascading;
 
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.SOFT;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.WEAK;
+
 import java.lang.reflect.TypeVariable;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
@@ -13,11 +16,15 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 import javax.validation.ValidationException;
 import javax.validation.valueextraction.ValueExtractor;
 
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
 import org.hibernate.validator.internal.util.TypeHelper;
 import org.hibernate.validator.internal.util.TypeVariableBindings;
 import org.hibernate.validator.internal.util.privilegedactions.LoadClass;
@@ -28,8 +35,34 @@
  */
 public class ValueExtractorManager {
 
+	private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+	/**
+	 * Placeholder cached for those runtime types and type parameters for which there is no matching value extractor.
+	 * Never returned to callers.
+	 */
+	private static final ValueExtractorDescriptor NO_VALUE_EXTRACTOR = new ValueExtractorDescriptor( ObjectValueExtractor.INSTANCE );
+
 	private final List<ValueExtractorDescriptor> valueExtractors;
 
+	/**
+	 * Cache of the value extractors resolved by {@link #getValueExtractor(Class, TypeVariable)}, keyed by runtime value
+	 * type and type parameter.
+	 * <p>
+	 * The runtime types are weakly referenced so that they can be unloaded. The per type caches are softly referenced,
+	 * as they may reference the runtime type themselves through its type parameters.
+	 */
+	private final ConcurrentReferenceHashMap<Class<?>, ConcurrentMap<TypeVariable<?>, ValueExtractorDescriptor>> valueExtractorCache;
+
+	/**
+	 * Cache of the type parameters resolved by
+	 * {@link #getCorrespondingTypeParametersInSubType(Class, Class, TypeVariable)}, keyed by sub-type, super-type and
+	 * type parameter.
+	 * <p>
+	 * The sub-types are weakly referenced and the per type caches softly referenced, see {@link #valueExtractorCache}.
+	 */
+	private final ConcurrentReferenceHashMap<Class<?>, ConcurrentMap<TypeParameterCacheKey, List<TypeVariable<?>>>> correspondingTypeParametersCache;
+
 	public ValueExtractorManager(Iterable<ValueExtractor<?>> externalExtractors) {
 		List<ValueExtractorDescriptor> tmpValueExtractors = new ArrayList<>();
 
@@ -66,6 +99,9 @@ public ValueExtractorManager(Iterable<ValueExtractor<?>> externalExtractors) {
 		tmpValueExtractors.add( new ValueExtractorDescriptor( ObjectValueExtractor.INSTANCE ) );
 
 		valueExtractors = Collections.unmodifiableList( tmpValueExtractors );
+
+		valueExtractorCache = new ConcurrentReferenceHashMap<>( DEFAULT_INITIAL_CAPACITY, WEAK, SOFT );
+		correspondingTypeParametersCache = new ConcurrentReferenceHashMap<>( DEFAULT_INITIAL_CAPACITY, WEAK, SOFT );
 	}
 
 	/**
@@ -87,7 +123,74 @@ public ValueExtractorDescriptor getValueExtractor(Class<?> valueType) {
 		}
 	}
 
+	/**
+	 * Returns the value extractor extracting the given type parameter from the given value type or {@code null} if
+	 * none was found. The result is cached per value type and type parameter.
+	 */
 	public ValueExtractorDescriptor getValueExtractor(Class<?> valueType, TypeVariable<?> typeParameter) {
+		ConcurrentMap<TypeVariable<?>, ValueExtractorDescriptor> valueExtractorsOfValueType = getCacheOfType( valueExtractorCache, valueType );
+
+		ValueExtractorDescriptor valueExtractorDescriptor = valueExtractorsOfValueType.get( typeParameter );
+
+		if ( valueExtractorDescriptor == null ) {
+			valueExtractorDescriptor = findValueExtractor( valueType, typeParameter );
+			valueExtractorsOfValueType.putIfAbsent( typeParameter, valueExtractorDescriptor != null ? valueExtractorDescriptor : NO_VALUE_EXTRACTOR );
+			return valueExtractorDescriptor;
+		}
+
+		return valueExtractorDescriptor != NO_VALUE_EXTRACTOR ? valueExtractorDescriptor : null;
+	}
+
+	/**
+	 * Returns those type parameter(s) of the given value type which correspond to the given type variable of the given
+	 * super-type. The result is cached per sub-type, super-type and type parameter.
+	 */
+	public List<TypeVariable<?>> getCorrespondingTypeParametersInSubType(Class<?> subType, Class<?> superType, TypeVariable<?> typeParameterOfSuperType) {
+		if ( typeParameterOfSuperType == AnnotatedObject.INSTANCE ) {
+			return Collections.singletonList( AnnotatedObject.INSTANCE );
+		}
+		else if ( typeParameterOfSuperType == ArrayElement.INSTANCE ) {
+			return Collections.singletonList( ArrayElement.INSTANCE );
+		}
+
+		ConcurrentMap<TypeParameterCacheKey, List<TypeVariable<?>>> correspondingTypeParametersOfSubType = getCacheOfType(
+				correspondingTypeParametersCache,
+				subType
+		);
+		TypeParameterCacheKey key = new TypeParameterCacheKey( superType, typeParameterOfSuperType );
+
+		List<TypeVariable<?>> correspondingTypeParameters = correspondingTypeParametersOfSubType.get( key );
+
+		if ( correspondingTypeParameters == null ) {
+			correspondingTypeParameters = Collections.unmodifiableList(
+					findCorrespondingTypeParametersInSubType( subType, superType, typeParameterOfSuperType )
+			);
+			correspondingTypeParametersOfSubType.putIfAbsent( key, correspondingTypeParameters );
+		}
+
+		return correspondingTypeParameters;
+	}
+
+	private static <K, V> ConcurrentMap<K, V> getCacheOfType(ConcurrentReferenceHashMap<Class<?>, ConcurrentMap<K, V>> cache, Class<?> type) {
+		ConcurrentMap<K, V> cacheOfType = cache.get( type );
+
+		if ( cacheOfType == null ) {
+			cacheOfType = new ConcurrentHashMap<>();
+			ConcurrentMap<K, V> cachedCacheOfType = cache.putIfAbsent( type, cacheOfType );
+			if ( cachedCacheOfType != null ) {
+				cacheOfType = cachedCacheOfType;
+			}
+		}
+
+		return cacheOfType;
+	}
+
+	public void clear() {
+		valueExtractorCache.clear();
+		correspondingTypeParametersCache.clear();
+	}
+
+	private ValueExtractorDescriptor findValueExtractor(Class<?> valueType, TypeVariable<?> typeParameter) {
 		Map<Class<?>, Map<TypeVariable<?>, TypeVariable<?>>> allBindings = null;
 
 		if ( typeParameter != AnnotatedObject.INSTANCE && typeParameter != ArrayElement.INSTANCE ) {
@@ -118,6 +221,25 @@ public ValueExtractorDescriptor getValueExtractor(Class<?> valueType, TypeVariab
 		return null;
 	}
 
+	private List<TypeVariable<?>> findCorrespondingTypeParametersInSubType(Class<?> subType, Class<?> superType, TypeVariable<?> typeParameterOfSuperType) {
+		List<TypeVariable<?>> correspondingTypeParameters = new ArrayList<>();
+
+		Map<Class<?>, Map<TypeVariable<?>, TypeVariable<?>>> allBindings = TypeVariableBindings.getTypeVariableBindings( subType );
+		Map<TypeVariable<?>, TypeVariable<?>> bindingsOfSuperType = allBindings.get( superType );
+
+		// collect all type parameters of the sub-type that map to the given type parameter of the super-type
+		// TODO should only be null until migrated off of value unwrappers
+		if ( bindingsOfSuperType != null ) {
+			for ( Entry<TypeVariable<?>, TypeVariable<?>> binding : bindingsOfSuperType.entrySet() ) {
+				if ( typeParameterOfSuperType == binding.getValue() ) {
+					correspondingTypeParameters.add( binding.getKey() );
+				}
+			}
+		}
+
+		return correspondingTypeParameters;
+	}
+
 	private TypeVariable<?> bind(TypeVariable<?> typeParameter, Map<TypeVariable<?>, TypeVariable<?>> bindings) {
 		TypeVariable<?> bound = null;
 
@@ -151,4 +273,42 @@ private boolean isClassPresent(String className, boolean fallbackOnTCCL) {
 	private <T> T run(PrivilegedAction<T> action) {
 		return System.getSecurityManager() != null ? AccessController.doPrivileged( action ) : action.run();
 	}
+
+	private static final class TypeParameterCacheKey {
+		private final Class<?> superType;
+		private final TypeVariable<?> typeParameterOfSuperType;
+		private final int hashCode;
+
+		private TypeParameterCacheKey(Class<?> superType, TypeVariable<?> typeParameterOfSuperType) {
+			this.superType = superType;
+			this.typeParameterOfSuperType = typeParameterOfSuperType;
+			this.hashCode = createHashCode();
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+
+			TypeParameterCacheKey other = (TypeParameterCacheKey) o;
+
+			return superType == other.superType
+					&& typeParameterOfSuperType.equals( other.typeParameterOfSuperType );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		private int createHashCode() {
+			int result = superType.hashCode();
+			result = 31 * result + typeParameterOfSuperType.hashCode();
+			return result;
+		}
+	}
 }
@@ -19,6 +19,7 @@
 import java.util.Set;
 
 import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorFactory;
 import javax.validation.ConstraintViolation;
 
 import org.hibernate.validator.constraints.CompositionType;
@@ -51,6 +52,13 @@
 
 	private final Type validatedValueType;
 
+	/**
+	 * The constraint validator for this tree's constraint, created via the default constraint validator factory.
+	 * Resolved on first use and kept here so that validations using the default factory don't need to go through
+	 * the cache of the {@link ConstraintValidatorManager}.
+	 */
+	private volatile ConstraintValidator<A, ?> defaultInitializedConstraintValidator;
+
 	public ConstraintTree(ConstraintDescriptorImpl<A> descriptor, Type validatedValueType) {
 		this( descriptor, validatedValueType, null );
 	}
@@ -83,8 +91,7 @@ public final ConstraintDescriptorImpl<A> getDescriptor() {
 
 	public final <T> boolean validateConstraints(ValidationContext<T> executionContext,
 			ValueContext<?, ?> valueContext) {
-		Set<ConstraintViolation<T>> constraintViolations = newHashSet();
-		validateConstraints( executionContext, valueContext, constraintViolations );
+		Set<ConstraintViolation<T>> constraintViolations = validateConstraintTree( executionContext, valueContext );
 		if ( !constraintViolations.isEmpty() ) {
 			executionContext.addConstraintFailures( constraintViolations );
 			return false;
@@ -92,12 +99,43 @@ public final <T> boolean validateConstraints(ValidationContext<T> executionConte
 		return true;
 	}
 
-	private <T> void validateConstraints(ValidationContext<T> validationContext,
-			ValueContext<?, ?> valueContext,
-			Set<ConstraintViolation<T>> constraintViolations) {
-		CompositionResult compositionResult = validateComposingConstraints(
-				validationContext, valueContext, constraintViolations
-		);
+	/**
+	 * Validates the constraint represented by this tree, including all its composing constraints.
+	 * <p>
+	 * No violation set is allocated as long as the value is valid: an empty (immutable) set is returned in this case.
+	 * Any non-empty set returned by this method is mutable and owned by the caller.
+	 *
+	 * @param validationContext meta data about top level validation
+	 * @param valueContext meta data for currently validated value
+	 *
+	 * @return the constraint violations of this tree; never {@code null}
+	 */
+	private <T> Set<ConstraintViolation<T>> validateConstraintTree(ValidationContext<T> validationContext,
+			ValueContext<?, ?> valueContext) {
+		Set<ConstraintViolation<T>> constraintViolations = Collections.emptySet();
+		boolean allTrue = true;
+		boolean atLeastOneTrue = false;
+
+		// Validates all composing constraints recursively
+		for ( int i = 0; i < children.size(); i++ ) {
+			Set<ConstraintViolation<T>> childViolations = children.get( i ).validateConstraintTree( validationContext, valueContext );
+
+			if ( childViolations.isEmpty() ) {
+				atLeastOneTrue = true;
+				// no need to further validate constraints, because at least one validation passed
+				if ( descriptor.getCompositionType() == OR ) {
+					break;
+				}
+			}
+			else {
+				constraintViolations = merge( constraintViolations, childViolations );
+				allTrue = false;
+				if ( descriptor.getCompositionType() == AND
+						&& ( validationContext.isFailFastModeEnabled() || descriptor.isReportAsSingleViolation() ) ) {
+					break;
+				}
+			}
+		}
 
 		Set<ConstraintViolation<T>> localViolations;
 
@@ -115,10 +153,8 @@ private <T> void validateConstraints(ValidationContext<T> validationContext,
 			// find the right constraint validator
 			ConstraintValidator<A, ?> validator = getInitializedConstraintValidator( validationContext, valueContext );
 
-			// create a constraint validator context
-			ConstraintValidatorContextImpl constraintValidatorContext = new ConstraintValidatorContextImpl(
-					validationContext.getParameterNames(),
-					validationContext.getClockProvider(),
+			// obtain the constraint validator context, shared by all the constraints of this validation call
+			ConstraintValidatorContextImpl constraintValidatorContext = validationContext.getConstraintValidatorContext(
 					valueContext.getPropertyPath(),
 					descriptor
 			);
@@ -134,21 +170,23 @@ private <T> void validateConstraints(ValidationContext<T> validationContext,
 			// We re-evaluate the boolean composition by taking into consideration also the violations
 			// from the local constraintValidator
 			if ( localViolations.isEmpty() ) {
-				compositionResult.setAtLeastOneTrue( true );
+				atLeastOneTrue = true;
 			}
 			else {
-				compositionResult.setAllTrue( false );
+				allTrue = false;
 			}
 		}
 		else {
 			localViolations = Collections.emptySet();
 		}
 
-		if ( !passesCompositionTypeRequirement( constraintViolations, compositionResult ) ) {
-			prepareFinalConstraintViolations(
-					validationContext, valueContext, constraintViolations, localViolations
-			);
+		if ( passesCompositionTypeRequirement( constraintViolations, allTrue, atLeastOneTrue ) ) {
+			return Collections.emptySet();
 		}
+
+		return prepareFinalConstraintViolations(
+				validationContext, valueContext, constraintViolations, localViolations
+		);
 	}
 
 	private void throwExceptionForNullValidator(Type validatedValueType, String path) {
@@ -175,12 +213,29 @@ private void throwExceptionForNullValidator(Type validatedValueType, String path
 
 	private <T> ConstraintValidator<A, ?> getInitializedConstraintValidator(ValidationContext<T> validationContext,
 			ValueContext<?, ?> valueContext) {
-		ConstraintValidator<A, ?> validator = validationContext.getConstraintValidatorManager()
-				.getInitializedValidator(
+		ConstraintValidatorManager constraintValidatorManager = validationContext.getConstraintValidatorManager();
+		ConstraintValidatorFactory constraintValidatorFactory = validationContext.getConstraintValidatorFactory();
+
+		ConstraintValidator<A, ?> validator;
+		if ( constraintValidatorFactory == constraintValidatorManager.getDefaultConstraintValidatorFactory() ) {
+			validator = defaultInitializedConstraintValidator;
+			if ( validator == null ) {
+				validator = constraintValidatorManager.getInitializedValidator(
 						validatedValueType,
 						descriptor,
-						validationContext.getConstraintValidatorFactory()
+						constraintValidatorFactory
 				);
+				defaultInitializedConstraintValidator = validator;
+			}
+		}
+		else {
+			// a non-default factory has been passed via the validator context, the manager takes care of caching
+			validator = constraintValidatorManager.getInitializedValidator(
+					validatedValueType,
+					descriptor,
+					constraintValidatorFactory
+			);
+		}
 
 		if ( validator == null ) {
 			throwExceptionForNullValidator( validatedValueType, valueContext.getPropertyPath().asString() );
@@ -216,16 +271,18 @@ private <T> boolean mainConstraintNeedsEvaluation(ValidationContext<T> execution
 	 *
 	 * @param executionContext meta data about top level validation
 	 * @param valueContext meta data for currently validated value
-	 * @param constraintViolations used to accumulate constraint violations
+	 * @param constraintViolations the constraint violations of the composing constraints
 	 * @param localViolations set of constraint violations of top level constraint
+	 *
+	 * @return the final constraint violations of this tree
 	 */
-	private <T> void prepareFinalConstraintViolations(ValidationContext<T> executionContext,
+	private <T> Set<ConstraintViolation<T>> prepareFinalConstraintViolations(ValidationContext<T> executionContext,
 			ValueContext<?, ?> valueContext,
 			Set<ConstraintViolation<T>> constraintViolations,
 			Set<ConstraintViolation<T>> localViolations) {
 		if ( reportAsSingleViolation() ) {
 			// We clear the current violations list anyway
-			constraintViolations.clear();
+			constraintViolations = Collections.emptySet();
 
 			// But then we need to distinguish whether the local ConstraintValidator has reported
 			// violations or not (or if there is no local ConstraintValidator at all).
@@ -240,6 +297,7 @@ private <T> void prepareFinalConstraintViolations(ValidationContext<T> execution
 				ConstraintViolation<T> violation = executionContext.createConstraintViolation(
 						valueContext, constraintViolationCreationContext, descriptor
 				);
+				constraintViolations = newHashSet( 1 );
 				constraintViolations.add( violation );
 			}
 		}
@@ -251,65 +309,43 @@ private <T> void prepareFinalConstraintViolations(ValidationContext<T> execution
 		// This takes also care of possible custom error messages created by the constraintValidator,
 		// as checked in test CustomErrorMessage.java
 		// If no violations have been reported from the local ConstraintValidator, or no such validator exists,
-		// then we just add an empty list.
-		constraintViolations.addAll( localViolations );
+		// then there is nothing to add.
+		return merge( constraintViolations, localViolations );
 	}
 
 	/**
-	 * Validates all composing constraints recursively.
-	 *
-	 * @param executionContext Meta data about top level validation
-	 * @param valueContext Meta data for currently validated value
-	 * @param constraintViolations Used to accumulate constraint violations
+	 * Merges the given additional violations into the given violations. The first set is only modified if both sets
+	 * are non-empty, so that no set needs to be allocated for merging.
 	 *
-	 * @return Returns an instance of {@code CompositionResult} relevant for boolean composition of constraints
+	 * @return the merged violations
 	 */
-	private <T> CompositionResult validateComposingConstraints(ValidationContext<T> executionContext,
-			ValueContext<?, ?> valueContext,
-			Set<ConstraintViolation<T>> constraintViolations) {
-		CompositionResult compositionResult = new CompositionResult( true, false );
-		List<ConstraintTree<?>> children = getChildren();
-		for ( ConstraintTree<?> tree : children ) {
-			Set<ConstraintViolation<T>> tmpViolations = newHashSet();
-			tree.validateConstraints( executionContext, valueContext, tmpViolations );
-			constraintViolations.addAll( tmpViolations );
-
-			if ( tmpViolations.isEmpty() ) {
-				compositionResult.setAtLeastOneTrue( true );
-				// no need to further validate constraints, because at least one validation passed
-				if ( descriptor.getCompositionType() == OR ) {
-					break;
-				}
-			}
-			else {
-				compositionResult.setAllTrue( false );
-				if ( descriptor.getCompositionType() == AND
-						&& ( executionContext.isFailFastModeEnabled() || descriptor.isReportAsSingleViolation() ) ) {
-					break;
-				}
-			}
+	private static <T> Set<ConstraintViolation<T>> merge(Set<ConstraintViolation<T>> constraintViolations,
+			Set<ConstraintViolation<T>> additionalViolations) {
+		if ( additionalViolations.isEmpty() ) {
+			return constraintViolations;
+		}
+		if ( constraintViolations.isEmpty() ) {
+			return additionalViolations;
 		}
-		return compositionResult;
+		constraintViolations.addAll( additionalViolations );
+		return constraintViolations;
 	}
 
-	private boolean passesCompositionTypeRequirement(Set<?> constraintViolations, CompositionResult compositionResult) {
+	private boolean passesCompositionTypeRequirement(Set<?> constraintViolations, boolean allTrue, boolean atLeastOneTrue) {
 		CompositionType compositionType = getDescriptor().getCompositionType();
 		boolean passedValidation = false;
 		switch ( compositionType ) {
 			case OR:
-				passedValidation = compositionResult.isAtLeastOneTrue();
+				passedValidation = atLeastOneTrue;
 				break;
 			case AND:
-				passedValidation = compositionResult.isAllTrue();
+				passedValidation = allTrue;
 				break;
 			case ALL_FALSE:
-				passedValidation = !compositionResult.isAtLeastOneTrue();
+				passedValidation = !atLeastOneTrue;
 				break;
 		}
 		assert ( !passedValidation || !( compositionType == AND ) || constraintViolations.isEmpty() );
-		if ( passedValidation ) {
-			constraintViolations.clear();
-		}
 		return passedValidation;
 	}
 
@@ -355,30 +391,4 @@ public String toString() {
 		sb.append( '}' );
 		return sb.toString();
 	}
-
-	private static final class CompositionResult {
-		private boolean allTrue;
-		private boolean atLeastOneTrue;
-
-		CompositionResult(boolean allTrue, boolean atLeastOneTrue) {
-			this.allTrue = allTrue;
-			this.atLeastOneTrue = atLeastOneTrue;
-		}
-
-		public boolean isAllTrue() {
-			return allTrue;
-		}
-
-		public boolean isAtLeastOneTrue() {
-			return atLeastOneTrue;
-		}
-
-		public void setAllTrue(boolean allTrue) {
-			this.allTrue = allTrue;
-		}
-
-		public void setAtLeastOneTrue(boolean atLeastOneTrue) {
-			this.atLeastOneTrue = atLeastOneTrue;
-		}
-	}
 }
@@ -10,6 +10,7 @@
 import static org.hibernate.validator.internal.util.CollectionHelper.newHashMap;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -39,15 +40,23 @@ public class ConstraintValidatorContextImpl implements HibernateConstraintValida
 
 	private static final Log log = LoggerFactory.make();
 
-	private final Map<String, Object> expressionVariables = newHashMap();
 	private final List<String> methodParameterNames;
 	private final ClockProvider clockProvider;
-	private final List<ConstraintViolationCreationContext> constraintViolationCreationContexts = newArrayList( 3 );
-	private final PathImpl basePath;
-	private final ConstraintDescriptor<?> constraintDescriptor;
+	private PathImpl basePath;
+	private ConstraintDescriptor<?> constraintDescriptor;
 	private boolean defaultDisabled;
 	private Object dynamicPayload;
 
+	/**
+	 * Only created when an expression variable gets added, as most validators never do so.
+	 */
+	private Map<String, Object> expressionVariables;
+
+	/**
+	 * Only created when a custom violation gets added, as most validators never do so.
+	 */
+	private List<ConstraintViolationCreationContext> constraintViolationCreationContexts;
+
 	public ConstraintValidatorContextImpl(List<String> methodParameterNames, ClockProvider clockProvider, PathImpl propertyPath,
 			ConstraintDescriptor<?> constraintDescriptor) {
 		this.methodParameterNames = methodParameterNames;
@@ -56,6 +65,27 @@ public ConstraintValidatorContextImpl(List<String> methodParameterNames, ClockPr
 		this.constraintDescriptor = constraintDescriptor;
 	}
 
+	/**
+	 * Prepares this context for the validation of another constraint, discarding any state left by the previous
+	 * validation. This allows to use one context for all the constraints validated within a given validation call.
+	 *
+	 * @param propertyPath the path of the value to be validated
+	 * @param constraintDescriptor the descriptor of the constraint to be validated
+	 */
+	public void reset(PathImpl propertyPath, ConstraintDescriptor<?> constraintDescriptor) {
+		this.basePath = propertyPath;
+		this.constraintDescriptor = constraintDescriptor;
+		this.defaultDisabled = false;
+		this.dynamicPayload = null;
+
+		if ( expressionVariables != null ) {
+			expressionVariables.clear();
+		}
+		if ( constraintViolationCreationContexts != null ) {
+			constraintViolationCreationContexts.clear();
+		}
+	}
+
 	@Override
 	public final void disableDefaultConstraintViolation() {
 		defaultDisabled = true;
@@ -87,6 +117,9 @@ public <T> T unwrap(Class<T> type) {
 	@Override
 	public HibernateConstraintValidatorContext addExpressionVariable(String name, Object value) {
 		Contracts.assertNotNull( name, "null is not a valid value" );
+		if ( expressionVariables == null ) {
+			expressionVariables = newHashMap();
+		}
 		this.expressionVariables.put( name, value );
 		return this;
 	}
@@ -107,21 +140,24 @@ public final ConstraintDescriptor<?> getConstraintDescriptor() {
 	}
 
 	public final List<ConstraintViolationCreationContext> getConstraintViolationCreationContexts() {
-		if ( defaultDisabled && constraintViolationCreationContexts.size() == 0 ) {
+		boolean hasCustomViolations = constraintViolationCreationContexts != null && !constraintViolationCreationContexts.isEmpty();
+
+		if ( defaultDisabled && !hasCustomViolations ) {
 			throw log.getAtLeastOneCustomMessageMustBeCreatedException();
 		}
 
 		List<ConstraintViolationCreationContext> returnedConstraintViolationCreationContexts = new ArrayList<ConstraintViolationCreationContext>(
-				constraintViolationCreationContexts
+				hasCustomViolations ? constraintViolationCreationContexts.size() + 1 : 1
 		);
+		if ( hasCustomViolations ) {
+			returnedConstraintViolationCreationContexts.addAll( constraintViolationCreationContexts );
+		}
 		if ( !defaultDisabled ) {
-			Map<String, Object> parameterMapCopy = newHashMap();
-			parameterMapCopy.putAll( expressionVariables );
 			returnedConstraintViolationCreationContexts.add(
 					new ConstraintViolationCreationContext(
 							getDefaultConstraintMessageTemplate(),
 							basePath,
-							parameterMapCopy,
+							copyExpressionVariables(),
 							dynamicPayload
 					)
 			);
@@ -133,6 +169,16 @@ public List<String> getMethodParameterNames() {
 		return methodParameterNames;
 	}
 
+	private Map<String, Object> copyExpressionVariables() {
+		if ( expressionVariables == null || expressionVariables.isEmpty() ) {
+			return Collections.emptyMap();
+		}
+
+		Map<String, Object> expressionVariablesCopy = newHashMap();
+		expressionVariablesCopy.putAll( expressionVariables );
+		return expressionVariablesCopy;
+	}
+
 	private abstract class NodeBuilderBase {
 		protected final String messageTemplate;
 		protected PathImpl propertyPath;
@@ -143,13 +189,14 @@ protected NodeBuilderBase(String template, PathImpl path) {
 		}
 
 		public ConstraintValidatorContext addConstraintViolation() {
-			Map<String, Object> parameterMapCopy = newHashMap();
-			parameterMapCopy.putAll( expressionVariables );
+			if ( constraintViolationCreationContexts == null ) {
+				constraintViolationCreationContexts = newArrayList( 3 );
+			}
 			constraintViolationCreationContexts.add(
 					new ConstraintViolationCreationContext(
 							messageTemplate,
 							propertyPath,
-							parameterMapCopy,
+							copyExpressionVariables(),
 							dynamicPayload
 					)
 			);
@@ -14,7 +14,10 @@
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+import javax.validation.ConstraintDeclarationException;
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 import javax.validation.ConstraintValidatorFactory;
@@ -22,10 +25,12 @@
 import javax.validation.metadata.ConstraintDescriptor;
 
 import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
 import org.hibernate.validator.internal.util.Contracts;
 import org.hibernate.validator.internal.util.TypeHelper;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.spi.regex.RegularExpressionEngine;
 
 /**
  * Manager in charge of providing and caching initialized {@code ConstraintValidator} instances.
@@ -35,6 +40,12 @@
 public class ConstraintValidatorManager {
 	private static final Log log = LoggerFactory.make();
 
+	/**
+	 * The maximum number of non default constraint validator factories for which {@code ConstraintValidator} instances
+	 * are cached.
+	 */
+	public static final int MAX_CACHED_NON_DEFAULT_CONSTRAINT_VALIDATOR_FACTORIES = 32;
+
 	/**
 	 * Dummy {@code ConstraintValidator} used as placeholder for the case that for a given context there exists
 	 * no matching constraint validator instance
@@ -50,21 +61,34 @@ public boolean isValid(Object value, ConstraintValidatorContext context) {
 	/**
 	 * The explicit or implicit default constraint validator factory. We always cache {@code ConstraintValidator} instances
 	 * if they are created via the default instance. Constraint validator instances created via other factory
-	 * instances (specified eg via {@code ValidatorFactory#usingContext()} are only cached for the least recently used
-	 * factory
+	 * instances (specified eg via {@code ValidatorFactory#usingContext()} are cached per factory for at most
+	 * {@link #MAX_CACHED_NON_DEFAULT_CONSTRAINT_VALIDATOR_FACTORIES} factories at a time.
 	 */
 	private final ConstraintValidatorFactory defaultConstraintValidatorFactory;
 
 	/**
-	 * The least recently used non default constraint validator factory.
+	 * Cache of initialized {@code ConstraintValidator} instances created via the default constraint validator factory,
+	 * keyed against validated type and annotation ({@code CacheKey}).
 	 */
-	private ConstraintValidatorFactory leastRecentlyUsedNonDefaultConstraintValidatorFactory;
+	private final ConcurrentHashMap<CacheKey, ConstraintValidator<?, ?>> constraintValidatorCache;
 
 	/**
-	 * Cache of initialized {@code ConstraintValidator} instances keyed against validates type, annotation and
-	 * constraint validator factory ({@code CacheKey}).
+	 * Caches of initialized {@code ConstraintValidator} instances created via non default constraint validator
+	 * factories, keyed against validated type and annotation. The factories are weakly referenced so that the caches of
+	 * the factories which are not used anymore are discarded.
 	 */
-	private final ConcurrentHashMap<CacheKey, ConstraintValidator<?, ?>> constraintValidatorCache;
+	private final ConcurrentReferenceHashMap<ConstraintValidatorFactory, NonDefaultConstraintValidatorCache> nonDefaultConstraintValidatorCaches;
+
+	/**
+	 * Logical clock used to stamp the caches of the non default constraint validator factories upon access, so that
+	 * the least recently used one can be evicted.
+	 */
+	private final AtomicLong nonDefaultConstraintValidatorCachesClock = new AtomicLong();
+
+	/**
+	 * Cache of the regular expressions compiled for the initialized {@code ConstraintValidator} instances.
+	 */
+	private final RegularExpressionCache regularExpressionCache;
 
 	/**
 	 * Creates a new {@code ConstraintValidatorManager}.
@@ -72,8 +96,21 @@ public boolean isValid(Object value, ConstraintValidatorContext context) {
 	 * @param constraintValidatorFactory the validator factory
 	 */
 	public ConstraintValidatorManager(ConstraintValidatorFactory constraintValidatorFactory) {
+		this( constraintValidatorFactory, JavaRegularExpressionEngine.INSTANCE );
+	}
+
+	/**
+	 * Creates a new {@code ConstraintValidatorManager}.
+	 *
+	 * @param constraintValidatorFactory the validator factory
+	 * @param regularExpressionEngine the engine compiling the regular expressions of the constraints
+	 */
+	public ConstraintValidatorManager(ConstraintValidatorFactory constraintValidatorFactory,
+			RegularExpressionEngine regularExpressionEngine) {
 		this.defaultConstraintValidatorFactory = constraintValidatorFactory;
 		this.constraintValidatorCache = new ConcurrentHashMap<>();
+		this.nonDefaultConstraintValidatorCaches = new ConcurrentReferenceHashMap<>();
+		this.regularExpressionCache = new RegularExpressionCache( regularExpressionEngine );
 	}
 
 	/**
@@ -94,15 +131,13 @@ public ConstraintValidatorManager(ConstraintValidatorFactory constraintValidator
 
 		final CacheKey key = new CacheKey(
 				descriptor.getAnnotation(),
-				validatedValueType,
-				constraintFactory
+				validatedValueType
 		);
+		final ConcurrentMap<CacheKey, ConstraintValidator<?, ?>> cache = getConstraintValidatorCache( constraintFactory );
 
-		if ( constraintValidatorCache.containsKey( key ) ) {
-			@SuppressWarnings("unchecked")
-			ConstraintValidator<A, ?> constraintValidator = (ConstraintValidator<A, ?>) constraintValidatorCache.get(
-					key
-			);
+		@SuppressWarnings("unchecked")
+		ConstraintValidator<A, ?> constraintValidator = (ConstraintValidator<A, ?>) cache.get( key );
+		if ( constraintValidator != null ) {
 			if ( DUMMY_CONSTRAINT_VALIDATOR.equals( constraintValidator ) ) {
 				return null;
 			}
@@ -116,49 +151,100 @@ public ConstraintValidatorManager(ConstraintValidatorFactory constraintValidator
 				descriptor,
 				validatedValueType
 		);
-		ConstraintValidator<A, ?> constraintValidator = createAndInitializeValidator(
+		constraintValidator = createAndInitializeValidator(
 				constraintFactory,
 				validatorDescriptor,
 				descriptor
 		);
 		if ( constraintValidator == null ) {
-			putInitializedValidator(
-					validatedValueType,
-					descriptor.getAnnotation(),
-					constraintFactory,
-					DUMMY_CONSTRAINT_VALIDATOR
-			);
+			putInitializedValidator( cache, key, DUMMY_CONSTRAINT_VALIDATOR );
 			return null;
 		}
 		else {
-			putInitializedValidator(
-					validatedValueType,
-					descriptor.getAnnotation(),
-					constraintFactory,
+			@SuppressWarnings("unchecked")
+			ConstraintValidator<A, ?> cachedConstraintValidator = (ConstraintValidator<A, ?>) putInitializedValidator(
+					cache,
+					key,
 					constraintValidator
 			);
-			return constraintValidator;
-
+			// another thread cached its instance in the meantime, the one created here will never be used
+			if ( cachedConstraintValidator != constraintValidator ) {
+				constraintFactory.releaseInstance( constraintValidator );
+			}
+			return cachedConstraintValidator;
 		}
 	}
 
-	private void putInitializedValidator(Type validatedValueType,
-			Annotation annotation,
-			ConstraintValidatorFactory constraintFactory,
+	/**
+	 * Caches the given constraint validator.
+	 *
+	 * @return the constraint validator which is cached for the given key; this is the instance which got added by
+	 * another thread in the meantime if any, the passed instance otherwise
+	 */
+	private ConstraintValidator<?, ?> putInitializedValidator(ConcurrentMap<CacheKey, ConstraintValidator<?, ?>> cache,
+			CacheKey key,
 			ConstraintValidator<?, ?> constraintValidator) {
-		// we only cache constraint validator instance for the default and least recently used factory
-		if ( constraintFactory != defaultConstraintValidatorFactory && constraintFactory != leastRecentlyUsedNonDefaultConstraintValidatorFactory ) {
-			clearEntriesForFactory( leastRecentlyUsedNonDefaultConstraintValidatorFactory );
-			leastRecentlyUsedNonDefaultConstraintValidatorFactory = constraintFactory;
+		ConstraintValidator<?, ?> cachedConstraintValidator = cache.putIfAbsent( key, constraintValidator );
+		return cachedConstraintValidator != null ? cachedConstraintValidator : constraintValidator;
+	}
+
+	/**
+	 * Returns the cache of the {@code ConstraintValidator} instances created via the given factory, creating it if
+	 * required.
+	 * <p>
+	 * When the cache of a new non default factory is created and more than
+	 * {@link #MAX_CACHED_NON_DEFAULT_CONSTRAINT_VALIDATOR_FACTORIES} factories are cached, the cache of the least
+	 * recently used factory is discarded.
+	 */
+	private ConcurrentMap<CacheKey, ConstraintValidator<?, ?>> getConstraintValidatorCache(ConstraintValidatorFactory constraintFactory) {
+		if ( constraintFactory == defaultConstraintValidatorFactory ) {
+			return constraintValidatorCache;
 		}
 
-		final CacheKey key = new CacheKey(
-				annotation,
-				validatedValueType,
-				constraintFactory
-		);
+		NonDefaultConstraintValidatorCache cache = nonDefaultConstraintValidatorCaches.get( constraintFactory );
+		if ( cache != null ) {
+			if ( cache.lastAccess < nonDefaultConstraintValidatorCachesClock.get() ) {
+				cache.lastAccess = nonDefaultConstraintValidatorCachesClock.incrementAndGet();
+			}
+			return cache.constraintValidators;
+		}
 
-		constraintValidatorCache.putIfAbsent( key, constraintValidator );
+		cache = new NonDefaultConstraintValidatorCache( nonDefaultConstraintValidatorCachesClock.incrementAndGet() );
+		NonDefaultConstraintValidatorCache cachedCache = nonDefaultConstraintValidatorCaches.putIfAbsent( constraintFactory, cache );
+		if ( cachedCache != null ) {
+			return cachedCache.constraintValidators;
+		}
+
+		evictNonDefaultConstraintValidatorCaches( constraintFactory );
+		return cache.constraintValidators;
+	}
+
+	/**
+	 * Discards the caches of the least recently used non default factories until at most
+	 * {@link #MAX_CACHED_NON_DEFAULT_CONSTRAINT_VALIDATOR_FACTORIES} of them are cached. The oldest cache is looked up
+	 * by scanning all the caches, which is fine as it only happens when the cache of a new factory has been added.
+	 * <p>
+	 * The instances of a discarded cache are not released via their factory, as other threads may still be using
+	 * them or even be adding instances to the discarded cache.
+	 */
+	private void evictNonDefaultConstraintValidatorCaches(ConstraintValidatorFactory addedConstraintFactory) {
+		while ( nonDefaultConstraintValidatorCaches.size() > MAX_CACHED_NON_DEFAULT_CONSTRAINT_VALIDATOR_FACTORIES ) {
+			ConstraintValidatorFactory leastRecentlyUsedFactory = null;
+			NonDefaultConstraintValidatorCache leastRecentlyUsedCache = null;
+			for ( Map.Entry<ConstraintValidatorFactory, NonDefaultConstraintValidatorCache> candidate : nonDefaultConstraintValidatorCaches.entrySet() ) {
+				if ( candidate.getKey() != addedConstraintFactory
+						&& ( leastRecentlyUsedCache == null || candidate.getValue().lastAccess < leastRecentlyUsedCache.lastAccess ) ) {
+					leastRecentlyUsedFactory = candidate.getKey();
+					leastRecentlyUsedCache = candidate.getValue();
+				}
+			}
+
+			if ( leastRecentlyUsedCache == null ) {
+				return;
+			}
+
+			nonDefaultConstraintValidatorCaches.remove( leastRecentlyUsedFactory, leastRecentlyUsedCache );
+		}
 	}
 
 	private <A extends Annotation> ConstraintValidator<A, ?> createAndInitializeValidator(
@@ -176,23 +262,22 @@ private void putInitializedValidator(Type validatedValueType,
 		return constraintValidator;
 	}
 
-	private void clearEntriesForFactory(ConstraintValidatorFactory constraintFactory) {
-		List<CacheKey> entriesToRemove = new ArrayList<>();
-		for ( Map.Entry<CacheKey, ConstraintValidator<?, ?>> entry : constraintValidatorCache.entrySet() ) {
-			if ( entry.getKey().getConstraintFactory() == constraintFactory ) {
-				entriesToRemove.add( entry.getKey() );
-			}
-		}
-		for ( CacheKey key : entriesToRemove ) {
-			constraintValidatorCache.remove( key );
+	public void clear() {
+		releaseInstances( defaultConstraintValidatorFactory, constraintValidatorCache );
+		constraintValidatorCache.clear();
+
+		for ( Map.Entry<ConstraintValidatorFactory, NonDefaultConstraintValidatorCache> entry : nonDefaultConstraintValidatorCaches.entrySet() ) {
+			releaseInstances( entry.getKey(), entry.getValue().constraintValidators );
 		}
+		nonDefaultConstraintValidatorCaches.clear();
+
+		regularExpressionCache.clear();
 	}
 
-	public void clear() {
-		for ( Map.Entry<CacheKey, ConstraintValidator<?, ?>> entry : constraintValidatorCache.entrySet() ) {
-			entry.getKey().getConstraintFactory().releaseInstance( entry.getValue() );
+	private void releaseInstances(ConstraintValidatorFactory constraintFactory, Map<CacheKey, ConstraintValidator<?, ?>> cache) {
+		for ( ConstraintValidator<?, ?> constraintValidator : cache.values() ) {
+			constraintFactory.releaseInstance( constraintValidator );
 		}
-		constraintValidatorCache.clear();
 	}
 
 	public ConstraintValidatorFactory getDefaultConstraintValidatorFactory() {
@@ -200,7 +285,15 @@ public ConstraintValidatorFactory getDefaultConstraintValidatorFactory() {
 	}
 
 	public int numberOfCachedConstraintValidatorInstances() {
-		return constraintValidatorCache.size();
+		int numberOfCachedConstraintValidatorInstances = constraintValidatorCache.size();
+		for ( NonDefaultConstraintValidatorCache cache : nonDefaultConstraintValidatorCaches.values() ) {
+			numberOfCachedConstraintValidatorInstances += cache.constraintValidators.size();
+		}
+		return numberOfCachedConstraintValidatorInstances;
+	}
+
+	public int numberOfCachedRegularExpressions() {
+		return regularExpressionCache.size();
 	}
 
 	/**
@@ -244,8 +337,16 @@ private <A extends Annotation> List<Type> findSuitableValidatorTypes(Type type,
 
 	private <A extends Annotation> void initializeConstraint(ConstraintDescriptor<A> descriptor, ConstraintValidator<A, ?> constraintValidator) {
 		try {
+			if ( constraintValidator instanceof RegularExpressionCacheAware ) {
+				( (RegularExpressionCacheAware) constraintValidator ).setRegularExpressionCache( regularExpressionCache );
+			}
 			constraintValidator.initialize( descriptor.getAnnotation() );
 		}
+		// an invalid declaration detected by the validator, e.g. a @ScriptAssert script which doesn't compile, is
+		// reported as is, as it would be when detected while validating
+		catch (ConstraintDeclarationException e) {
+			throw e;
+		}
 		catch (RuntimeException e) {
 			throw log.getUnableToInitializeConstraintValidatorException( constraintValidator.getClass(), e );
 		}
@@ -281,20 +382,14 @@ else if ( TypeHelper.isAssignable( assignableTypes.get( i ), type ) ) {
 	private static final class CacheKey {
 		private final Annotation annotation;
 		private final Type validatedType;
-		private final ConstraintValidatorFactory constraintFactory;
 		private final int hashCode;
 
-		private CacheKey(Annotation annotation, Type validatorType, ConstraintValidatorFactory constraintFactory) {
+		private CacheKey(Annotation annotation, Type validatorType) {
 			this.annotation = annotation;
 			this.validatedType = validatorType;
-			this.constraintFactory = constraintFactory;
 			this.hashCode = createHashCode();
 		}
 
-		public ConstraintValidatorFactory getConstraintFactory() {
-			return constraintFactory;
-		}
-
 		@Override
 		public boolean equals(Object o) {
 			if ( this == o ) {
@@ -309,9 +404,6 @@ public boolean equals(Object o) {
 			if ( annotation != null ? !annotation.equals( cacheKey.annotation ) : cacheKey.annotation != null ) {
 				return false;
 			}
-			if ( constraintFactory != null ? !constraintFactory.equals( cacheKey.constraintFactory ) : cacheKey.constraintFactory != null ) {
-				return false;
-			}
 			if ( validatedType != null ? !validatedType.equals( cacheKey.validatedType ) : cacheKey.validatedType != null ) {
 				return false;
 			}
@@ -327,8 +419,22 @@ public int hashCode() {
 		private int createHashCode() {
 			int result = annotation != null ? annotation.hashCode() : 0;
 			result = 31 * result + ( validatedType != null ? validatedType.hashCode() : 0 );
-			result = 31 * result + ( constraintFactory != null ? constraintFactory.hashCode() : 0 );
 			return result;
 		}
 	}
+
+	/**
+	 * The {@code ConstraintValidator} instances created via a non default factory, stamped with the value of the
+	 * clock upon the last access to them. The clock only advances when an older cache is accessed, so repeatedly
+	 * using the most recent factory does not write anything.
+	 */
+	private static final class NonDefaultConstraintValidatorCache {
+		private final ConcurrentHashMap<CacheKey, ConstraintValidator<?, ?>> constraintValidators = new ConcurrentHashMap<>();
+
+		private volatile long lastAccess;
+
+		private NonDefaultConstraintValidatorCache(long lastAccess) {
+			this.lastAccess = lastAccess;
+		}
+	}
 }
@@ -0,0 +1,47 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.constraintvalidation;
+
+import java.util.regex.Pattern;
+
+import org.hibernate.validator.spi.regex.RegularExpression;
+import org.hibernate.validator.spi.regex.RegularExpressionEngine;
+
+/**
+ * The default {@link RegularExpressionEngine}, based on {@link Pattern}.
+ */
+public final class JavaRegularExpressionEngine implements RegularExpressionEngine {
+
+	public static final JavaRegularExpressionEngine INSTANCE = new JavaRegularExpressionEngine();
+
+	private JavaRegularExpressionEngine() {
+	}
+
+	@Override
+	public RegularExpression compile(String regexp, int flags) {
+		return new JavaRegularExpression( Pattern.compile( regexp, flags ) );
+	}
+
+	private static final class JavaRegularExpression implements RegularExpression {
+
+		private final Pattern pattern;
+
+		private JavaRegularExpression(Pattern pattern) {
+			this.pattern = pattern;
+		}
+
+		@Override
+		public boolean matches(CharSequence value) {
+			return pattern.matcher( value ).matches();
+		}
+
+		@Override
+		public String toString() {
+			return pattern.toString();
+		}
+	}
+}
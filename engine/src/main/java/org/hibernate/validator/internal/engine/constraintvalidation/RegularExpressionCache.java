@@ -0,0 +1,93 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.constraintvalidation;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.validator.spi.regex.RegularExpression;
+import org.hibernate.validator.spi.regex.RegularExpressionEngine;
+
+/**
+ * Cache of the regular expressions compiled by a given {@link RegularExpressionEngine}, keyed by expression and flags,
+ * so that identical expressions declared by several constraints are compiled and retained only once per validator
+ * factory.
+ * <p>
+ * The cache is not bounded as the number of distinct expressions is bounded by the constraints declared in the
+ * application.
+ */
+public class RegularExpressionCache {
+
+	private final RegularExpressionEngine engine;
+
+	private final ConcurrentMap<CacheKey, RegularExpression> regularExpressions = new ConcurrentHashMap<>();
+
+	public RegularExpressionCache(RegularExpressionEngine engine) {
+		this.engine = engine;
+	}
+
+	/**
+	 * Returns the compiled regular expression, compiling it if not already done.
+	 *
+	 * @param regexp the regular expression
+	 * @param flags the match flags as defined by {@link java.util.regex.Pattern}
+	 *
+	 * @return the compiled regular expression
+	 *
+	 * @throws java.util.regex.PatternSyntaxException if the expression is not valid
+	 */
+	public RegularExpression getRegularExpression(String regexp, int flags) {
+		CacheKey key = new CacheKey( regexp, flags );
+		RegularExpression regularExpression = regularExpressions.get( key );
+		if ( regularExpression != null ) {
+			return regularExpression;
+		}
+
+		// compiled outside of computeIfAbsent() as compilation may be slow and fail
+		regularExpression = engine.compile( regexp, flags );
+		RegularExpression cachedRegularExpression = regularExpressions.putIfAbsent( key, regularExpression );
+		return cachedRegularExpression != null ? cachedRegularExpression : regularExpression;
+	}
+
+	public int size() {
+		return regularExpressions.size();
+	}
+
+	public void clear() {
+		regularExpressions.clear();
+	}
+
+	private static final class CacheKey {
+		private final String regexp;
+		private final int flags;
+		private final int hashCode;
+
+		private CacheKey(String regexp, int flags) {
+			this.regexp = regexp;
+			this.flags = flags;
+			this.hashCode = 31 * regexp.hashCode() + flags;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+
+			CacheKey other = (CacheKey) o;
+			return flags == other.flags && regexp.equals( other.regexp );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
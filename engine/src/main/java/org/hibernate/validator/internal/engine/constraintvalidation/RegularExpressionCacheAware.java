@@ -0,0 +1,22 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.constraintvalidation;
+
+/**
+ * Implemented by the built-in constraint validators evaluating regular expressions. The
+ * {@link ConstraintValidatorManager} passes them the regular expression cache of the validator factory before
+ * initializing them, so that they share the compiled expressions with the other validators of the factory.
+ * <p>
+ * Validators initialized without a cache, e.g. when created directly, compile their expression on their own.
+ */
+public interface RegularExpressionCacheAware {
+
+	/**
+	 * @param regularExpressionCache the regular expression cache of the validator factory
+	 */
+	void setRegularExpressionCache(RegularExpressionCache regularExpressionCache);
+}
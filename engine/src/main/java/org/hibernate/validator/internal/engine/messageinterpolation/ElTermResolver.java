@@ -7,7 +7,7 @@
 package org.hibernate.validator.internal.engine.messageinterpolation;
 
 import java.util.Locale;
-import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.el.ELException;
 import javax.el.ExpressionFactory;
@@ -15,8 +15,7 @@
 import javax.el.ValueExpression;
 import javax.validation.MessageInterpolator;
 
-import org.hibernate.validator.internal.engine.MessageInterpolatorContext;
-import org.hibernate.validator.internal.engine.messageinterpolation.el.RootResolver;
+import org.hibernate.validator.internal.engine.messageinterpolation.el.InterpolationBindings;
 import org.hibernate.validator.internal.engine.messageinterpolation.el.SimpleELContext;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
@@ -30,11 +29,6 @@
 public class ElTermResolver implements TermResolver {
 	private static final Log log = LoggerFactory.make();
 
-	/**
-	 * Name under which the currently validate value is bound to the EL context.
-	 */
-	private static final String VALIDATED_VALUE_NAME = "validatedValue";
-
 	/**
 	 * The locale for which to interpolate the expression.
 	 */
@@ -45,23 +39,40 @@ public class ElTermResolver implements TermResolver {
 	 */
 	private final ExpressionFactory expressionFactory;
 
+	/**
+	 * Cache of the parsed expressions keyed by expression; {@code null} if expressions should not be cached.
+	 */
+	private final ConcurrentMap<String, ValueExpression> compiledExpressions;
+
 	/**
 	 * Construct the resolver. The expression factory has to be passed in to ensure that it is
 	 * set up early and to allow for application control.
 	 * @param locale the locale.
 	 * @param expressionFactory the expression factory.
-     */
+	 */
 	public ElTermResolver(Locale locale, ExpressionFactory expressionFactory) {
+		this( locale, expressionFactory, null );
+	}
+
+	/**
+	 * Construct the resolver. The expression factory has to be passed in to ensure that it is
+	 * set up early and to allow for application control.
+	 * @param locale the locale.
+	 * @param expressionFactory the expression factory.
+	 * @param compiledExpressions cache of parsed expressions shared between resolvers; may be {@code null}.
+	 */
+	public ElTermResolver(Locale locale, ExpressionFactory expressionFactory, ConcurrentMap<String, ValueExpression> compiledExpressions) {
 		this.locale = locale;
 		this.expressionFactory = expressionFactory;
+		this.compiledExpressions = compiledExpressions;
 	}
 
 	@Override
 	public String interpolate(MessageInterpolator.Context context, String expression) {
 		String resolvedExpression = expression;
-		SimpleELContext elContext = new SimpleELContext( expressionFactory );
 		try {
-			ValueExpression valueExpression = bindContextValues( expression, context, elContext );
+			ValueExpression valueExpression = getValueExpression( expression );
+			SimpleELContext elContext = new SimpleELContext( expressionFactory, new InterpolationBindings( locale, context ) );
 			resolvedExpression = (String) valueExpression.getValue( elContext );
 		}
 		catch (PropertyNotFoundException pnfe) {
@@ -77,38 +88,29 @@ public String interpolate(MessageInterpolator.Context context, String expression
 		return resolvedExpression;
 	}
 
-	private ValueExpression bindContextValues(String messageTemplate, MessageInterpolator.Context messageInterpolatorContext, SimpleELContext elContext) {
-		// bind the validated value
-		ValueExpression valueExpression = expressionFactory.createValueExpression(
-				messageInterpolatorContext.getValidatedValue(),
-				Object.class
-		);
-		elContext.getVariableMapper().setVariable( VALIDATED_VALUE_NAME, valueExpression );
-
-		// bind a formatter instantiated with proper locale
-		valueExpression = expressionFactory.createValueExpression(
-				new FormatterWrapper( locale ),
-				FormatterWrapper.class
-		);
-		elContext.getVariableMapper().setVariable( RootResolver.FORMATTER, valueExpression );
+	/**
+	 * Returns the parsed expression. The variables referenced by the expression are not bound via the
+	 * {@code VariableMapper} but resolved upon evaluation (see {@link InterpolationBindings}), hence the parsed
+	 * expression does not depend on the interpolation context and can be reused.
+	 */
+	private ValueExpression getValueExpression(String expression) {
+		ValueExpression valueExpression = compiledExpressions != null ? compiledExpressions.get( expression ) : null;
 
-		// map the annotation values
-		for ( Map.Entry<String, Object> entry : messageInterpolatorContext.getConstraintDescriptor()
-				.getAttributes()
-				.entrySet() ) {
-			valueExpression = expressionFactory.createValueExpression( entry.getValue(), Object.class );
-			elContext.getVariableMapper().setVariable( entry.getKey(), valueExpression );
-		}
+		if ( valueExpression == null ) {
+			valueExpression = expressionFactory.createValueExpression(
+					new SimpleELContext( expressionFactory ),
+					expression,
+					String.class
+			);
 
-		// check for custom parameters provided by HibernateConstraintValidatorContext
-		if ( messageInterpolatorContext instanceof MessageInterpolatorContext ) {
-			MessageInterpolatorContext internalContext = (MessageInterpolatorContext) messageInterpolatorContext;
-			for ( Map.Entry<String, Object> entry : internalContext.getMessageParameters().entrySet() ) {
-				valueExpression = expressionFactory.createValueExpression( entry.getValue(), Object.class );
-				elContext.getVariableMapper().setVariable( entry.getKey(), valueExpression );
+			if ( compiledExpressions != null ) {
+				ValueExpression cachedValueExpression = compiledExpressions.putIfAbsent( expression, valueExpression );
+				if ( cachedValueExpression != null ) {
+					valueExpression = cachedValueExpression;
+				}
 			}
 		}
 
-		return expressionFactory.createValueExpression( elContext, messageTemplate, String.class );
+		return valueExpression;
 	}
 }
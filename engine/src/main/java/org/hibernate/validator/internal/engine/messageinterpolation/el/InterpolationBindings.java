@@ -0,0 +1,103 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation.el;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.el.ELContext;
+import javax.validation.MessageInterpolator;
+
+import org.hibernate.validator.internal.engine.MessageInterpolatorContext;
+import org.hibernate.validator.internal.engine.messageinterpolation.FormatterWrapper;
+
+/**
+ * The variables available to an EL expression during message interpolation: the validated value, a formatter,
+ * the constraint attributes and the custom message parameters.
+ * <p>
+ * The bindings are registered in the {@link ELContext} used for evaluating an expression and looked up by the
+ * {@link RootResolver} when an identifier is evaluated. This allows to parse an expression once and to evaluate it
+ * against different contexts; as opposed to variables set via the {@code VariableMapper}, which are captured by the
+ * expression when it is parsed.
+ */
+public class InterpolationBindings {
+
+	/**
+	 * Name under which the currently validate value is bound to the EL context.
+	 */
+	public static final String VALIDATED_VALUE_NAME = "validatedValue";
+
+	private final Locale locale;
+
+	private final MessageInterpolator.Context messageInterpolatorContext;
+
+	private final Map<String, Object> messageParameters;
+
+	/**
+	 * The formatter, only created if the expression refers to it.
+	 */
+	private FormatterWrapper formatter;
+
+	public InterpolationBindings(Locale locale, MessageInterpolator.Context messageInterpolatorContext) {
+		this.locale = locale;
+		this.messageInterpolatorContext = messageInterpolatorContext;
+
+		// check for custom parameters provided by HibernateConstraintValidatorContext
+		if ( messageInterpolatorContext instanceof MessageInterpolatorContext ) {
+			this.messageParameters = ( (MessageInterpolatorContext) messageInterpolatorContext ).getMessageParameters();
+		}
+		else {
+			this.messageParameters = Collections.emptyMap();
+		}
+	}
+
+	/**
+	 * Resolves the variable with the given name and marks the property as resolved in the given context if it exists.
+	 * <p>
+	 * The precedence is (from highest to lowest): custom message parameters, constraint attributes, formatter,
+	 * validated value.
+	 *
+	 * @param context the EL context
+	 * @param name the name of the variable
+	 *
+	 * @return the value of the variable; {@code null} if there is no variable with that name
+	 */
+	public Object resolve(ELContext context, String name) {
+		Object value;
+
+		if ( messageParameters.containsKey( name ) ) {
+			value = messageParameters.get( name );
+		}
+		else {
+			Map<String, Object> constraintAttributes = messageInterpolatorContext.getConstraintDescriptor().getAttributes();
+
+			if ( constraintAttributes.containsKey( name ) ) {
+				value = constraintAttributes.get( name );
+			}
+			else if ( RootResolver.FORMATTER.equals( name ) ) {
+				value = getFormatter();
+			}
+			else if ( VALIDATED_VALUE_NAME.equals( name ) ) {
+				value = messageInterpolatorContext.getValidatedValue();
+			}
+			else {
+				return null;
+			}
+		}
+
+		context.setPropertyResolved( null, name );
+		return value;
+	}
+
+	private FormatterWrapper getFormatter() {
+		if ( formatter == null ) {
+			formatter = new FormatterWrapper( locale );
+		}
+		return formatter;
+	}
+}
@@ -35,6 +35,14 @@ public class SimpleELContext extends StandardELContext {
 	};
 
 	public SimpleELContext(ExpressionFactory expressionFactory) {
+		this( expressionFactory, null );
+	}
+
+	/**
+	 * @param expressionFactory the expression factory
+	 * @param bindings the variables to resolve when evaluating an expression in this context; may be {@code null}
+	 */
+	public SimpleELContext(ExpressionFactory expressionFactory, InterpolationBindings bindings) {
 		super( expressionFactory );
 
 		// In javax.el.ELContext, the ExpressionFactory is extracted from the context map. If it is not found, it
@@ -42,6 +50,10 @@ public SimpleELContext(ExpressionFactory expressionFactory) {
 		// ResourceBundleMessageInterpolator, might not be the same. Thus, we inject the ExpressionFactory in the
 		// context.
 		putContext( ExpressionFactory.class, expressionFactory );
+
+		if ( bindings != null ) {
+			putContext( InterpolationBindings.class, bindings );
+		}
 	}
 
 	@Override
@@ -364,6 +364,10 @@ public boolean equals(Object obj) {
 			return false;
 		}
 		NodeImpl other = (NodeImpl) obj;
+		// the hash codes are pre-computed and include the parent, so this is a cheap way to rule out most differences
+		if ( hashCode != other.hashCode ) {
+			return false;
+		}
 		if ( index == null ) {
 			if ( other.index != null ) {
 				return false;
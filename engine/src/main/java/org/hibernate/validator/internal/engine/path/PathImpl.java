@@ -9,7 +9,7 @@
 import static org.hibernate.validator.internal.util.logging.Messages.MESSAGES;
 
 import java.io.Serializable;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -52,9 +52,21 @@ public final class PathImpl implements Path, Serializable {
 	private static final int INDEX_GROUP = 3;
 	private static final int REMAINING_STRING_GROUP = 5;
 
-	private final List<Node> nodeList;
+	/**
+	 * The leaf node of this path; the other nodes are reached through {@link NodeImpl#getParent()}. As nodes are
+	 * immutable, copies of a path share all their nodes and appending a node never affects the copies.
+	 */
 	private NodeImpl currentLeafNode;
-	private int hashCode;
+
+	/**
+	 * The nodes of this path from the root to the leaf, materialized upon first iteration.
+	 */
+	private transient List<Node> nodeList;
+
+	/**
+	 * The string representation of this path, built upon first request.
+	 */
+	private transient String asString;
 
 	/**
 	 * Returns a {@code Path} instance representing the path described by the
@@ -99,122 +111,73 @@ public static PathImpl createRootPath() {
 		return path;
 	}
 
+	/**
+	 * Returns a copy of the given path. This is a constant time operation, as the nodes are shared with the original
+	 * path.
+	 */
 	public static PathImpl createCopy(PathImpl path) {
-		return new PathImpl( path );
+		return new PathImpl( path.currentLeafNode );
 	}
 
 	public boolean isRootPath() {
-		return nodeList.size() == 1 && nodeList.get( 0 ).getName() == null;
+		return currentLeafNode != null && currentLeafNode.getParent() == null && currentLeafNode.getName() == null;
 	}
 
 	public PathImpl getPathWithoutLeafNode() {
-		return new PathImpl( nodeList.subList( 0, nodeList.size() - 1 ) );
+		return new PathImpl( currentLeafNode.getParent() );
 	}
 
 	public NodeImpl addPropertyNode(String nodeName) {
-		NodeImpl parent = nodeList.isEmpty() ? null : (NodeImpl) nodeList.get( nodeList.size() - 1 );
-		currentLeafNode = NodeImpl.createPropertyNode( nodeName, parent );
-		nodeList.add( currentLeafNode );
-		hashCode = -1;
-		return currentLeafNode;
+		return setLeafNode( NodeImpl.createPropertyNode( nodeName, currentLeafNode ) );
 	}
 
 	public NodeImpl addTypeParameterNode(String nodeName) {
-		NodeImpl parent = nodeList.isEmpty() ? null : (NodeImpl) nodeList.get( nodeList.size() - 1 );
-		currentLeafNode = NodeImpl.createTypeParameterNode( nodeName, parent );
-		nodeList.add( currentLeafNode );
-		hashCode = -1;
-		return currentLeafNode;
+		return setLeafNode( NodeImpl.createTypeParameterNode( nodeName, currentLeafNode ) );
 	}
 
 	public NodeImpl addParameterNode(String nodeName, int index) {
-		NodeImpl parent = nodeList.isEmpty() ? null : (NodeImpl) nodeList.get( nodeList.size() - 1 );
-		currentLeafNode = NodeImpl.createParameterNode( nodeName, parent, index );
-		nodeList.add( currentLeafNode );
-		hashCode = -1;
-		return currentLeafNode;
+		return setLeafNode( NodeImpl.createParameterNode( nodeName, currentLeafNode, index ) );
 	}
 
 	public NodeImpl addCrossParameterNode() {
-		NodeImpl parent = nodeList.isEmpty() ? null : (NodeImpl) nodeList.get( nodeList.size() - 1 );
-		currentLeafNode = NodeImpl.createCrossParameterNode( parent );
-		nodeList.add( currentLeafNode );
-		hashCode = -1;
-		return currentLeafNode;
+		return setLeafNode( NodeImpl.createCrossParameterNode( currentLeafNode ) );
 	}
 
 	public NodeImpl addBeanNode() {
-		NodeImpl parent = nodeList.isEmpty() ? null : (NodeImpl) nodeList.get( nodeList.size() - 1 );
-		currentLeafNode = NodeImpl.createBeanNode( parent );
-		nodeList.add( currentLeafNode );
-		hashCode = -1;
-		return currentLeafNode;
+		return setLeafNode( NodeImpl.createBeanNode( currentLeafNode ) );
 	}
 
 	public NodeImpl addReturnValueNode() {
-		NodeImpl parent = nodeList.isEmpty() ? null : (NodeImpl) nodeList.get( nodeList.size() - 1 );
-		currentLeafNode = NodeImpl.createReturnValue( parent );
-		nodeList.add( currentLeafNode );
-		hashCode = -1;
-		return currentLeafNode;
+		return setLeafNode( NodeImpl.createReturnValue( currentLeafNode ) );
 	}
 
 	private NodeImpl addConstructorNode(String name, Class<?>[] parameterTypes) {
-		NodeImpl parent = nodeList.isEmpty() ? null : (NodeImpl) nodeList.get( nodeList.size() - 1 );
-		currentLeafNode = NodeImpl.createConstructorNode( name, parent, parameterTypes );
-		nodeList.add( currentLeafNode );
-		hashCode = -1;
-		return currentLeafNode;
+		return setLeafNode( NodeImpl.createConstructorNode( name, currentLeafNode, parameterTypes ) );
 	}
 
 	private NodeImpl addMethodNode(String name, Class<?>[] parameterTypes) {
-		NodeImpl parent = nodeList.isEmpty() ? null : (NodeImpl) nodeList.get( nodeList.size() - 1 );
-		currentLeafNode = NodeImpl.createMethodNode( name, parent, parameterTypes );
-		nodeList.add( currentLeafNode );
-		hashCode = -1;
-		return currentLeafNode;
+		return setLeafNode( NodeImpl.createMethodNode( name, currentLeafNode, parameterTypes ) );
 	}
 
 	public NodeImpl makeLeafNodeIterable() {
-		currentLeafNode = NodeImpl.makeIterable( currentLeafNode );
-
-		nodeList.remove( nodeList.size() - 1 );
-		nodeList.add( currentLeafNode );
-		hashCode = -1;
-		return currentLeafNode;
+		return setLeafNode( NodeImpl.makeIterable( currentLeafNode ) );
 	}
 
 	public NodeImpl setLeafNodeIndex(Integer index) {
-		currentLeafNode = NodeImpl.setIndex( currentLeafNode, index );
-
-		nodeList.remove( nodeList.size() - 1 );
-		nodeList.add( currentLeafNode );
-		hashCode = -1;
-		return currentLeafNode;
+		return setLeafNode( NodeImpl.setIndex( currentLeafNode, index ) );
 	}
 
 	public NodeImpl setLeafNodeMapKey(Object key) {
-		currentLeafNode = NodeImpl.setMapKey( currentLeafNode, key );
-
-		nodeList.remove( nodeList.size() - 1 );
-		nodeList.add( currentLeafNode );
-		hashCode = -1;
-		return currentLeafNode;
+		return setLeafNode( NodeImpl.setMapKey( currentLeafNode, key ) );
 	}
 
 	public NodeImpl setLeafNodeValue(Object value) {
-		currentLeafNode = NodeImpl.setPropertyValue( currentLeafNode, value );
-
-		nodeList.remove( nodeList.size() - 1 );
-		nodeList.add( currentLeafNode );
-		hashCode = -1;
-		return currentLeafNode;
+		return setLeafNode( NodeImpl.setPropertyValue( currentLeafNode, value ) );
 	}
 
 	public void removeLeafNode() {
-		if ( !nodeList.isEmpty() ) {
-			nodeList.remove( nodeList.size() - 1 );
-			currentLeafNode = nodeList.isEmpty() ? null : (NodeImpl) nodeList.get( nodeList.size() - 1 );
+		if ( currentLeafNode != null ) {
+			setLeafNode( currentLeafNode.getParent() );
 		}
 	}
 
@@ -224,35 +187,18 @@ public NodeImpl getLeafNode() {
 
 	@Override
 	public Iterator<Path.Node> iterator() {
-		if ( nodeList.size() == 0 ) {
-			return Collections.<Path.Node>emptyList().iterator();
+		List<Node> nodes = getNodeList();
+		if ( nodes.size() <= 1 ) {
+			return nodes.iterator();
 		}
-		if ( nodeList.size() == 1 ) {
-			return nodeList.iterator();
-		}
-		return nodeList.subList( 1, nodeList.size() ).iterator();
+		return nodes.subList( 1, nodes.size() ).iterator();
 	}
 
 	public String asString() {
-		StringBuilder builder = new StringBuilder();
-		boolean first = true;
-		for ( int i = 1; i < nodeList.size(); i++ ) {
-			NodeImpl nodeImpl = (NodeImpl) nodeList.get( i );
-			String name = nodeImpl.asString();
-			if ( name.isEmpty() ) {
-				// skip the node if it does not contribute to the string representation of the path, eg class level constraints
-				continue;
-			}
-
-			if ( !first ) {
-				builder.append( PROPERTY_PATH_SEPARATOR );
-			}
-
-			builder.append( nodeImpl.asString() );
-
-			first = false;
+		if ( asString == null ) {
+			asString = buildAsString();
 		}
-		return builder.toString();
+		return asString;
 	}
 
 	@Override
@@ -272,53 +218,71 @@ public boolean equals(Object obj) {
 			return false;
 		}
 		PathImpl other = (PathImpl) obj;
-		if ( nodeList == null ) {
-			if ( other.nodeList != null ) {
-				return false;
-			}
+		// nodes include their parent in equals(), so comparing the leaves compares the whole paths
+		if ( currentLeafNode == null ) {
+			return other.currentLeafNode == null;
 		}
-		else if ( !nodeList.equals( other.nodeList ) ) {
-			return false;
-		}
-		return true;
+		return currentLeafNode.equals( other.currentLeafNode );
 	}
 
 	@Override
-	// deferred hash code building
 	public int hashCode() {
-		if ( hashCode == -1 ) {
-			hashCode = buildHashCode();
-		}
+		// the node hash code is computed once and includes the hash code of the parent
+		return currentLeafNode == null ? 0 : currentLeafNode.hashCode();
+	}
 
-		return hashCode;
+	private NodeImpl setLeafNode(NodeImpl leafNode) {
+		currentLeafNode = leafNode;
+		nodeList = null;
+		asString = null;
+		return currentLeafNode;
 	}
 
-	private int buildHashCode() {
-		final int prime = 31;
-		int result = 1;
-		result = prime * result
-				+ ( ( nodeList == null ) ? 0 : nodeList.hashCode() );
-		return result;
+	private List<Node> getNodeList() {
+		if ( nodeList == null ) {
+			int size = 0;
+			for ( NodeImpl node = currentLeafNode; node != null; node = node.getParent() ) {
+				size++;
+			}
+
+			Node[] nodes = new Node[size];
+			int i = size;
+			for ( NodeImpl node = currentLeafNode; node != null; node = node.getParent() ) {
+				nodes[--i] = node;
+			}
+
+			nodeList = Collections.unmodifiableList( Arrays.asList( nodes ) );
+		}
+		return nodeList;
 	}
 
-	/**
-	 * Copy constructor.
-	 *
-	 * @param path the path to make a copy of.
-	 */
-	private PathImpl(PathImpl path) {
-		this( path.nodeList );
-		currentLeafNode = (NodeImpl) nodeList.get( nodeList.size() - 1 );
+	private String buildAsString() {
+		List<Node> nodes = getNodeList();
+		StringBuilder builder = new StringBuilder();
+		boolean first = true;
+		for ( int i = 1; i < nodes.size(); i++ ) {
+			String name = ( (NodeImpl) nodes.get( i ) ).asString();
+			if ( name.isEmpty() ) {
+				// skip the node if it does not contribute to the string representation of the path, eg class level constraints
+				continue;
+			}
+
+			if ( !first ) {
+				builder.append( PROPERTY_PATH_SEPARATOR );
+			}
+
+			builder.append( name );
+
+			first = false;
+		}
+		return builder.toString();
 	}
 
 	private PathImpl() {
-		nodeList = new ArrayList<>();
-		this.hashCode = -1;
 	}
 
-	private PathImpl(List<Node> nodeList) {
-		this.nodeList = new ArrayList<>( nodeList );
-		this.hashCode = -1;
+	private PathImpl(NodeImpl leafNode) {
+		this.currentLeafNode = leafNode;
 	}
 
 	private static PathImpl parseProperty(String propertyName) {
@@ -0,0 +1,339 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.metadata;
+
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.Option.IDENTITY_COMPARISONS;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.SOFT;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.STRONG;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.WEAK;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.validator.MetaDataCachePolicy;
+import org.hibernate.validator.MetaDataCacheStatistics;
+import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType;
+import org.hibernate.validator.internal.util.Contracts;
+
+/**
+ * The cache of a {@link BeanMetaDataManager}, retaining the meta data of the bean types according to a
+ * {@link MetaDataCachePolicy} and counting hits, misses, rebuilds and evictions.
+ * <p>
+ * A rebuild is detected by remembering - through weak references, so not to prevent class unloading - the bean types
+ * whose meta data has been cached once.
+ */
+public abstract class BeanMetaDataCache {
+
+	/**
+	 * The default initial capacity for this cache.
+	 */
+	private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+	/**
+	 * The default load factor for this cache.
+	 */
+	private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+	/**
+	 * The default concurrency level for this cache.
+	 */
+	private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+	private final ConcurrentReferenceHashMap<Class<?>, Boolean> previouslyCachedTypes = new ConcurrentReferenceHashMap<>(
+			DEFAULT_INITIAL_CAPACITY,
+			DEFAULT_LOAD_FACTOR,
+			DEFAULT_CONCURRENCY_LEVEL,
+			WEAK,
+			STRONG,
+			EnumSet.of( IDENTITY_COMPARISONS )
+	);
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder rebuildCount = new LongAdder();
+	protected final LongAdder evictionCount = new LongAdder();
+
+	/**
+	 * Creates a cache for the given policy.
+	 *
+	 * @param policy the cache policy
+	 * @param maxSize the maximum number of cached bean types; only taken into account for
+	 * {@link MetaDataCachePolicy#BOUNDED}
+	 *
+	 * @return a new cache
+	 */
+	public static BeanMetaDataCache newInstance(MetaDataCachePolicy policy, int maxSize) {
+		Contracts.assertNotNull( policy, "The cache policy must not be null." );
+
+		switch ( policy ) {
+			case STRONG:
+				return new ReferenceBeanMetaDataCache( STRONG );
+			case BOUNDED:
+				return new BoundedBeanMetaDataCache( maxSize );
+			default:
+				return new ReferenceBeanMetaDataCache( SOFT );
+		}
+	}
+
+	public final BeanMetaData<?> get(Class<?> beanClass) {
+		BeanMetaData<?> beanMetaData = doGet( beanClass );
+		if ( beanMetaData != null ) {
+			hitCount.increment();
+		}
+		else {
+			missCount.increment();
+		}
+		return beanMetaData;
+	}
+
+	/**
+	 * Caches the given meta data unless there already is meta data cached for the given type.
+	 *
+	 * @return the previously cached meta data or {@code null} if the given meta data has been cached
+	 */
+	public final BeanMetaData<?> putIfAbsent(Class<?> beanClass, BeanMetaData<?> beanMetaData) {
+		BeanMetaData<?> previous = doPutIfAbsent( beanClass, beanMetaData );
+		if ( previous == null && previouslyCachedTypes.put( beanClass, Boolean.TRUE ) != null ) {
+			rebuildCount.increment();
+		}
+		return previous;
+	}
+
+	/**
+	 * Caches the given meta data, replacing any meta data cached for the given type.
+	 */
+	public final void put(Class<?> beanClass, BeanMetaData<?> beanMetaData) {
+		doPut( beanClass, beanMetaData );
+		previouslyCachedTypes.put( beanClass, Boolean.TRUE );
+	}
+
+	public final void clear() {
+		doClear();
+		previouslyCachedTypes.clear();
+	}
+
+	public abstract int size();
+
+	public MetaDataCacheStatistics getStatistics() {
+		return new Statistics( hitCount.sum(), missCount.sum(), rebuildCount.sum(), evictionCount.sum(), size() );
+	}
+
+	protected abstract BeanMetaData<?> doGet(Class<?> beanClass);
+
+	protected abstract BeanMetaData<?> doPutIfAbsent(Class<?> beanClass, BeanMetaData<?> beanMetaData);
+
+	protected abstract void doPut(Class<?> beanClass, BeanMetaData<?> beanMetaData);
+
+	protected abstract void doClear();
+
+	/**
+	 * A cache backed by a {@link ConcurrentReferenceHashMap}, referencing keys and values either softly or strongly.
+	 */
+	private static class ReferenceBeanMetaDataCache extends BeanMetaDataCache {
+
+		private final ConcurrentReferenceHashMap<Class<?>, BeanMetaData<?>> beanMetaDataCache;
+
+		private ReferenceBeanMetaDataCache(ReferenceType referenceType) {
+			this.beanMetaDataCache = new ConcurrentReferenceHashMap<>(
+					DEFAULT_INITIAL_CAPACITY,
+					DEFAULT_LOAD_FACTOR,
+					DEFAULT_CONCURRENCY_LEVEL,
+					referenceType,
+					referenceType,
+					EnumSet.of( IDENTITY_COMPARISONS )
+			);
+		}
+
+		@Override
+		protected BeanMetaData<?> doGet(Class<?> beanClass) {
+			return beanMetaDataCache.get( beanClass );
+		}
+
+		@Override
+		protected BeanMetaData<?> doPutIfAbsent(Class<?> beanClass, BeanMetaData<?> beanMetaData) {
+			return beanMetaDataCache.putIfAbsent( beanClass, beanMetaData );
+		}
+
+		@Override
+		protected void doPut(Class<?> beanClass, BeanMetaData<?> beanMetaData) {
+			beanMetaDataCache.put( beanClass, beanMetaData );
+		}
+
+		@Override
+		protected void doClear() {
+			beanMetaDataCache.clear();
+		}
+
+		@Override
+		public int size() {
+			return beanMetaDataCache.size();
+		}
+	}
+
+	/**
+	 * A cache holding at most a given number of bean types, evicting the least recently used one when that number is
+	 * exceeded.
+	 * <p>
+	 * Each entry is stamped with the value of a logical clock upon access; the clock only advances when an entry
+	 * older than the current time is accessed, so repeatedly reading the most recent entries does not write anything.
+	 * When the cache is full, the entry with the oldest stamp is looked up by scanning the cache, which is fine as it
+	 * only happens when the meta data of a new type has been built.
+	 */
+	private static class BoundedBeanMetaDataCache extends BeanMetaDataCache {
+
+		private final int maxSize;
+
+		private final ConcurrentHashMap<Class<?>, Entry> beanMetaDataCache;
+
+		private final AtomicLong clock = new AtomicLong();
+
+		private BoundedBeanMetaDataCache(int maxSize) {
+			Contracts.assertTrue( maxSize > 0, "The maximum size of the meta data cache must be greater than 0." );
+
+			this.maxSize = maxSize;
+			this.beanMetaDataCache = new ConcurrentHashMap<>( DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR, DEFAULT_CONCURRENCY_LEVEL );
+		}
+
+		@Override
+		protected BeanMetaData<?> doGet(Class<?> beanClass) {
+			Entry entry = beanMetaDataCache.get( beanClass );
+			if ( entry == null ) {
+				return null;
+			}
+
+			if ( entry.lastAccess < clock.get() ) {
+				entry.lastAccess = clock.incrementAndGet();
+			}
+
+			return entry.beanMetaData;
+		}
+
+		@Override
+		protected BeanMetaData<?> doPutIfAbsent(Class<?> beanClass, BeanMetaData<?> beanMetaData) {
+			Entry previous = beanMetaDataCache.putIfAbsent( beanClass, new Entry( beanMetaData, clock.incrementAndGet() ) );
+			if ( previous != null ) {
+				return previous.beanMetaData;
+			}
+
+			evictIfRequired();
+			return null;
+		}
+
+		@Override
+		protected void doPut(Class<?> beanClass, BeanMetaData<?> beanMetaData) {
+			beanMetaDataCache.put( beanClass, new Entry( beanMetaData, clock.incrementAndGet() ) );
+			evictIfRequired();
+		}
+
+		@Override
+		protected void doClear() {
+			beanMetaDataCache.clear();
+		}
+
+		@Override
+		public int size() {
+			return beanMetaDataCache.size();
+		}
+
+		private void evictIfRequired() {
+			while ( beanMetaDataCache.size() > maxSize ) {
+				Map.Entry<Class<?>, Entry> leastRecentlyUsed = null;
+				for ( Map.Entry<Class<?>, Entry> candidate : beanMetaDataCache.entrySet() ) {
+					if ( leastRecentlyUsed == null || candidate.getValue().lastAccess < leastRecentlyUsed.getValue().lastAccess ) {
+						leastRecentlyUsed = candidate;
+					}
+				}
+
+				if ( leastRecentlyUsed == null ) {
+					return;
+				}
+
+				if ( beanMetaDataCache.remove( leastRecentlyUsed.getKey(), leastRecentlyUsed.getValue() ) ) {
+					evictionCount.increment();
+				}
+			}
+		}
+
+		private static class Entry {
+
+			private final BeanMetaData<?> beanMetaData;
+
+			private volatile long lastAccess;
+
+			private Entry(BeanMetaData<?> beanMetaData, long lastAccess) {
+				this.beanMetaData = beanMetaData;
+				this.lastAccess = lastAccess;
+			}
+		}
+	}
+
+	/**
+	 * An immutable snapshot of the cache counters, which may be summed up with those of other caches.
+	 */
+	public static class Statistics implements MetaDataCacheStatistics {
+
+		private final long hitCount;
+		private final long missCount;
+		private final long rebuildCount;
+		private final long evictionCount;
+		private final long size;
+
+		public Statistics(long hitCount, long missCount, long rebuildCount, long evictionCount, long size) {
+			this.hitCount = hitCount;
+			this.missCount = missCount;
+			this.rebuildCount = rebuildCount;
+			this.evictionCount = evictionCount;
+			this.size = size;
+		}
+
+		public Statistics add(MetaDataCacheStatistics other) {
+			return new Statistics(
+					hitCount + other.getHitCount(),
+					missCount + other.getMissCount(),
+					rebuildCount + other.getRebuildCount(),
+					evictionCount + other.getEvictionCount(),
+					size + other.getSize()
+			);
+		}
+
+		@Override
+		public long getHitCount() {
+			return hitCount;
+		}
+
+		@Override
+		public long getMissCount() {
+			return missCount;
+		}
+
+		@Override
+		public long getRebuildCount() {
+			return rebuildCount;
+		}
+
+		@Override
+		public long getEvictionCount() {
+			return evictionCount;
+		}
+
+		@Override
+		public long getSize() {
+			return size;
+		}
+
+		@Override
+		public String toString() {
+			return "MetaDataCacheStatistics [hitCount=" + hitCount + ", missCount=" + missCount + ", rebuildCount=" + rebuildCount
+					+ ", evictionCount=" + evictionCount + ", size=" + size + "]";
+		}
+	}
+}
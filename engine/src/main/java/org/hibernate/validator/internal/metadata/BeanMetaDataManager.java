@@ -7,15 +7,15 @@
 package org.hibernate.validator.internal.metadata;
 
 import static org.hibernate.validator.internal.util.CollectionHelper.newArrayList;
-import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.Option.IDENTITY_COMPARISONS;
-import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.SOFT;
 import static org.hibernate.validator.internal.util.logging.Messages.MESSAGES;
 
-import java.util.EnumSet;
 import java.util.List;
 
 import javax.validation.valueextraction.ValueExtractor;
 
+import org.hibernate.validator.MetaDataCachePolicy;
+import org.hibernate.validator.MetaDataCacheStatistics;
+import org.hibernate.validator.PropertyAccessStrategy;
 import org.hibernate.validator.internal.engine.MethodValidationConfiguration;
 import org.hibernate.validator.internal.engine.cascading.ValueExtractorManager;
 import org.hibernate.validator.internal.engine.groups.ValidationOrderGenerator;
@@ -29,7 +29,6 @@
 import org.hibernate.validator.internal.metadata.provider.AnnotationMetaDataProvider;
 import org.hibernate.validator.internal.metadata.provider.MetaDataProvider;
 import org.hibernate.validator.internal.metadata.raw.BeanConfiguration;
-import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
 import org.hibernate.validator.internal.util.Contracts;
 import org.hibernate.validator.internal.util.ExecutableHelper;
 import org.hibernate.validator.internal.util.ExecutableParameterNameProvider;
@@ -55,21 +54,6 @@
  * @author Guillaume Smet
 */
 public class BeanMetaDataManager {
-	/**
-	 * The default initial capacity for this cache.
-	 */
-	private static final int DEFAULT_INITIAL_CAPACITY = 16;
-
-	/**
-	 * The default load factor for this cache.
-	 */
-	private static final float DEFAULT_LOAD_FACTOR = 0.75f;
-
-	/**
-	 * The default concurrency level for this cache.
-	 */
-	private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
-
 	/**
 	 * Additional metadata providers used for meta data retrieval if
 	 * the XML and/or programmatic configuration is used.
@@ -94,7 +78,7 @@ public class BeanMetaDataManager {
 	/**
 	 * Used to cache the constraint meta data for validated entities
 	 */
-	private final ConcurrentReferenceHashMap<Class<?>, BeanMetaData<?>> beanMetaDataCache;
+	private final BeanMetaDataCache beanMetaDataCache;
 
 	/**
 	 * Used for resolving type parameters. Thread-safe.
@@ -110,6 +94,11 @@ public class BeanMetaDataManager {
 	 */
 	private final MethodValidationConfiguration methodValidationConfiguration;
 
+	/**
+	 * The strategy used for reading the values of constrained and cascaded fields and getters.
+	 */
+	private final PropertyAccessStrategy propertyAccessStrategy;
+
 	/**
 	 * Creates a new {@code BeanMetaDataManager}.
 	 *
@@ -140,6 +129,54 @@ public BeanMetaDataManager(ConstraintHelper constraintHelper,
 			ValueExtractorManager valueExtractorManager,
 			List<MetaDataProvider> optionalMetaDataProviders,
 			MethodValidationConfiguration methodValidationConfiguration) {
+		this(
+				constraintHelper, executableHelper, typeResolutionHelper, parameterNameProvider,
+				valueExtractorManager, optionalMetaDataProviders, methodValidationConfiguration,
+				PropertyAccessStrategy.REFLECTION
+		);
+	}
+
+	public BeanMetaDataManager(ConstraintHelper constraintHelper,
+			ExecutableHelper executableHelper,
+			TypeResolutionHelper typeResolutionHelper,
+			ExecutableParameterNameProvider parameterNameProvider,
+			ValueExtractorManager valueExtractorManager,
+			List<MetaDataProvider> optionalMetaDataProviders,
+			MethodValidationConfiguration methodValidationConfiguration,
+			PropertyAccessStrategy propertyAccessStrategy) {
+		this(
+				constraintHelper, executableHelper, typeResolutionHelper, parameterNameProvider,
+				valueExtractorManager, optionalMetaDataProviders, methodValidationConfiguration,
+				propertyAccessStrategy, BeanMetaDataCache.newInstance( MetaDataCachePolicy.SOFT, 0 )
+		);
+	}
+
+	public BeanMetaDataManager(ConstraintHelper constraintHelper,
+			ExecutableHelper executableHelper,
+			TypeResolutionHelper typeResolutionHelper,
+			ExecutableParameterNameProvider parameterNameProvider,
+			ValueExtractorManager valueExtractorManager,
+			List<MetaDataProvider> optionalMetaDataProviders,
+			MethodValidationConfiguration methodValidationConfiguration,
+			PropertyAccessStrategy propertyAccessStrategy,
+			BeanMetaDataCache beanMetaDataCache) {
+		this(
+				constraintHelper, executableHelper, typeResolutionHelper, parameterNameProvider,
+				valueExtractorManager, optionalMetaDataProviders, methodValidationConfiguration,
+				propertyAccessStrategy, beanMetaDataCache, false
+		);
+	}
+
+	public BeanMetaDataManager(ConstraintHelper constraintHelper,
+			ExecutableHelper executableHelper,
+			TypeResolutionHelper typeResolutionHelper,
+			ExecutableParameterNameProvider parameterNameProvider,
+			ValueExtractorManager valueExtractorManager,
+			List<MetaDataProvider> optionalMetaDataProviders,
+			MethodValidationConfiguration methodValidationConfiguration,
+			PropertyAccessStrategy propertyAccessStrategy,
+			BeanMetaDataCache beanMetaDataCache,
+			boolean useMetaDataIndex) {
 		this.constraintHelper = constraintHelper;
 		this.executableHelper = executableHelper;
 		this.typeResolutionHelper = typeResolutionHelper;
@@ -149,15 +186,9 @@ public BeanMetaDataManager(ConstraintHelper constraintHelper,
 		this.metaDataProviders.addAll( optionalMetaDataProviders );
 
 		this.methodValidationConfiguration = methodValidationConfiguration;
+		this.propertyAccessStrategy = propertyAccessStrategy;
 
-		this.beanMetaDataCache = new ConcurrentReferenceHashMap<>(
-				DEFAULT_INITIAL_CAPACITY,
-				DEFAULT_LOAD_FACTOR,
-				DEFAULT_CONCURRENCY_LEVEL,
-				SOFT,
-				SOFT,
-				EnumSet.of( IDENTITY_COMPARISONS )
-		);
+		this.beanMetaDataCache = beanMetaDataCache;
 
 		AnnotationProcessingOptions annotationProcessingOptions = getAnnotationProcessingOptionsFromNonDefaultProviders();
 		AnnotationMetaDataProvider defaultProvider = new AnnotationMetaDataProvider(
@@ -165,7 +196,8 @@ public BeanMetaDataManager(ConstraintHelper constraintHelper,
 					typeResolutionHelper,
 					parameterNameProvider,
 					valueExtractorManager,
-					annotationProcessingOptions
+					annotationProcessingOptions,
+					useMetaDataIndex
 			);
 
 		this.metaDataProviders.add( defaultProvider );
@@ -187,6 +219,10 @@ public int numberOfCachedBeanMetaDataInstances() {
 		return beanMetaDataCache.size();
 	}
 
+	public MetaDataCacheStatistics getCacheStatistics() {
+		return beanMetaDataCache.getStatistics();
+	}
+
 	/**
 	 * Creates a {@link org.hibernate.validator.internal.metadata.aggregated.BeanMetaData} containing the meta data from all meta
 	 * data providers for the given type and its hierarchy.
@@ -198,7 +234,8 @@ public int numberOfCachedBeanMetaDataInstances() {
 	 */
 	private <T> BeanMetaDataImpl<T> createBeanMetaData(Class<T> clazz) {
 		BeanMetaDataBuilder<T> builder = BeanMetaDataBuilder.getInstance(
-				constraintHelper, executableHelper, typeResolutionHelper, valueExtractorManager, validationOrderGenerator, clazz, methodValidationConfiguration );
+				constraintHelper, executableHelper, typeResolutionHelper, valueExtractorManager, validationOrderGenerator, clazz, methodValidationConfiguration,
+				propertyAccessStrategy );
 
 		for ( MetaDataProvider provider : metaDataProviders ) {
 			for ( BeanConfiguration<? super T> beanConfiguration : provider.getBeanConfigurationForHierarchy( clazz ) ) {
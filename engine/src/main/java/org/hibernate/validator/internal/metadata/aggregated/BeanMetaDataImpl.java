@@ -20,6 +20,7 @@
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import javax.validation.ElementKind;
@@ -29,6 +30,7 @@
 import javax.validation.metadata.MethodType;
 import javax.validation.metadata.PropertyDescriptor;
 
+import org.hibernate.validator.PropertyAccessStrategy;
 import org.hibernate.validator.internal.engine.MethodValidationConfiguration;
 import org.hibernate.validator.internal.engine.cascading.ValueExtractorManager;
 import org.hibernate.validator.internal.engine.groups.Sequence;
@@ -73,6 +75,11 @@
 	 */
 	private static final List<Class<?>> DEFAULT_GROUP_SEQUENCE = Collections.<Class<?>>singletonList( Default.class );
 
+	/**
+	 * The load factor of the executable meta data cache.
+	 */
+	private static final float EXECUTABLE_META_DATA_CACHE_LOAD_FACTOR = 0.75f;
+
 	private final ValidationOrderGenerator validationOrderGenerator;
 
 	/**
@@ -102,6 +109,15 @@
 	 */
 	private final Map<String, ExecutableMetaData> executableMetaDataMap;
 
+	/**
+	 * Executable meta data keyed by the executables passed in for method validation, so that the signature string of
+	 * an executable doesn't need to be computed for each validation call. As {@link Executable#equals(Object)} and
+	 * {@link Executable#hashCode()} are value-based and don't copy the parameter types, the copies handed out by the
+	 * reflection API for the same method or constructor share an entry without any allocation on lookup. Only
+	 * executables known to this bean are cached, which bounds the size of the cache.
+	 */
+	private final ConcurrentHashMap<Executable, ExecutableMetaData> executableMetaDataByExecutable;
+
 	/**
 	 * Property meta data keyed against the property name
 	 */
@@ -192,6 +208,12 @@ public BeanMetaDataImpl(Class<T> beanClass,
 		this.directMetaConstraints = getDirectConstraints();
 
 		this.executableMetaDataMap = Collections.unmodifiableMap( bySignature( executableMetaDataSet ) );
+		// writes are rare, hence a single segment is enough
+		this.executableMetaDataByExecutable = new ConcurrentHashMap<>(
+				executableMetaDataMap.size(),
+				EXECUTABLE_META_DATA_CACHE_LOAD_FACTOR,
+				1
+		);
 
 		boolean defaultGroupSequenceIsRedefined = defaultGroupSequenceIsRedefined();
 		List<Class<?>> resolvedDefaultGroupSequence = getDefaultGroupSequence( null );
@@ -268,7 +290,18 @@ public Set<MetaConstraint<?>> getDirectMetaConstraints() {
 
 	@Override
 	public ExecutableMetaData getMetaDataFor(Executable executable) {
-		return executableMetaDataMap.get( ExecutableHelper.getSignature( executable ) );
+		ExecutableMetaData executableMetaData = executableMetaDataByExecutable.get( executable );
+
+		if ( executableMetaData == null ) {
+			executableMetaData = executableMetaDataMap.get( ExecutableHelper.getSignature( executable ) );
+
+			// executables not known to this bean lead to an exception, so there is no need to cache that case
+			if ( executableMetaData != null ) {
+				executableMetaDataByExecutable.putIfAbsent( executable, executableMetaData );
+			}
+		}
+
+		return executableMetaData;
 	}
 
 	@Override
@@ -502,6 +535,8 @@ public String toString() {
 
 		private final MethodValidationConfiguration methodValidationConfiguration;
 
+		private final PropertyAccessStrategy propertyAccessStrategy;
+
 		private BeanMetaDataBuilder(
 				ConstraintHelper constraintHelper,
 				ExecutableHelper executableHelper,
@@ -509,7 +544,8 @@ private BeanMetaDataBuilder(
 				ValueExtractorManager valueExtractorManager,
 				ValidationOrderGenerator validationOrderGenerator,
 				Class<T> beanClass,
-				MethodValidationConfiguration methodValidationConfiguration) {
+				MethodValidationConfiguration methodValidationConfiguration,
+				PropertyAccessStrategy propertyAccessStrategy) {
 			this.beanClass = beanClass;
 			this.constraintHelper = constraintHelper;
 			this.validationOrderGenerator = validationOrderGenerator;
@@ -517,6 +553,7 @@ private BeanMetaDataBuilder(
 			this.typeResolutionHelper = typeResolutionHelper;
 			this.valueExtractorManager = valueExtractorManager;
 			this.methodValidationConfiguration = methodValidationConfiguration;
+			this.propertyAccessStrategy = propertyAccessStrategy;
 		}
 
 		public static <T> BeanMetaDataBuilder<T> getInstance(
@@ -526,7 +563,8 @@ public static <T> BeanMetaDataBuilder<T> getInstance(
 				ValueExtractorManager valueExtractorManager,
 				ValidationOrderGenerator validationOrderGenerator,
 				Class<T> beanClass,
-				MethodValidationConfiguration methodValidationConfiguration) {
+				MethodValidationConfiguration methodValidationConfiguration,
+				PropertyAccessStrategy propertyAccessStrategy) {
 			return new BeanMetaDataBuilder<>(
 					constraintHelper,
 					executableHelper,
@@ -534,7 +572,8 @@ public static <T> BeanMetaDataBuilder<T> getInstance(
 					valueExtractorManager,
 					validationOrderGenerator,
 					beanClass,
-					methodValidationConfiguration );
+					methodValidationConfiguration,
+					propertyAccessStrategy );
 		}
 
 		public void add(BeanConfiguration<? super T> configuration) {
@@ -578,7 +617,8 @@ private void addMetaDataToBuilder(ConstrainedElement constrainableElement, Set<B
 							executableHelper,
 							typeResolutionHelper,
 							valueExtractorManager,
-							methodValidationConfiguration
+							methodValidationConfiguration,
+							propertyAccessStrategy
 					)
 			);
 		}
@@ -618,7 +658,8 @@ public BuilderDelegate(
 				ExecutableHelper executableHelper,
 				TypeResolutionHelper typeResolutionHelper,
 				ValueExtractorManager valueExtractorManager,
-				MethodValidationConfiguration methodValidationConfiguration
+				MethodValidationConfiguration methodValidationConfiguration,
+				PropertyAccessStrategy propertyAccessStrategy
 		) {
 			this.beanClass = beanClass;
 			this.constraintHelper = constraintHelper;
@@ -635,7 +676,8 @@ public BuilderDelegate(
 							constrainedField,
 							constraintHelper,
 							typeResolutionHelper,
-							valueExtractorManager
+							valueExtractorManager,
+							propertyAccessStrategy
 					);
 					break;
 				case CONSTRUCTOR:
@@ -663,7 +705,8 @@ public BuilderDelegate(
 								constrainedExecutable,
 								constraintHelper,
 								typeResolutionHelper,
-								valueExtractorManager
+								valueExtractorManager,
+								propertyAccessStrategy
 						);
 					}
 					break;
@@ -674,7 +717,8 @@ public BuilderDelegate(
 							constrainedType,
 							constraintHelper,
 							typeResolutionHelper,
-							valueExtractorManager
+							valueExtractorManager,
+							propertyAccessStrategy
 					);
 					break;
 			}
@@ -23,9 +23,11 @@
 
 import javax.validation.metadata.GroupConversionDescriptor;
 
+import org.hibernate.validator.PropertyAccessStrategy;
 import org.hibernate.validator.internal.engine.path.PathImpl;
 import org.hibernate.validator.internal.metadata.facets.Cascadable;
 import org.hibernate.validator.internal.util.CollectionHelper;
+import org.hibernate.validator.internal.util.PropertyAccessor;
 import org.hibernate.validator.internal.util.ReflectionHelper;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
@@ -44,9 +46,12 @@ public class FieldCascadable implements Cascadable {
 	private final Type cascadableType;
 	private final List<TypeVariable<?>> cascadingTypeParameters;
 	private final GroupConversionHelper groupConversionHelper;
+	private final PropertyAccessor propertyAccessor;
 
-	FieldCascadable(Field field, List<TypeVariable<?>> cascadingTypeParameters, Map<Class<?>, Class<?>> groupConversions) {
+	FieldCascadable(Field field, List<TypeVariable<?>> cascadingTypeParameters, Map<Class<?>, Class<?>> groupConversions,
+			PropertyAccessStrategy propertyAccessStrategy) {
 		this.field = field;
+		this.propertyAccessor = PropertyAccessor.forField( field, propertyAccessStrategy );
 		this.propertyName = field.getName();
 		this.cascadableType = ReflectionHelper.typeOf( field );
 		this.cascadingTypeParameters = Collections.unmodifiableList( cascadingTypeParameters );
@@ -76,7 +81,7 @@ public Type getCascadableType() {
 
 	@Override
 	public Object getValue(Object parent) {
-		return ReflectionHelper.getValue( field, parent );
+		return propertyAccessor.getValue( parent );
 	}
 
 	@Override
@@ -96,9 +101,11 @@ public static class Builder implements Cascadable.Builder {
 		private final Field field;
 		private final List<TypeVariable<?>> cascadingTypeParameters = new ArrayList<>();
 		private final Map<Class<?>, Class<?>> groupConversions = new HashMap<>();
+		private final PropertyAccessStrategy propertyAccessStrategy;
 
-		public Builder(Field field) {
+		public Builder(Field field, PropertyAccessStrategy propertyAccessStrategy) {
 			this.field = field;
+			this.propertyAccessStrategy = propertyAccessStrategy;
 		}
 
 		@Override
@@ -126,7 +133,7 @@ public void addGroupConversions(Map<Class<?>, Class<?>> groupConversions) {
 
 		@Override
 		public FieldCascadable build() {
-			return new FieldCascadable( getAccessible( field ), cascadingTypeParameters, groupConversions );
+			return new FieldCascadable( getAccessible( field ), cascadingTypeParameters, groupConversions, propertyAccessStrategy );
 		}
 
 		/**
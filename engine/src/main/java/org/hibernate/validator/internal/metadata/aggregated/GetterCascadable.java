@@ -22,9 +22,11 @@
 
 import javax.validation.metadata.GroupConversionDescriptor;
 
+import org.hibernate.validator.PropertyAccessStrategy;
 import org.hibernate.validator.internal.engine.path.PathImpl;
 import org.hibernate.validator.internal.metadata.facets.Cascadable;
 import org.hibernate.validator.internal.util.CollectionHelper;
+import org.hibernate.validator.internal.util.PropertyAccessor;
 import org.hibernate.validator.internal.util.ReflectionHelper;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
@@ -43,9 +45,12 @@ public class GetterCascadable implements Cascadable {
 	private final Type cascadableType;
 	private final List<TypeVariable<?>> cascadingTypeParameters;
 	private final GroupConversionHelper groupConversionHelper;
+	private final PropertyAccessor propertyAccessor;
 
-	GetterCascadable(Method method, List<TypeVariable<?>> cascadingTypeParameters, Map<Class<?>, Class<?>> groupConversions) {
+	GetterCascadable(Method method, List<TypeVariable<?>> cascadingTypeParameters, Map<Class<?>, Class<?>> groupConversions,
+			PropertyAccessStrategy propertyAccessStrategy) {
 		this.method = method;
+		this.propertyAccessor = PropertyAccessor.forGetter( method, propertyAccessStrategy );
 		this.propertyName = ReflectionHelper.getPropertyName( method );
 		this.cascadableType = ReflectionHelper.typeOf( method );
 		this.cascadingTypeParameters = Collections.unmodifiableList( cascadingTypeParameters );
@@ -75,7 +80,7 @@ public Type getCascadableType() {
 
 	@Override
 	public Object getValue(Object parent) {
-		return ReflectionHelper.getValue( method, parent );
+		return propertyAccessor.getValue( parent );
 	}
 
 	@Override
@@ -95,9 +100,11 @@ public static class Builder implements Cascadable.Builder {
 		private final Method method;
 		private final List<TypeVariable<?>> cascadingTypeParameters = new ArrayList<>();
 		private final Map<Class<?>, Class<?>> groupConversions = new HashMap<>();
+		private final PropertyAccessStrategy propertyAccessStrategy;
 
-		public Builder(Method method) {
+		public Builder(Method method, PropertyAccessStrategy propertyAccessStrategy) {
 			this.method = method;
+			this.propertyAccessStrategy = propertyAccessStrategy;
 		}
 
 		@Override
@@ -125,7 +132,7 @@ public void addGroupConversions(Map<Class<?>, Class<?>> groupConversions) {
 
 		@Override
 		public GetterCascadable build() {
-			return new GetterCascadable( getAccessible( method ), cascadingTypeParameters, groupConversions );
+			return new GetterCascadable( getAccessible( method ), cascadingTypeParameters, groupConversions, propertyAccessStrategy );
 		}
 
 		/**
@@ -21,6 +21,7 @@
 
 import javax.validation.ElementKind;
 
+import org.hibernate.validator.PropertyAccessStrategy;
 import org.hibernate.validator.internal.engine.cascading.ValueExtractorManager;
 import org.hibernate.validator.internal.metadata.core.ConstraintHelper;
 import org.hibernate.validator.internal.metadata.core.MetaConstraint;
@@ -137,29 +138,36 @@ public static class Builder extends MetaDataBuilder {
 		private final String propertyName;
 		private final Map<Member, Cascadable.Builder> cascadableBuilders = new HashMap<>();
 		private final Type propertyType;
+		private final PropertyAccessStrategy propertyAccessStrategy;
 
 		public Builder(Class<?> beanClass, ConstrainedField constrainedField, ConstraintHelper constraintHelper, TypeResolutionHelper typeResolutionHelper,
-				ValueExtractorManager valueExtractorManager) {
+				ValueExtractorManager valueExtractorManager, PropertyAccessStrategy propertyAccessStrategy) {
 			super( beanClass, constraintHelper, typeResolutionHelper, valueExtractorManager );
 
+			this.propertyAccessStrategy = propertyAccessStrategy;
+
 			this.propertyName = constrainedField.getField().getName();
 			this.propertyType = ReflectionHelper.typeOf( constrainedField.getField() );
 			add( constrainedField );
 		}
 
 		public Builder(Class<?> beanClass, ConstrainedType constrainedType, ConstraintHelper constraintHelper, TypeResolutionHelper typeResolutionHelper,
-				ValueExtractorManager valueExtractorManager) {
+				ValueExtractorManager valueExtractorManager, PropertyAccessStrategy propertyAccessStrategy) {
 			super( beanClass, constraintHelper, typeResolutionHelper, valueExtractorManager );
 
+			this.propertyAccessStrategy = propertyAccessStrategy;
+
 			this.propertyName = null;
 			this.propertyType = null;
 			add( constrainedType );
 		}
 
 		public Builder(Class<?> beanClass, ConstrainedExecutable constrainedMethod, ConstraintHelper constraintHelper, TypeResolutionHelper typeResolutionHelper,
-				ValueExtractorManager valueExtractorManager) {
+				ValueExtractorManager valueExtractorManager, PropertyAccessStrategy propertyAccessStrategy) {
 			super( beanClass, constraintHelper, typeResolutionHelper, valueExtractorManager );
 
+			this.propertyAccessStrategy = propertyAccessStrategy;
+
 			this.propertyName = ReflectionHelper.getPropertyName( constrainedMethod.getExecutable() );
 			this.propertyType = ReflectionHelper.typeOf( constrainedMethod.getExecutable() );
 			add( constrainedMethod );
@@ -189,7 +197,7 @@ public final void add(ConstrainedElement constrainedElement) {
 					Cascadable.Builder builder = cascadableBuilders.get( field );
 
 					if ( builder == null ) {
-						builder = new FieldCascadable.Builder( field );
+						builder = new FieldCascadable.Builder( field, propertyAccessStrategy );
 						cascadableBuilders.put( field, builder );
 					}
 
@@ -201,7 +209,7 @@ else if ( constrainedElement.getKind() == ConstrainedElementKind.METHOD ) {
 					Cascadable.Builder builder = cascadableBuilders.get( method );
 
 					if ( builder == null ) {
-						builder = new GetterCascadable.Builder( method );
+						builder = new GetterCascadable.Builder( method, propertyAccessStrategy );
 						cascadableBuilders.put( method, builder );
 					}
 
@@ -213,18 +221,49 @@ else if ( constrainedElement.getKind() == ConstrainedElementKind.METHOD ) {
 
 		@Override
 		protected Set<MetaConstraint<?>> adaptConstraints(ConstrainedElementKind kind, Set<MetaConstraint<?>> constraints) {
-			if ( kind == ConstrainedElementKind.FIELD || kind == ConstrainedElementKind.TYPE ) {
+			if ( kind == ConstrainedElementKind.TYPE ) {
 				return constraints;
 			}
 
+			if ( kind == ConstrainedElementKind.FIELD ) {
+				if ( propertyAccessStrategy == PropertyAccessStrategy.REFLECTION ) {
+					return constraints;
+				}
+
+				// re-create the field locations so they read values using the configured access strategy
+				return constraints.stream()
+					.map( this::withFieldLocation )
+					.collect( Collectors.toSet() );
+			}
+
 			// convert return value locations into getter locations for usage within this meta-data
 			return constraints.stream()
 				.map( this::withGetterLocation )
 				.collect( Collectors.toSet() );
 		}
 
+		private MetaConstraint<?> withFieldLocation(MetaConstraint<?> constraint) {
+			ConstraintLocation adaptedLocation = withFieldLocation( constraint.getLocation() );
+
+			return MetaConstraints.create( typeResolutionHelper, valueExtractorManager, constraint.getDescriptor(), adaptedLocation );
+		}
+
+		private ConstraintLocation withFieldLocation(ConstraintLocation location) {
+			if ( location instanceof TypeArgumentConstraintLocation ) {
+				TypeArgumentConstraintLocation typeArgumentLocation = (TypeArgumentConstraintLocation) location;
+
+				return ConstraintLocation.forTypeArgument(
+						withFieldLocation( typeArgumentLocation.getDelegate() ),
+						typeArgumentLocation.getTypeParameter(),
+						typeArgumentLocation.getTypeForValidatorResolution()
+				);
+			}
+
+			return ConstraintLocation.forField( (Field) location.getMember(), propertyAccessStrategy );
+		}
+
 		private MetaConstraint<?> withGetterLocation(MetaConstraint<?> constraint) {
-			ConstraintLocation adaptedLocation = ConstraintLocation.forGetter( (Method) constraint.getLocation().getMember() );
+			ConstraintLocation adaptedLocation = ConstraintLocation.forGetter( (Method) constraint.getLocation().getMember(), propertyAccessStrategy );
 
 			if ( constraint.getLocation() instanceof TypeArgumentConstraintLocation ) {
 				adaptedLocation = ConstraintLocation.forTypeArgument(
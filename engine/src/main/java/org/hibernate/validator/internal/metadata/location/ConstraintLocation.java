@@ -13,6 +13,7 @@
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 
+import org.hibernate.validator.PropertyAccessStrategy;
 import org.hibernate.validator.internal.engine.path.PathImpl;
 import org.hibernate.validator.internal.util.ExecutableParameterNameProvider;
 
@@ -43,10 +44,18 @@ static ConstraintLocation forField(Field field) {
 		return new FieldConstraintLocation( field );
 	}
 
+	static ConstraintLocation forField(Field field, PropertyAccessStrategy propertyAccessStrategy) {
+		return new FieldConstraintLocation( field, propertyAccessStrategy );
+	}
+
 	static ConstraintLocation forGetter(Method getter) {
 		return new GetterConstraintLocation( getter );
 	}
 
+	static ConstraintLocation forGetter(Method getter, PropertyAccessStrategy propertyAccessStrategy) {
+		return new GetterConstraintLocation( getter, propertyAccessStrategy );
+	}
+
 	static ConstraintLocation forTypeArgument(ConstraintLocation delegate, TypeVariable<?> typeParameter, Type type) {
 		return new TypeArgumentConstraintLocation( delegate, typeParameter, type );
 	}
@@ -12,8 +12,10 @@
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 
+import org.hibernate.validator.PropertyAccessStrategy;
 import org.hibernate.validator.internal.engine.path.PathImpl;
 import org.hibernate.validator.internal.util.ExecutableParameterNameProvider;
+import org.hibernate.validator.internal.util.PropertyAccessor;
 import org.hibernate.validator.internal.util.ReflectionHelper;
 import org.hibernate.validator.internal.util.StringHelper;
 import org.hibernate.validator.internal.util.privilegedactions.GetDeclaredField;
@@ -32,7 +34,10 @@ public class FieldConstraintLocation implements ConstraintLocation {
 	 */
 	private final Field field;
 
-	private final Field accessibleField;
+	/**
+	 * Used for reading the value of this location from a given bean.
+	 */
+	private final PropertyAccessor propertyAccessor;
 
 	/**
 	 * The property name associated with the member.
@@ -46,8 +51,12 @@ public class FieldConstraintLocation implements ConstraintLocation {
 
 
 	FieldConstraintLocation(Field field) {
+		this( field, PropertyAccessStrategy.REFLECTION );
+	}
+
+	FieldConstraintLocation(Field field, PropertyAccessStrategy propertyAccessStrategy) {
 		this.field = field;
-		this.accessibleField = getAccessible( field );
+		this.propertyAccessor = PropertyAccessor.forField( getAccessible( field ), propertyAccessStrategy );
 		this.propertyName = ReflectionHelper.getPropertyName( field );
 		this.typeForValidatorResolution = ReflectionHelper.boxedType( ReflectionHelper.typeOf( field ) );
 	}
@@ -79,7 +88,7 @@ public void appendTo(ExecutableParameterNameProvider parameterNameProvider, Path
 	@Override
 	// TODO Probably this should be done with a security check to prevent direct usage by external clients
 	public Object getValue(Object parent) {
-		return ReflectionHelper.getValue( accessibleField, parent );
+		return propertyAccessor.getValue( parent );
 	}
 
 	@Override
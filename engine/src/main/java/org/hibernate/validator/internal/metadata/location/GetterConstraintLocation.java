@@ -12,8 +12,10 @@
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 
+import org.hibernate.validator.PropertyAccessStrategy;
 import org.hibernate.validator.internal.engine.path.PathImpl;
 import org.hibernate.validator.internal.util.ExecutableParameterNameProvider;
+import org.hibernate.validator.internal.util.PropertyAccessor;
 import org.hibernate.validator.internal.util.ReflectionHelper;
 import org.hibernate.validator.internal.util.StringHelper;
 import org.hibernate.validator.internal.util.privilegedactions.GetDeclaredMethod;
@@ -32,7 +34,10 @@ public class GetterConstraintLocation implements ConstraintLocation {
 	 */
 	private final Method method;
 
-	private final Method accessibleMethod;
+	/**
+	 * Used for reading the value of this location from a given bean.
+	 */
+	private final PropertyAccessor propertyAccessor;
 
 	/**
 	 * The property name associated with the method.
@@ -46,8 +51,12 @@ public class GetterConstraintLocation implements ConstraintLocation {
 
 
 	GetterConstraintLocation(Method method) {
+		this( method, PropertyAccessStrategy.REFLECTION );
+	}
+
+	GetterConstraintLocation(Method method, PropertyAccessStrategy propertyAccessStrategy) {
 		this.method = method;
-		this.accessibleMethod = getAccessible( method );
+		this.propertyAccessor = PropertyAccessor.forGetter( getAccessible( method ), propertyAccessStrategy );
 		this.propertyName = ReflectionHelper.getPropertyName( method );
 		this.typeForValidatorResolution = ReflectionHelper.boxedType( ReflectionHelper.typeOf( method ) );
 	}
@@ -79,7 +88,7 @@ public void appendTo(ExecutableParameterNameProvider parameterNameProvider, Path
 	@Override
 	// TODO Probably this should be done with a security check to prevent direct usage by external clients
 	public Object getValue(Object parent) {
-		return ReflectionHelper.getValue( accessibleMethod, parent );
+		return propertyAccessor.getValue( parent );
 	}
 
 	@Override
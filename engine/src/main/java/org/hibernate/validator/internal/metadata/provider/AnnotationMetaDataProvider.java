@@ -96,17 +96,28 @@ public class AnnotationMetaDataProvider implements MetaDataProvider {
 	protected final AnnotationProcessingOptions annotationProcessingOptions;
 	protected final ExecutableParameterNameProvider parameterNameProvider;
 	protected final ValueExtractorManager valueExtractorManager;
+	private final MetaDataIndex metaDataIndex;
 
 	public AnnotationMetaDataProvider(ConstraintHelper constraintHelper,
 			TypeResolutionHelper typeResolutionHelper,
 			ExecutableParameterNameProvider parameterNameProvider,
 			ValueExtractorManager valueExtractorManager,
 			AnnotationProcessingOptions annotationProcessingOptions) {
+		this( constraintHelper, typeResolutionHelper, parameterNameProvider, valueExtractorManager, annotationProcessingOptions, false );
+	}
+
+	public AnnotationMetaDataProvider(ConstraintHelper constraintHelper,
+			TypeResolutionHelper typeResolutionHelper,
+			ExecutableParameterNameProvider parameterNameProvider,
+			ValueExtractorManager valueExtractorManager,
+			AnnotationProcessingOptions annotationProcessingOptions,
+			boolean useMetaDataIndex) {
 		this.constraintHelper = constraintHelper;
 		this.typeResolutionHelper = typeResolutionHelper;
 		this.parameterNameProvider = parameterNameProvider;
 		this.valueExtractorManager = valueExtractorManager;
 		this.annotationProcessingOptions = annotationProcessingOptions;
+		this.metaDataIndex = useMetaDataIndex ? new MetaDataIndex() : null;
 		this.configuredBeans = new ConcurrentReferenceHashMap<>(
 				DEFAULT_INITIAL_CAPACITY,
 				SOFT,
@@ -153,9 +164,22 @@ private <T> BeanConfiguration<T> getBeanConfiguration(Class<T> beanClass) {
 	 * @return Retrieves constraint related meta data from the annotations of the given type.
 	 */
 	private <T> BeanConfiguration<T> retrieveBeanConfiguration(Class<T> beanClass) {
-		Set<ConstrainedElement> constrainedElements = getFieldMetaData( beanClass );
-		constrainedElements.addAll( getMethodMetaData( beanClass ) );
-		constrainedElements.addAll( getConstructorMetaData( beanClass ) );
+		// if the type is listed in a meta-data index, only the elements listed there need to be examined for annotations
+		MetaDataIndex.TypeEntry indexEntry = metaDataIndex != null ? metaDataIndex.getTypeEntry( beanClass ) : null;
+
+		Set<ConstrainedElement> constrainedElements = getFieldMetaData( beanClass, indexEntry );
+		constrainedElements.addAll( getMethodMetaData( beanClass, indexEntry ) );
+		constrainedElements.addAll( getConstructorMetaData( beanClass, indexEntry ) );
+
+		if ( indexEntry != null && !indexEntry.isClassAnnotated() ) {
+			return new BeanConfiguration<>(
+					ConfigurationSource.ANNOTATION,
+					beanClass,
+					constrainedElements,
+					null,
+					null
+			);
+		}
 
 		//TODO GM: currently class level constraints are represented by a PropertyMetaData. This
 		//works but seems somewhat unnatural
@@ -233,7 +257,7 @@ private Set<MetaConstraint<?>> getClassLevelConstraints(Class<?> clazz) {
 		return classLevelConstraints;
 	}
 
-	private Set<ConstrainedElement> getFieldMetaData(Class<?> beanClass) {
+	private Set<ConstrainedElement> getFieldMetaData(Class<?> beanClass, MetaDataIndex.TypeEntry indexEntry) {
 		Set<ConstrainedElement> propertyMetaData = newHashSet();
 
 		for ( Field field : run( GetDeclaredFields.action( beanClass ) ) ) {
@@ -245,11 +269,27 @@ private Set<ConstrainedElement> getFieldMetaData(Class<?> beanClass) {
 				continue;
 			}
 
-			propertyMetaData.add( findPropertyMetaData( field ) );
+			if ( indexEntry != null && !indexEntry.isFieldAnnotated( field.getName() ) ) {
+				propertyMetaData.add( getUnannotatedFieldMetaData( field ) );
+			}
+			else {
+				propertyMetaData.add( findPropertyMetaData( field ) );
+			}
 		}
 		return propertyMetaData;
 	}
 
+	private ConstrainedField getUnannotatedFieldMetaData(Field field) {
+		return new ConstrainedField(
+				ConfigurationSource.ANNOTATION,
+				field,
+				Collections.emptySet(),
+				Collections.emptySet(),
+				Collections.emptyMap(),
+				Collections.emptyList()
+		);
+	}
+
 	private ConstrainedField findPropertyMetaData(Field field) {
 		Set<MetaConstraint<?>> constraints = convertToMetaConstraints(
 				findConstraints( field, ElementType.FIELD ),
@@ -291,19 +331,19 @@ private Set<MetaConstraint<?>> convertToMetaConstraints(List<ConstraintDescripto
 		return constraints;
 	}
 
-	private Set<ConstrainedExecutable> getConstructorMetaData(Class<?> clazz) {
+	private Set<ConstrainedExecutable> getConstructorMetaData(Class<?> clazz, MetaDataIndex.TypeEntry indexEntry) {
 		Executable[] declaredConstructors = run( GetDeclaredConstructors.action( clazz ) );
 
-		return getMetaData( declaredConstructors );
+		return getMetaData( declaredConstructors, indexEntry );
 	}
 
-	private Set<ConstrainedExecutable> getMethodMetaData(Class<?> clazz) {
+	private Set<ConstrainedExecutable> getMethodMetaData(Class<?> clazz, MetaDataIndex.TypeEntry indexEntry) {
 		Executable[] declaredMethods = run( GetDeclaredMethods.action( clazz ) );
 
-		return getMetaData( declaredMethods );
+		return getMetaData( declaredMethods, indexEntry );
 	}
 
-	private Set<ConstrainedExecutable> getMetaData(Executable[] executableElements) {
+	private Set<ConstrainedExecutable> getMetaData(Executable[] executableElements, MetaDataIndex.TypeEntry indexEntry) {
 		Set<ConstrainedExecutable> executableMetaData = newHashSet();
 
 		for ( Executable executable : executableElements ) {
@@ -313,12 +353,62 @@ private Set<ConstrainedExecutable> getMetaData(Executable[] executableElements)
 				continue;
 			}
 
-			executableMetaData.add( findExecutableMetaData( executable ) );
+			if ( indexEntry != null && !isAnnotated( executable, indexEntry ) ) {
+				executableMetaData.add( getUnannotatedExecutableMetaData( executable ) );
+			}
+			else {
+				executableMetaData.add( findExecutableMetaData( executable ) );
+			}
 		}
 
 		return executableMetaData;
 	}
 
+	private boolean isAnnotated(Executable executable, MetaDataIndex.TypeEntry indexEntry) {
+		if ( executable instanceof Constructor ) {
+			return indexEntry.isConstructorAnnotated();
+		}
+		else {
+			return indexEntry.isMethodAnnotated( executable.getName() );
+		}
+	}
+
+	/**
+	 * Returns the meta data for an executable known to have no annotations. Such executables still need to be
+	 * represented in the meta model, e.g. for applying the rules for overriding methods.
+	 */
+	private ConstrainedExecutable getUnannotatedExecutableMetaData(Executable executable) {
+		List<ConstrainedParameter> parameterMetaData = newArrayList();
+		List<String> parameterNames = parameterNameProvider.getParameterNames( executable );
+
+		for ( int i = 0; i < parameterNames.size(); i++ ) {
+			parameterMetaData.add(
+					new ConstrainedParameter(
+							ConfigurationSource.ANNOTATION,
+							executable,
+							ReflectionHelper.typeOf( executable, i ),
+							i,
+							parameterNames.get( i ),
+							Collections.emptySet(),
+							Collections.emptySet(),
+							Collections.emptyMap(),
+							Collections.emptyList()
+					)
+			);
+		}
+
+		return new ConstrainedExecutable(
+				ConfigurationSource.ANNOTATION,
+				executable,
+				parameterMetaData,
+				Collections.emptySet(),
+				Collections.emptySet(),
+				Collections.emptySet(),
+				Collections.emptyMap(),
+				Collections.emptyList()
+		);
+	}
+
 	/**
 	 * Finds all constraint annotations defined for the given method or constructor.
 	 *
@@ -0,0 +1,249 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.metadata.provider;
+
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.STRONG;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.WEAK;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.internal.util.privilegedactions.GetClassLoader;
+
+/**
+ * Provides access to the meta-data indexes generated by the Hibernate Validator annotation processor when invoked with
+ * the {@code generateMetaDataIndex} option.
+ * <p>
+ * An index lists the types compiled together with the processor and, for each type, the elements which carry any
+ * annotations (on the element itself, its parameters or the type arguments of its type). For types listed in an
+ * index, all other elements are known to be unconstrained, so that their annotations don't need to be read. Types not
+ * listed in any index are processed as usual.
+ * <p>
+ * As the index is not checked against the compiled types, a stale index would drop constraints; it is thus only used
+ * if enabled via {@link org.hibernate.validator.HibernateValidatorConfiguration#useMetaDataIndex(boolean)}.
+ * <p>
+ * The index is a UTF-8 text file with the following structure:
+ *
+ * <pre>
+ * # comment
+ * com.acme.Order
+ * 	class
+ * 	field orderNumber
+ * 	method getCustomer
+ * 	constructor
+ * </pre>
+ *
+ * Each type is given by its binary name, followed by one tab-indented line per annotated element: {@code class} if
+ * the type itself is annotated, {@code field} or {@code method} followed by the name of an annotated field or method
+ * (all overloads of a method are considered annotated) and {@code constructor} if any of the constructors is
+ * annotated. Indexes are looked up via the class loader of the validated type; entries for the same type from several
+ * indexes are merged.
+ */
+class MetaDataIndex {
+
+	private static final Log log = LoggerFactory.make();
+
+	/**
+	 * The name of the index resource.
+	 */
+	static final String INDEX_RESOURCE_NAME = "META-INF/hibernate-validator/metadata.idx";
+
+	private static final String CLASS_ENTRY = "class";
+	private static final String FIELD_ENTRY = "field ";
+	private static final String METHOD_ENTRY = "method ";
+	private static final String CONSTRUCTOR_ENTRY = "constructor";
+
+	/**
+	 * The entries of all indexes visible to a given class loader, keyed by binary type name.
+	 */
+	private final ConcurrentReferenceHashMap<ClassLoader, Map<String, TypeEntry>> entriesByClassLoader = new ConcurrentReferenceHashMap<>(
+			AnnotationMetaDataProvider.DEFAULT_INITIAL_CAPACITY,
+			WEAK,
+			STRONG
+	);
+
+	/**
+	 * Returns the index entry for the given type.
+	 *
+	 * @param beanClass the type of interest
+	 *
+	 * @return the index entry for the given type or {@code null} if the type is not listed in any index
+	 */
+	TypeEntry getTypeEntry(Class<?> beanClass) {
+		ClassLoader classLoader = run( GetClassLoader.fromClass( beanClass ) );
+
+		// JDK types are never indexed
+		if ( classLoader == null ) {
+			return null;
+		}
+
+		Map<String, TypeEntry> entries = entriesByClassLoader.get( classLoader );
+
+		if ( entries == null ) {
+			entries = loadEntries( classLoader );
+			Map<String, TypeEntry> cachedEntries = entriesByClassLoader.putIfAbsent( classLoader, entries );
+			if ( cachedEntries != null ) {
+				entries = cachedEntries;
+			}
+		}
+
+		return entries.get( beanClass.getName() );
+	}
+
+	private static Map<String, TypeEntry> loadEntries(ClassLoader classLoader) {
+		Enumeration<URL> indexUrls;
+		try {
+			indexUrls = classLoader.getResources( INDEX_RESOURCE_NAME );
+		}
+		catch (IOException e) {
+			log.unableToReadMetaDataIndex( null, e );
+			return Collections.emptyMap();
+		}
+
+		if ( !indexUrls.hasMoreElements() ) {
+			return Collections.emptyMap();
+		}
+
+		Map<String, TypeEntry> entries = new HashMap<>();
+
+		while ( indexUrls.hasMoreElements() ) {
+			URL indexUrl = indexUrls.nextElement();
+			Map<String, TypeEntry> entriesFromIndex = new HashMap<>();
+
+			try {
+				readIndex( indexUrl, entriesFromIndex );
+			}
+			catch (IOException | RuntimeException e) {
+				// the types of a broken index are read reflectively
+				log.unableToReadMetaDataIndex( indexUrl, e );
+				continue;
+			}
+
+			for ( TypeEntry entry : entriesFromIndex.values() ) {
+				TypeEntry existingEntry = entries.get( entry.typeName );
+				if ( existingEntry == null ) {
+					entries.put( entry.typeName, entry );
+				}
+				else {
+					existingEntry.merge( entry );
+				}
+			}
+		}
+
+		return entries;
+	}
+
+	private static void readIndex(URL indexUrl, Map<String, TypeEntry> entries) throws IOException {
+		try ( InputStream in = indexUrl.openStream();
+				BufferedReader reader = new BufferedReader( new InputStreamReader( in, StandardCharsets.UTF_8 ) ) ) {
+			TypeEntry currentEntry = null;
+			String line;
+
+			while ( ( line = reader.readLine() ) != null ) {
+				if ( line.isEmpty() || line.charAt( 0 ) == '#' ) {
+					continue;
+				}
+
+				if ( line.charAt( 0 ) != '\t' ) {
+					String typeName = line.trim();
+					currentEntry = entries.get( typeName );
+					if ( currentEntry == null ) {
+						currentEntry = new TypeEntry( typeName );
+						entries.put( typeName, currentEntry );
+					}
+					continue;
+				}
+
+				if ( currentEntry == null ) {
+					throw new IOException( "Element entry without preceding type: " + line );
+				}
+
+				String element = line.substring( 1 );
+
+				if ( element.equals( CLASS_ENTRY ) ) {
+					currentEntry.classAnnotated = true;
+				}
+				else if ( element.equals( CONSTRUCTOR_ENTRY ) ) {
+					currentEntry.constructorAnnotated = true;
+				}
+				else if ( element.startsWith( FIELD_ENTRY ) ) {
+					currentEntry.annotatedFields.add( element.substring( FIELD_ENTRY.length() ) );
+				}
+				else if ( element.startsWith( METHOD_ENTRY ) ) {
+					currentEntry.annotatedMethods.add( element.substring( METHOD_ENTRY.length() ) );
+				}
+				else {
+					throw new IOException( "Unknown element entry: " + line );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Runs the given privileged action, using a privileged block if required.
+	 * <p>
+	 * <b>NOTE:</b> This must never be changed into a publicly available method to avoid execution of arbitrary
+	 * privileged actions within HV's protection domain.
+	 */
+	private static <T> T run(PrivilegedAction<T> action) {
+		return System.getSecurityManager() != null ? AccessController.doPrivileged( action ) : action.run();
+	}
+
+	/**
+	 * The index entry of a single type.
+	 */
+	static class TypeEntry {
+
+		private final String typeName;
+		private final Set<String> annotatedFields = new HashSet<>();
+		private final Set<String> annotatedMethods = new HashSet<>();
+		private boolean classAnnotated;
+		private boolean constructorAnnotated;
+
+		private TypeEntry(String typeName) {
+			this.typeName = typeName;
+		}
+
+		boolean isClassAnnotated() {
+			return classAnnotated;
+		}
+
+		boolean isConstructorAnnotated() {
+			return constructorAnnotated;
+		}
+
+		boolean isFieldAnnotated(String fieldName) {
+			return annotatedFields.contains( fieldName );
+		}
+
+		boolean isMethodAnnotated(String methodName) {
+			return annotatedMethods.contains( methodName );
+		}
+
+		private void merge(TypeEntry other) {
+			classAnnotated |= other.classAnnotated;
+			constructorAnnotated |= other.constructorAnnotated;
+			annotatedFields.addAll( other.annotatedFields );
+			annotatedMethods.addAll( other.annotatedMethods );
+		}
+	}
+}
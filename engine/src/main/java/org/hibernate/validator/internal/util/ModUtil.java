@@ -6,8 +6,6 @@
  */
 package org.hibernate.validator.internal.util;
 
-import java.util.List;
-
 /**
  * Helper class for modulo 10/11.
  *
@@ -24,11 +22,11 @@ private ModUtil() {
 	 *
 	 * @return the result of the mod10 checksum calculation
 	 */
-	public static int calculateLuhnMod10Check(final List<Integer> digits) {
+	public static int calculateLuhnMod10Check(final int[] digits) {
 		int sum = 0;
 		boolean even = true;
-		for ( int index = digits.size() - 1; index >= 0; index-- ) {
-			int digit = digits.get( index );
+		for ( int index = digits.length - 1; index >= 0; index-- ) {
+			int digit = digits[index];
 
 			if ( even ) {
 				digit <<= 1;
@@ -51,11 +49,11 @@ public static int calculateLuhnMod10Check(final List<Integer> digits) {
 	 *
 	 * @return the result of the mod10 checksum calculation
 	 */
-	public static int calculateMod10Check(final List<Integer> digits, int multiplier, int weight) {
+	public static int calculateMod10Check(final int[] digits, int multiplier, int weight) {
 		int sum = 0;
 		boolean even = true;
-		for ( int index = digits.size() - 1; index >= 0; index-- ) {
-			int digit = digits.get( index );
+		for ( int index = digits.length - 1; index >= 0; index-- ) {
+			int digit = digits[index];
 
 			if ( even ) {
 				digit *= multiplier;
@@ -78,12 +76,12 @@ public static int calculateMod10Check(final List<Integer> digits, int multiplier
 	 *
 	 * @return the result of the mod11 checksum calculation
 	 */
-	public static int calculateMod11Check(final List<Integer> digits, final int threshold) {
+	public static int calculateMod11Check(final int[] digits, final int threshold) {
 		int sum = 0;
 		int multiplier = 2;
 
-		for ( int index = digits.size() - 1; index >= 0; index-- ) {
-			sum += digits.get( index ) * multiplier++;
+		for ( int index = digits.length - 1; index >= 0; index-- ) {
+			sum += digits[index] * multiplier++;
 			if ( multiplier > threshold ) {
 				multiplier = 2;
 			}
@@ -98,7 +96,7 @@ public static int calculateMod11Check(final List<Integer> digits, final int thre
 	 *
 	 * @return the result of the mod11 checksum calculation
 	 */
-	public static int calculateMod11Check(final List<Integer> digits) {
+	public static int calculateMod11Check(final int[] digits) {
 		return calculateMod11Check( digits, Integer.MAX_VALUE );
 	}
 
@@ -112,11 +110,11 @@ public static int calculateMod11Check(final List<Integer> digits) {
 	 *
 	 * @return the result of mod checksum calculation
 	 */
-	public static int calculateModXCheckWithWeights(final List<Integer> digits, int moduloParam, final int threshold, int... weights) {
+	public static int calculateModXCheckWithWeights(final int[] digits, int moduloParam, final int threshold, int... weights) {
 		int sum = 0;
 		int multiplier = 1;
 
-		for ( int index = digits.size() - 1; index >= 0; index-- ) {
+		for ( int index = digits.length - 1; index >= 0; index-- ) {
 			if ( weights.length != 0 ) {
 				multiplier = weights[weights.length - index % weights.length - 1];
 			}
@@ -126,7 +124,7 @@ public static int calculateModXCheckWithWeights(final List<Integer> digits, int
 					multiplier = 2;
 				}
 			}
-			sum += digits.get( index ) * multiplier;
+			sum += digits[index] * multiplier;
 		}
 		return moduloParam - ( sum % moduloParam );
 	}
@@ -0,0 +1,145 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+
+import org.hibernate.validator.PropertyAccessStrategy;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+
+/**
+ * Reads the value of a field or getter from a given bean. Instances are obtained via {@link #forField(Field, PropertyAccessStrategy)}
+ * and {@link #forGetter(Method, PropertyAccessStrategy)} when building the meta data and can then be used for any
+ * number of reads.
+ *
+ * @see PropertyAccessStrategy
+ */
+public abstract class PropertyAccessor {
+
+	private static final Log log = LoggerFactory.make();
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType( Object.class, Object.class );
+
+	private PropertyAccessor() {
+	}
+
+	/**
+	 * Returns an accessor for the given field.
+	 *
+	 * @param field the field to read; must be accessible already
+	 * @param strategy the access strategy to use
+	 *
+	 * @return an accessor for the given field
+	 */
+	public static PropertyAccessor forField(Field field, PropertyAccessStrategy strategy) {
+		if ( strategy == PropertyAccessStrategy.METHOD_HANDLES ) {
+			try {
+				return new MethodHandleAccessor( field, MethodHandles.lookup().unreflectGetter( field ) );
+			}
+			catch (IllegalAccessException e) {
+				throw log.getUnableToAccessMemberException( field.getName(), e );
+			}
+		}
+
+		return new ReflectiveFieldAccessor( field );
+	}
+
+	/**
+	 * Returns an accessor for the given getter method.
+	 *
+	 * @param getter the getter to invoke; must be accessible already
+	 * @param strategy the access strategy to use
+	 *
+	 * @return an accessor for the given getter
+	 */
+	public static PropertyAccessor forGetter(Method getter, PropertyAccessStrategy strategy) {
+		if ( strategy == PropertyAccessStrategy.METHOD_HANDLES ) {
+			try {
+				return new MethodHandleAccessor( getter, MethodHandles.lookup().unreflect( getter ) );
+			}
+			catch (IllegalAccessException e) {
+				throw log.getUnableToAccessMemberException( getter.getName(), e );
+			}
+		}
+
+		return new ReflectiveGetterAccessor( getter );
+	}
+
+	/**
+	 * Returns the value of the represented property of the given bean.
+	 *
+	 * @param bean the bean to read from
+	 *
+	 * @return the property value
+	 */
+	public abstract Object getValue(Object bean);
+
+	private static final class ReflectiveFieldAccessor extends PropertyAccessor {
+
+		private final Field field;
+
+		private ReflectiveFieldAccessor(Field field) {
+			this.field = field;
+		}
+
+		@Override
+		public Object getValue(Object bean) {
+			return ReflectionHelper.getValue( field, bean );
+		}
+	}
+
+	private static final class ReflectiveGetterAccessor extends PropertyAccessor {
+
+		private final Method getter;
+
+		private ReflectiveGetterAccessor(Method getter) {
+			this.getter = getter;
+		}
+
+		@Override
+		public Object getValue(Object bean) {
+			return ReflectionHelper.getValue( getter, bean );
+		}
+	}
+
+	private static final class MethodHandleAccessor extends PropertyAccessor {
+
+		private final String memberName;
+
+		/**
+		 * The handle, adapted to {@code (Object)Object} so it can be invoked exactly without per-call type
+		 * conversions at the call site.
+		 */
+		private final MethodHandle handle;
+
+		private MethodHandleAccessor(Member member, MethodHandle handle) {
+			this.memberName = member.getName();
+			this.handle = handle.asType( GETTER_TYPE );
+		}
+
+		@Override
+		public Object getValue(Object bean) {
+			try {
+				return (Object) handle.invokeExact( bean );
+			}
+			catch (Error e) {
+				throw e;
+			}
+			// wrap anything else thrown by the getter, including throwables which are no exceptions, like the reflective
+			// accessors do
+			catch (Throwable e) {
+				throw log.getUnableToAccessMemberException( memberName, e );
+			}
+		}
+	}
+}
@@ -5,6 +5,7 @@
  * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
  */
 package org.hibernate.validator.internal.util.logging;
+import static org.jboss.logging.Logger.Level.DEBUG;
 import static org.jboss.logging.Logger.Level.INFO;
 import static org.jboss.logging.Logger.Level.WARN;
 
@@ -16,6 +17,7 @@
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
+import java.net.URL;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
@@ -327,7 +329,7 @@ RuntimeException getTryingToInstantiateAnnotationWithUnknownParametersException(
 	IllegalArgumentException getMemberIsNeitherAFieldNorAMethodException(Member member);
 
 	@Message(id = 90, value = "Unable to access %s.")
-	ValidationException getUnableToAccessMemberException(String memberName, @Cause Exception e);
+	ValidationException getUnableToAccessMemberException(String memberName, @Cause Throwable e);
 
 	@Message(id = 91, value = "%s has to be a primitive type.")
 	IllegalArgumentException getHasToBeAPrimitiveTypeException(@FormatWith(ClassObjectFormatter.class) Class<?> clazz);
@@ -702,4 +704,41 @@ ConstraintDeclarationException getInconsistentValueUnwrappingConfigurationBetwee
 
 	@Message(id = 205, value = "Invalid unwrapping configuration for constraint %2$s on %1$s. You can only define one of 'Unwrapping.Skip' or 'Unwrapping.Unwrap'.")
 	ConstraintDefinitionException getInvalidUnwrappingConfigurationForConstraintException(Member member, @FormatWith(ClassObjectFormatter.class) Class<? extends Annotation> constraint);
+
+	@Message(id = 206, value = "Invalid property access strategy '%1$s'. Supported values are %2$s.")
+	ValidationException getInvalidPropertyAccessStrategyException(String value, String supportedValues);
+
+	@LogMessage(level = WARN)
+	@Message(id = 207, value = "Unable to read the meta-data index %s, the annotations of the types listed in it will be read reflectively.")
+	void unableToReadMetaDataIndex(URL indexUrl, @Cause Exception e);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = 208, value = "Built the meta data of %1$s in %2$.3f ms.")
+	void builtBeanMetaData(@FormatWith(ClassObjectFormatter.class) Class<?> beanClass, double durationInMillis);
+
+	@Message(id = 209, value = "Unable to scan package %s for types to build the meta data of.")
+	ValidationException getUnableToScanPackageException(String packageName, @Cause Exception e);
+
+	@Message(id = 210, value = "Invalid meta data cache policy '%1$s'. Supported values are %2$s.")
+	ValidationException getInvalidMetaDataCachePolicyException(String value, String supportedValues);
+
+	@Message(id = 211, value = "Invalid maximum size of the meta data cache '%s'. It must be an integer greater than 0.")
+	ValidationException getInvalidMetaDataCacheMaxSizeException(String value);
+
+	@Message(id = 212, value = "Invalid maximum number of constraint violations '%s'. It must be an integer greater than or equal to 0.")
+	ValidationException getInvalidMaxViolationsException(String value);
+
+	@Message(id = 213, value = "Invalid regular expression engine '%1$s'. It must be the fully-qualified name of a class implementing %2$s.")
+	ValidationException getInvalidRegularExpressionEngineException(String value, @FormatWith(ClassObjectFormatter.class) Class<?> engineType);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = 214, value = "Determined the constrained executables of %1$d types in %3$.3f ms, %2$d of them skipped as not declaring any executable constraint.")
+	void determinedConstrainedExecutables(long processedTypes, long skippedTypes, double durationInMillis);
+
+	@LogMessage(level = WARN)
+	@Message(id = 215, value = "Unable to load type %1$s found while scanning package %2$s, no meta data will be built for it.")
+	void unableToLoadScannedType(String className, String packageName, @Cause LinkageError e);
+
+	@Message(id = 216, value = "Interrupted while building the bean meta data.")
+	ValidationException getInterruptedWhileBuildingMetaDataException(@Cause InterruptedException e);
 }
@@ -7,12 +7,25 @@
 package org.hibernate.validator.internal.util.scriptengine;
 
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
+import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
 import javax.script.ScriptException;
 import javax.script.SimpleBindings;
 
+import static org.hibernate.validator.internal.util.CollectionHelper.newConcurrentHashMap;
+import static org.hibernate.validator.internal.util.CollectionHelper.newHashMap;
+
 /**
  * A wrapper around JSR 223 {@link ScriptEngine}s. This class is thread-safe.
+ * <p>
+ * Scripts are compiled once per engine if the engine implements {@link Compilable}. Engines which are not thread-safe
+ * are not shared between threads: instead, a pool of engines is maintained, growing up to the number of threads
+ * evaluating scripts concurrently, each engine keeping its own compiled scripts.
  *
  * @author Gunnar Morling
  * @author Kevin Pollet &lt;kevin.pollet@serli.com&gt; (C) 2011 SERLI
@@ -21,6 +34,18 @@ public class ScriptEvaluator {
 
 	private final ScriptEngine engine;
 
+	/**
+	 * The compiled scripts of the wrapped engine, only used if the engine is thread-safe.
+	 */
+	private final Map<String, CompiledScript> compiledScripts = newConcurrentHashMap();
+
+	/**
+	 * The idle engines, only used if the wrapped engine is not thread-safe.
+	 */
+	private final Queue<PooledEngine> enginePool = new ConcurrentLinkedQueue<PooledEngine>();
+
+	private final boolean threadSafe;
+
 	/**
 	 * Creates a new script executor.
 	 *
@@ -28,11 +53,39 @@ public class ScriptEvaluator {
 	 */
 	public ScriptEvaluator(ScriptEngine engine) {
 		this.engine = engine;
+		this.threadSafe = engineAllowsParallelAccessFromMultipleThreads();
+
+		if ( !threadSafe ) {
+			enginePool.add( new PooledEngine( engine ) );
+		}
 	}
 
 	/**
-	 * Executes the given script, using the given variable bindings. The execution of the script happens either synchronized or
-	 * unsynchronized, depending on the engine's threading abilities.
+	 * Compiles the given script ahead of its first execution, so that syntax errors are raised early.
+	 *
+	 * @param script The script to be compiled.
+	 *
+	 * @throws ScriptException In case the script cannot be compiled.
+	 */
+	public void compile(String script) throws ScriptException {
+		if ( threadSafe ) {
+			getCompiledScript( engine, compiledScripts, script );
+		}
+		else {
+			PooledEngine pooledEngine = borrowEngine();
+			try {
+				getCompiledScript( pooledEngine.engine, pooledEngine.compiledScripts, script );
+			}
+			finally {
+				enginePool.offer( pooledEngine );
+			}
+		}
+	}
+
+	/**
+	 * Executes the given script, using the given variable bindings. Depending on the engine's threading abilities, the
+	 * script is executed either by the wrapped engine or by an engine of the pool, used exclusively by the current thread
+	 * during the execution.
 	 *
 	 * @param script The script to be executed.
 	 * @param bindings The bindings to be used.
@@ -42,18 +95,66 @@ public ScriptEvaluator(ScriptEngine engine) {
 	 * @throws ScriptException In case of any errors during script execution.
 	 */
 	public Object evaluate(String script, Map<String, Object> bindings) throws ScriptException {
-		if ( engineAllowsParallelAccessFromMultipleThreads() ) {
-			return doEvaluate( script, bindings );
+		if ( threadSafe ) {
+			return doEvaluate( engine, compiledScripts, script, bindings );
 		}
 		else {
-			synchronized ( engine ) {
-				return doEvaluate( script, bindings );
+			PooledEngine pooledEngine = borrowEngine();
+			try {
+				return doEvaluate( pooledEngine.engine, pooledEngine.compiledScripts, script, bindings );
+			}
+			finally {
+				enginePool.offer( pooledEngine );
 			}
 		}
 	}
 
-	private Object doEvaluate(String script, Map<String, Object> bindings) throws ScriptException {
-		return engine.eval( script, new SimpleBindings( bindings ) );
+	private Object doEvaluate(ScriptEngine engine, Map<String, CompiledScript> compiledScripts, String script, Map<String, Object> bindings)
+			throws ScriptException {
+		Bindings scriptBindings = new SimpleBindings( bindings );
+		CompiledScript compiledScript = getCompiledScript( engine, compiledScripts, script );
+
+		if ( compiledScript != null ) {
+			return compiledScript.eval( scriptBindings );
+		}
+		else {
+			return engine.eval( script, scriptBindings );
+		}
+	}
+
+	/**
+	 * Returns the compiled form of the given script, compiling it if required.
+	 *
+	 * @return The compiled script or {@code null} if the engine does not support compilation.
+	 */
+	private CompiledScript getCompiledScript(ScriptEngine engine, Map<String, CompiledScript> compiledScripts, String script)
+			throws ScriptException {
+		if ( !( engine instanceof Compilable ) ) {
+			return null;
+		}
+
+		CompiledScript compiledScript = compiledScripts.get( script );
+		if ( compiledScript == null ) {
+			compiledScript = ( (Compilable) engine ).compile( script );
+			compiledScripts.put( script, compiledScript );
+		}
+
+		return compiledScript;
+	}
+
+	private PooledEngine borrowEngine() {
+		PooledEngine pooledEngine = enginePool.poll();
+
+		if ( pooledEngine == null ) {
+			ScriptEngine newEngine = engine.getFactory().getScriptEngine();
+			Bindings globalBindings = engine.getBindings( ScriptContext.GLOBAL_SCOPE );
+			if ( globalBindings != null ) {
+				newEngine.setBindings( globalBindings, ScriptContext.GLOBAL_SCOPE );
+			}
+			pooledEngine = new PooledEngine( newEngine );
+		}
+
+		return pooledEngine;
 	}
 
 	/**
@@ -66,4 +167,18 @@ private boolean engineAllowsParallelAccessFromMultipleThreads() {
 
 		return "THREAD-ISOLATED".equals( threadingType ) || "STATELESS".equals( threadingType );
 	}
+
+	/**
+	 * A non thread-safe engine together with its compiled scripts, only accessed by one thread at a time.
+	 */
+	private static final class PooledEngine {
+
+		private final ScriptEngine engine;
+
+		private final Map<String, CompiledScript> compiledScripts = newHashMap();
+
+		private PooledEngine(ScriptEngine engine) {
+			this.engine = engine;
+		}
+	}
 }
@@ -6,14 +6,19 @@
  */
 package org.hibernate.validator.messageinterpolation;
 
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.SOFT;
+
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.EnumSet;
 import java.util.Locale;
 
 import javax.el.ELManager;
 import javax.el.ExpressionFactory;
+import javax.el.ValueExpression;
 
 import org.hibernate.validator.internal.engine.messageinterpolation.InterpolationTerm;
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 import org.hibernate.validator.internal.util.privilegedactions.GetClassLoader;
@@ -34,22 +39,45 @@ public class ResourceBundleMessageInterpolator extends AbstractMessageInterpolat
 
 	private static final Log LOG = LoggerFactory.make();
 
+	/**
+	 * The default initial capacity for the expression cache.
+	 */
+	private static final int DEFAULT_INITIAL_CAPACITY = 100;
+
+	/**
+	 * The default load factor for the expression cache.
+	 */
+	private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+	/**
+	 * The default concurrency level for the expression cache.
+	 */
+	private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
 	private final ExpressionFactory expressionFactory;
 
+	/**
+	 * The parsed EL expressions keyed by expression; {@code null} if caching is disabled.
+	 */
+	private final ConcurrentReferenceHashMap<String, ValueExpression> compiledExpressions;
+
 	public ResourceBundleMessageInterpolator() {
 		super();
 		this.expressionFactory = buildExpressionFactory();
+		this.compiledExpressions = buildCompiledExpressionsCache( true );
 	}
 
 	public ResourceBundleMessageInterpolator(ResourceBundleLocator userResourceBundleLocator) {
 		super( userResourceBundleLocator );
 		this.expressionFactory = buildExpressionFactory();
+		this.compiledExpressions = buildCompiledExpressionsCache( true );
 	}
 
 	public ResourceBundleMessageInterpolator(ResourceBundleLocator userResourceBundleLocator,
 			ResourceBundleLocator contributorResourceBundleLocator) {
 		super( userResourceBundleLocator, contributorResourceBundleLocator );
 		this.expressionFactory = buildExpressionFactory();
+		this.compiledExpressions = buildCompiledExpressionsCache( true );
 	}
 
 	public ResourceBundleMessageInterpolator(ResourceBundleLocator userResourceBundleLocator,
@@ -57,24 +85,42 @@ public ResourceBundleMessageInterpolator(ResourceBundleLocator userResourceBundl
 			boolean cachingEnabled) {
 		super( userResourceBundleLocator, contributorResourceBundleLocator, cachingEnabled );
 		this.expressionFactory = buildExpressionFactory();
+		this.compiledExpressions = buildCompiledExpressionsCache( cachingEnabled );
 	}
 
 	public ResourceBundleMessageInterpolator(ResourceBundleLocator userResourceBundleLocator, boolean cachingEnabled) {
 		super( userResourceBundleLocator, null, cachingEnabled );
 		this.expressionFactory = buildExpressionFactory();
+		this.compiledExpressions = buildCompiledExpressionsCache( cachingEnabled );
 	}
 
 	public ResourceBundleMessageInterpolator(ResourceBundleLocator userResourceBundleLocator, boolean cachingEnabled, ExpressionFactory expressionFactory) {
 		super( userResourceBundleLocator, null, cachingEnabled );
 		this.expressionFactory = expressionFactory;
+		this.compiledExpressions = buildCompiledExpressionsCache( cachingEnabled );
 	}
 
 	@Override
 	public String interpolate(Context context, Locale locale, String term) {
-		InterpolationTerm expression = new InterpolationTerm( term, locale, expressionFactory );
+		InterpolationTerm expression = new InterpolationTerm( term, locale, expressionFactory, compiledExpressions );
 		return expression.interpolate( context );
 	}
 
+	private static ConcurrentReferenceHashMap<String, ValueExpression> buildCompiledExpressionsCache(boolean cachingEnabled) {
+		if ( !cachingEnabled ) {
+			return null;
+		}
+
+		return new ConcurrentReferenceHashMap<>(
+				DEFAULT_INITIAL_CAPACITY,
+				DEFAULT_LOAD_FACTOR,
+				DEFAULT_CONCURRENCY_LEVEL,
+				SOFT,
+				SOFT,
+				EnumSet.noneOf( ConcurrentReferenceHashMap.Option.class )
+		);
+	}
+
 	/**
 	 * The javax.el FactoryFinder uses the TCCL to load the {@link ExpressionFactory} implementation so we need to be
 	 * extra careful when initializing it.
@@ -0,0 +1,26 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.spi.regex;
+
+import org.hibernate.validator.Incubating;
+
+/**
+ * A regular expression compiled by a {@link RegularExpressionEngine}. Implementations must be thread-safe as a given
+ * instance is shared by all the constraints declaring the same expression.
+ *
+ * @since 6.0
+ */
+@Incubating
+public interface RegularExpression {
+
+	/**
+	 * @param value the character sequence to match, never {@code null}
+	 *
+	 * @return {@code true} if the entire sequence matches the regular expression, {@code false} otherwise
+	 */
+	boolean matches(CharSequence value);
+}
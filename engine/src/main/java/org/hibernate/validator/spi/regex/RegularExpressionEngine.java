@@ -0,0 +1,46 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.spi.regex;
+
+import java.util.regex.PatternSyntaxException;
+
+import org.hibernate.validator.Incubating;
+
+/**
+ * Compiles the regular expressions of the {@link javax.validation.constraints.Pattern} constraints, including those
+ * composing other constraints such as {@link org.hibernate.validator.constraints.Email}.
+ * <p>
+ * By default, regular expressions are compiled with {@link java.util.regex.Pattern}. An alternative engine, e.g. one
+ * guaranteeing a matching time linear in the length of the input, can be configured via
+ * {@link org.hibernate.validator.HibernateValidatorConfiguration#regularExpressionEngine(RegularExpressionEngine)} or
+ * the property {@link org.hibernate.validator.HibernateValidatorConfiguration#REGULAR_EXPRESSION_ENGINE}. As the engine
+ * is given each expression and its flags, it can decide per constraint how to evaluate it, e.g. by falling back to
+ * {@code java.util.regex} for the constructs it does not support.
+ * <p>
+ * Each distinct combination of expression and flags is compiled only once per validator factory, the resulting
+ * {@link RegularExpression} being shared by all the constraints declaring it. Implementations must be thread-safe and
+ * must have a no-args constructor if configured via the property.
+ *
+ * @see org.hibernate.validator.HibernateValidatorConfiguration#REGULAR_EXPRESSION_ENGINE
+ * @since 6.0
+ */
+@Incubating
+public interface RegularExpressionEngine {
+
+	/**
+	 * Compiles the given regular expression.
+	 *
+	 * @param regexp the regular expression, using the syntax of {@link java.util.regex.Pattern}
+	 * @param flags the match flags, a bit mask of the constants defined by {@link java.util.regex.Pattern}, e.g.
+	 * {@link java.util.regex.Pattern#CASE_INSENSITIVE}
+	 *
+	 * @return the compiled regular expression, which must be thread-safe
+	 *
+	 * @throws PatternSyntaxException if the expression is not valid
+	 */
+	RegularExpression compile(String regexp, int flags);
+}
@@ -32,6 +32,7 @@
 import javax.validation.UnexpectedTypeException;
 import javax.validation.ValidationException;
 import javax.validation.Validator;
+import javax.validation.constraints.Min;
 
 import org.hibernate.validator.HibernateValidator;
 import org.hibernate.validator.HibernateValidatorConfiguration;
@@ -271,6 +272,27 @@ public void testMultipleValidatorsForSameTypeWithNoCallToIncludeExistingValidato
 		validator.validate( new ConstrainedIntegerFieldBean() );
 	}
 
+	@Test
+	public void testCustomValidatorForBuiltInConstraintIncludingExistingValidators() {
+		mapping.constraintDefinition( Min.class )
+				.includeExistingValidators( true )
+				.validatedBy( CustomMinValidatorForInteger.class );
+
+		config.addMapping( mapping );
+		Validator validator = config.buildValidatorFactory().getValidator();
+
+		// the custom validator is more specific than the built-in one for Number
+		Set<? extends ConstraintViolation<?>> violations = validator.validate( new MinConstrainedIntegerFieldBean() );
+		assertNumberOfViolations( violations, 1 );
+		assertCorrectConstraintViolationMessages( violations, CustomMinValidatorForInteger.class.getName() );
+
+		// the built-in validators are still used for the other types
+		violations = validator.validate( new MinConstrainedLongFieldBean() );
+		assertNumberOfViolations( violations, 1 );
+		assertCorrectConstraintTypes( violations, Min.class );
+		assertCorrectConstraintViolationMessages( violations, "must be greater than or equal to 5" );
+	}
+
 	@Test
 	public void testConstraintBasedOnMethodReference() {
 		mapping.constraintDefinition( Directory.class )
@@ -426,6 +448,29 @@ private static class ConstrainedShortFieldBean {
 		private Short field;
 	}
 
+	public static class CustomMinValidatorForInteger implements ConstraintValidator<Min, Integer> {
+
+		@Override
+		public boolean isValid(Integer value, ConstraintValidatorContext context) {
+			context.disableDefaultConstraintViolation();
+			context.buildConstraintViolationWithTemplate( CustomMinValidatorForInteger.class.getName() )
+					.addConstraintViolation();
+			return false;
+		}
+	}
+
+	private static class MinConstrainedIntegerFieldBean {
+
+		@Min(5)
+		private Integer field = 10;
+	}
+
+	private static class MinConstrainedLongFieldBean {
+
+		@Min(5)
+		private Long field = 1L;
+	}
+
 	private class MyBean {
 
 		@Directory
@@ -141,6 +141,28 @@ public void testMultipleMessages() {
 		assertMessageAndPath( constraintViolationCreationContextList.get( 1 ), message2, "" );
 	}
 
+	@Test
+	public void testResetDiscardsPreviousViolationsAndExpressionVariables() {
+		ConstraintValidatorContextImpl context = createEmptyConstraintValidatorContextImpl();
+		context.addExpressionVariable( "foo", "bar" )
+				.buildConstraintViolationWithTemplate( message )
+				.addPropertyNode( "foo" )
+				.addConstraintViolation();
+
+		PathImpl path = PathImpl.createRootPath();
+		path.addPropertyNode( "bar" );
+		context.reset( path, null );
+		context.disableDefaultConstraintViolation();
+
+		String message2 = "another message";
+		context.buildConstraintViolationWithTemplate( message2 ).addConstraintViolation();
+
+		List<ConstraintViolationCreationContext> constraintViolationCreationContextList = context.getConstraintViolationCreationContexts();
+		assertEquals( constraintViolationCreationContextList.size(), 1 );
+		assertMessageAndPath( constraintViolationCreationContextList.get( 0 ), message2, "bar" );
+		assertTrue( constraintViolationCreationContextList.get( 0 ).getExpressionVariables().isEmpty() );
+	}
+
 	@Test(expectedExceptions = ValidationException.class)
 	public void testUnwrapToImplementationCausesValidationException() {
 		ConstraintValidatorContext context = createEmptyConstraintValidatorContextImpl();
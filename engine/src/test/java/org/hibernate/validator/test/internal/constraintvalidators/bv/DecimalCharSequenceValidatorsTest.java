@@ -0,0 +1,168 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.constraintvalidators.bv;
+
+import static org.testng.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Random;
+
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Digits;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+
+import org.hibernate.validator.internal.constraintvalidators.bv.DecimalMaxValidatorForCharSequence;
+import org.hibernate.validator.internal.constraintvalidators.bv.DecimalMinValidatorForCharSequence;
+import org.hibernate.validator.internal.constraintvalidators.bv.DigitsValidatorForCharSequence;
+import org.hibernate.validator.internal.constraintvalidators.bv.MaxValidatorForCharSequence;
+import org.hibernate.validator.internal.constraintvalidators.bv.MinValidatorForCharSequence;
+import org.hibernate.validator.internal.util.annotationfactory.AnnotationDescriptor;
+import org.hibernate.validator.internal.util.annotationfactory.AnnotationFactory;
+import org.testng.annotations.Test;
+
+/**
+ * Checks that the validators for character sequences, which scan the characters rather than converting them into a
+ * {@code BigDecimal}, give the same results as a conversion into a {@code BigDecimal} would.
+ */
+public class DecimalCharSequenceValidatorsTest {
+
+	private static final String[] BOUNDS = { "0", "-0", "1", "-1", "15", "-15.5", "1E3", "0.001", "123.456", "-1e-5",
+			"100", "99.99", "1e100", "-9223372036854775808", "9223372036854775807" };
+
+	private static final String[] VALUES = { "", "-", "+", ".", "-.", "e5", "1e", "1e+", "1.2.3", "--1", "1e5x", " 1",
+			"0", "-0", "+0", "0.000", "00015", "15", "15.0", "15.000001", "-15.5", "-15.50", "1000", "1E3", "1e+3",
+			"0.1E4", "10000e-1", ".001", "0.0010", "1.e2", "+.5", "123.456", "123.4560001", "1e100", "1e101",
+			"-9223372036854775808", "-9223372036854775809", "9223372036854775807", "9223372036854775808",
+			"1e999999999", "1e1000000000", "1e-0000000000012", "٣", "1٣.5", "1e٣" };
+
+	private static final String ALPHABET = "0000123456789..--++eE ٣x";
+
+	@Test
+	public void testFixedValues() {
+		for ( String bound : BOUNDS ) {
+			for ( String value : VALUES ) {
+				assertSameResults( value, bound );
+			}
+		}
+	}
+
+	@Test
+	public void testRandomValues() {
+		Random random = new Random( 42 );
+		for ( int i = 0; i < 2_000; i++ ) {
+			StringBuilder value = new StringBuilder();
+			int length = random.nextInt( 10 );
+			for ( int j = 0; j < length; j++ ) {
+				value.append( ALPHABET.charAt( random.nextInt( ALPHABET.length() ) ) );
+			}
+			if ( random.nextInt( 4 ) == 0 ) {
+				value.append( 'e' ).append( random.nextBoolean() ? "-" : "" ).append( random.nextInt( 20 ) );
+			}
+
+			for ( String bound : BOUNDS ) {
+				assertSameResults( value.toString(), bound );
+			}
+		}
+	}
+
+	@Test
+	public void testNonStringCharSequence() {
+		for ( String value : VALUES ) {
+			assertSameResults( new StringBuilder( value ), "15" );
+		}
+	}
+
+	private void assertSameResults(CharSequence value, String bound) {
+		BigDecimal expected = toBigDecimal( value );
+		BigDecimal boundValue = new BigDecimal( bound );
+		String message = "value '" + value + "', bound " + bound;
+
+		for ( boolean inclusive : Arrays.asList( true, false ) ) {
+			DecimalMinValidatorForCharSequence decimalMin = new DecimalMinValidatorForCharSequence();
+			decimalMin.initialize( decimalMin( bound, inclusive ) );
+			assertEquals(
+					decimalMin.isValid( value, null ),
+					expected != null && ( inclusive ? expected.compareTo( boundValue ) >= 0 : expected.compareTo( boundValue ) > 0 ),
+					"@DecimalMin, " + message
+			);
+
+			DecimalMaxValidatorForCharSequence decimalMax = new DecimalMaxValidatorForCharSequence();
+			decimalMax.initialize( decimalMax( bound, inclusive ) );
+			assertEquals(
+					decimalMax.isValid( value, null ),
+					expected != null && ( inclusive ? expected.compareTo( boundValue ) <= 0 : expected.compareTo( boundValue ) < 0 ),
+					"@DecimalMax, " + message
+			);
+		}
+
+		if ( boundValue.scale() <= 0 && boundValue.precision() - boundValue.scale() <= 18 ) {
+			MinValidatorForCharSequence min = new MinValidatorForCharSequence();
+			min.initialize( min( boundValue.longValueExact() ) );
+			assertEquals( min.isValid( value, null ), expected != null && expected.compareTo( boundValue ) >= 0, "@Min, " + message );
+
+			MaxValidatorForCharSequence max = new MaxValidatorForCharSequence();
+			max.initialize( max( boundValue.longValueExact() ) );
+			assertEquals( max.isValid( value, null ), expected != null && expected.compareTo( boundValue ) <= 0, "@Max, " + message );
+		}
+
+		for ( int integer = 0; integer < 4; integer++ ) {
+			for ( int fraction = 0; fraction < 3; fraction++ ) {
+				DigitsValidatorForCharSequence digits = new DigitsValidatorForCharSequence();
+				digits.initialize( digits( integer, fraction ) );
+				boolean expectedValid = expected != null
+						&& integer >= expected.precision() - expected.scale()
+						&& fraction >= ( expected.scale() < 0 ? 0 : expected.scale() );
+				assertEquals( digits.isValid( value, null ), expectedValid, "@Digits(" + integer + ", " + fraction + "), " + message );
+			}
+		}
+	}
+
+	private static BigDecimal toBigDecimal(CharSequence value) {
+		try {
+			return new BigDecimal( value.toString() );
+		}
+		catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	private static DecimalMin decimalMin(String value, boolean inclusive) {
+		AnnotationDescriptor<DecimalMin> descriptor = new AnnotationDescriptor<>( DecimalMin.class );
+		descriptor.setValue( "value", value );
+		descriptor.setValue( "inclusive", inclusive );
+		return AnnotationFactory.create( descriptor );
+	}
+
+	private static DecimalMax decimalMax(String value, boolean inclusive) {
+		AnnotationDescriptor<DecimalMax> descriptor = new AnnotationDescriptor<>( DecimalMax.class );
+		descriptor.setValue( "value", value );
+		descriptor.setValue( "inclusive", inclusive );
+		return AnnotationFactory.create( descriptor );
+	}
+
+	private static Min min(long value) {
+		AnnotationDescriptor<Min> descriptor = new AnnotationDescriptor<>( Min.class );
+		descriptor.setValue( "value", value );
+		return AnnotationFactory.create( descriptor );
+	}
+
+	private static Max max(long value) {
+		AnnotationDescriptor<Max> descriptor = new AnnotationDescriptor<>( Max.class );
+		descriptor.setValue( "value", value );
+		return AnnotationFactory.create( descriptor );
+	}
+
+	private static Digits digits(int integer, int fraction) {
+		AnnotationDescriptor<Digits> descriptor = new AnnotationDescriptor<>( Digits.class );
+		descriptor.setValue( "integer", integer );
+		descriptor.setValue( "fraction", fraction );
+		return AnnotationFactory.create( descriptor );
+	}
+}
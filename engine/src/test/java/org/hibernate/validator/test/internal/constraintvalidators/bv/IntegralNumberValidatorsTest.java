@@ -0,0 +1,107 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.constraintvalidators.bv;
+
+import static org.testng.Assert.assertEquals;
+
+import java.lang.annotation.Annotation;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.constraints.Digits;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+
+import org.hibernate.validator.internal.constraintvalidators.bv.DigitsValidatorForNumber;
+import org.hibernate.validator.internal.constraintvalidators.bv.MaxValidatorForNumber;
+import org.hibernate.validator.internal.constraintvalidators.bv.MinValidatorForNumber;
+import org.hibernate.validator.internal.util.annotationfactory.AnnotationDescriptor;
+import org.hibernate.validator.internal.util.annotationfactory.AnnotationFactory;
+import org.testng.annotations.Test;
+
+/**
+ * Checks that the validators for {@link Number} give the same results for {@link Integer} and {@link Long} values,
+ * which are compared directly, as for the equivalent {@link BigInteger} and {@link BigDecimal} values.
+ */
+public class IntegralNumberValidatorsTest {
+
+	private static final long[] BOUNDS = { Long.MIN_VALUE, Integer.MIN_VALUE, -15L, -1L, 0L, 1L, 15L, Integer.MAX_VALUE,
+			Long.MAX_VALUE };
+
+	private static final int[] INT_VALUES = { Integer.MIN_VALUE, -16, -15, -14, -1, 0, 1, 9, 10, 14, 15, 16, 99, 100,
+			1_000_000, Integer.MAX_VALUE };
+
+	private static final long[] LONG_VALUES = { Long.MIN_VALUE, Long.MIN_VALUE + 1, Integer.MIN_VALUE - 1L, -15L, 0L,
+			15L, 1_000_000_000_000L, Integer.MAX_VALUE + 1L, Long.MAX_VALUE - 1, Long.MAX_VALUE };
+
+	@Test
+	public void testMinValidatorComparesIntegralValuesLikeBigIntegers() {
+		for ( long bound : BOUNDS ) {
+			MinValidatorForNumber validator = initialize( new MinValidatorForNumber(), createMin( bound ) );
+
+			for ( int value : INT_VALUES ) {
+				assertEquals( validator.isValid( value, null ), validator.isValid( BigInteger.valueOf( value ), null ), "min " + bound + ", value " + value );
+			}
+			for ( long value : LONG_VALUES ) {
+				assertEquals( validator.isValid( value, null ), validator.isValid( BigInteger.valueOf( value ), null ), "min " + bound + ", value " + value );
+			}
+		}
+	}
+
+	@Test
+	public void testMaxValidatorComparesIntegralValuesLikeBigIntegers() {
+		for ( long bound : BOUNDS ) {
+			MaxValidatorForNumber validator = initialize( new MaxValidatorForNumber(), createMax( bound ) );
+
+			for ( int value : INT_VALUES ) {
+				assertEquals( validator.isValid( value, null ), validator.isValid( BigInteger.valueOf( value ), null ), "max " + bound + ", value " + value );
+			}
+			for ( long value : LONG_VALUES ) {
+				assertEquals( validator.isValid( value, null ), validator.isValid( BigInteger.valueOf( value ), null ), "max " + bound + ", value " + value );
+			}
+		}
+	}
+
+	@Test
+	public void testDigitsValidatorCountsIntegralDigitsLikeBigDecimals() {
+		for ( int integer = 0; integer <= 20; integer++ ) {
+			DigitsValidatorForNumber validator = initialize( new DigitsValidatorForNumber(), createDigits( integer, 2 ) );
+
+			for ( int value : INT_VALUES ) {
+				assertEquals( validator.isValid( value, null ), validator.isValid( new BigDecimal( value ), null ), "integer " + integer + ", value " + value );
+			}
+			for ( long value : LONG_VALUES ) {
+				assertEquals( validator.isValid( value, null ), validator.isValid( new BigDecimal( value ), null ), "integer " + integer + ", value " + value );
+			}
+		}
+	}
+
+	private static <A extends Annotation, V extends ConstraintValidator<A, ?>> V initialize(V validator, A annotation) {
+		validator.initialize( annotation );
+		return validator;
+	}
+
+	private static Min createMin(long value) {
+		AnnotationDescriptor<Min> descriptor = new AnnotationDescriptor<>( Min.class );
+		descriptor.setValue( "value", value );
+		return AnnotationFactory.create( descriptor );
+	}
+
+	private static Max createMax(long value) {
+		AnnotationDescriptor<Max> descriptor = new AnnotationDescriptor<>( Max.class );
+		descriptor.setValue( "value", value );
+		return AnnotationFactory.create( descriptor );
+	}
+
+	private static Digits createDigits(int integer, int fraction) {
+		AnnotationDescriptor<Digits> descriptor = new AnnotationDescriptor<>( Digits.class );
+		descriptor.setValue( "integer", integer );
+		descriptor.setValue( "fraction", fraction );
+		return AnnotationFactory.create( descriptor );
+	}
+}
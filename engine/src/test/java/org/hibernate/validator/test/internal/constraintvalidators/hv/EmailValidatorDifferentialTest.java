@@ -0,0 +1,126 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.constraintvalidators.hv;
+
+import static java.util.regex.Pattern.CASE_INSENSITIVE;
+import static org.testng.Assert.assertEquals;
+
+import java.net.IDN;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.hibernate.validator.internal.constraintvalidators.hv.EmailValidator;
+import org.testng.annotations.Test;
+
+/**
+ * Checks that the character scanner used by {@link EmailValidator} for plain ASCII email addresses accepts and rejects
+ * exactly the same values as the validation based on regular expressions and {@link IDN#toASCII(String)}.
+ */
+public class EmailValidatorDifferentialTest {
+
+	private static final String LOCAL_PART_ATOM = "[a-z0-9!#$%&'*+/=?^_`{|}~\u0080-\uFFFF-]";
+	private static final String LOCAL_PART_INSIDE_QUOTES_ATOM = "([a-z0-9!#$%&'*.(),<>\\[\\]:;  @+/=?^_`{|}~\u0080-\uFFFF-]|\\\\\\\\|\\\\\\\")";
+	private static final String DOMAIN_LABEL = "[a-z0-9!#$%&'*+/=?^_`{|}~-]";
+	private static final String DOMAIN = DOMAIN_LABEL + "+(\\." + DOMAIN_LABEL + "+)*";
+	private static final String IP_DOMAIN = "\\[[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}\\]";
+	private static final String IP_V6_DOMAIN = "(([0-9a-fA-F]{1,4}:){7,7}[0-9a-fA-F]{1,4}|([0-9a-fA-F]{1,4}:){1,7}:|([0-9a-fA-F]{1,4}:){1,6}:[0-9a-fA-F]{1,4}|([0-9a-fA-F]{1,4}:){1,5}(:[0-9a-fA-F]{1,4}){1,2}|([0-9a-fA-F]{1,4}:){1,4}(:[0-9a-fA-F]{1,4}){1,3}|([0-9a-fA-F]{1,4}:){1,3}(:[0-9a-fA-F]{1,4}){1,4}|([0-9a-fA-F]{1,4}:){1,2}(:[0-9a-fA-F]{1,4}){1,5}|[0-9a-fA-F]{1,4}:((:[0-9a-fA-F]{1,4}){1,6})|:((:[0-9a-fA-F]{1,4}){1,7}|:)|fe80:(:[0-9a-fA-F]{0,4}){0,4}%[0-9a-zA-Z]{1,}|::(ffff(:0{1,4}){0,1}:){0,1}((25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9])\\.){3,3}(25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9])|([0-9a-fA-F]{1,4}:){1,4}:((25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9])\\.){3,3}(25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9]))";
+
+	private static final Pattern LOCAL_PART_PATTERN = Pattern.compile(
+			"(" + LOCAL_PART_ATOM + "+|\"" + LOCAL_PART_INSIDE_QUOTES_ATOM + "+\")" +
+					"(\\." + "(" + LOCAL_PART_ATOM + "+|\"" + LOCAL_PART_INSIDE_QUOTES_ATOM + "+\")" + ")*", CASE_INSENSITIVE
+	);
+
+	private static final Pattern DOMAIN_PATTERN = Pattern.compile(
+			DOMAIN + "|" + IP_DOMAIN + "|" + "\\[IPv6:" + IP_V6_DOMAIN + "\\]", CASE_INSENSITIVE
+	);
+
+	private static final String[] FRAGMENTS = { "a", "Z", "9", "-", "_", "!", "~", "%", ".", ".", "@", "@", "\"", "\\",
+			"[", "]", ":", "(", " ", "\t", "1.2.3.4", "IPv6:", "::1", "é", "ü", "。", "xn--", "com",
+			"aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa" };
+
+	private static final String[] VALUES = { "a@b", "a@b.", "a@.b", "a@b..c", "a.@b", ".a@b", "a..b@c", "@b", "a@",
+			"a@b@c", "a b@c", "a@b c", "a@b]", "a@]", "a@b[c]", "a@[1.2.3.4]", "a@[IPv6:::1]", "\"a b\"@c", "\"a@b\"@c",
+			"é@b", "a@é.com", "a@b。com", "x@" + repeat( "a", 63 ), "x@" + repeat( "a", 64 ),
+			"x@" + repeat( repeat( "a", 63 ) + ".", 4 ) + "a", "x@" + repeat( repeat( "a", 63 ) + ".", 3 ) + "a",
+			repeat( "a", 64 ) + "@b", repeat( "a", 65 ) + "@b" };
+
+	private final EmailValidator validator = new EmailValidator();
+
+	@Test
+	public void testFixedValues() {
+		for ( String value : VALUES ) {
+			assertSameResult( value );
+			assertSameResult( new StringBuilder( value ) );
+		}
+	}
+
+	@Test
+	public void testRandomValues() {
+		Random random = new Random( 42 );
+		for ( int i = 0; i < 50_000; i++ ) {
+			StringBuilder value = new StringBuilder();
+			appendFragments( value, random, random.nextInt( 12 ) );
+			if ( random.nextInt( 3 ) == 0 ) {
+				value.append( '@' );
+				appendFragments( value, random, random.nextInt( 6 ) );
+			}
+			assertSameResult( value.toString() );
+		}
+	}
+
+	private void assertSameResult(CharSequence value) {
+		assertEquals( validator.isValid( value, null ), isValidReference( value.toString() ), "value '" + value + "'" );
+	}
+
+	private static void appendFragments(StringBuilder value, Random random, int count) {
+		for ( int i = 0; i < count; i++ ) {
+			value.append( FRAGMENTS[random.nextInt( FRAGMENTS.length )] );
+		}
+	}
+
+	/**
+	 * The validation as implemented before the introduction of the scanner.
+	 */
+	private static boolean isValidReference(String value) {
+		if ( value.isEmpty() ) {
+			return true;
+		}
+
+		int splitPosition = value.lastIndexOf( "@" );
+		if ( splitPosition < 0 ) {
+			return false;
+		}
+
+		String localPart = value.substring( 0, splitPosition );
+		String domainPart = value.substring( splitPosition + 1 );
+
+		if ( localPart.length() > 64 || !LOCAL_PART_PATTERN.matcher( localPart ).matches() ) {
+			return false;
+		}
+		if ( domainPart.endsWith( "." ) ) {
+			return false;
+		}
+
+		String asciiString;
+		try {
+			asciiString = IDN.toASCII( domainPart );
+		}
+		catch (IllegalArgumentException e) {
+			return false;
+		}
+
+		return asciiString.length() <= 255 && DOMAIN_PATTERN.matcher( asciiString ).matches();
+	}
+
+	private static String repeat(String value, int count) {
+		StringBuilder sb = new StringBuilder();
+		for ( int i = 0; i < count; i++ ) {
+			sb.append( value );
+		}
+		return sb.toString();
+	}
+}
@@ -152,6 +152,53 @@ public void testValidationOfTextFragment() throws Exception {
 		assertTrue( getSafeHtmlValidator().isValid( "Foobar", null ) );
 	}
 
+	@Test
+	public void testFragmentClosingTheDocumentBodyIsValidatedEntirely() throws Exception {
+		descriptor.setValue( "whitelistType", WhiteListType.BASIC );
+		SafeHtmlValidator validator = getSafeHtmlValidator();
+
+		assertFalse( validator.isValid( "<b>Hello</b></body><script>alert('Doh')</script>", null ) );
+		assertFalse( validator.isValid( "<b>Hello</b></html><script>alert('Doh')</script>", null ) );
+		assertTrue( validator.isValid( "<b>Hello</b></body><i>World</i>", null ) );
+	}
+
+	@Test
+	public void testTopLevelCommentIsIgnored() throws Exception {
+		descriptor.setValue( "whitelistType", WhiteListType.BASIC );
+		SafeHtmlValidator validator = getSafeHtmlValidator();
+
+		assertTrue( validator.isValid( "<!-- comment --><b>Hello</b>", null ) );
+		assertFalse( validator.isValid( "<b><!-- comment -->Hello</b>", null ) );
+	}
+
+	@Test
+	public void testTrailingUnterminatedTagIsIgnored() throws Exception {
+		descriptor.setValue( "whitelistType", WhiteListType.BASIC );
+		SafeHtmlValidator validator = getSafeHtmlValidator();
+
+		assertTrue( validator.isValid( "a<b", null ) );
+		assertTrue( validator.isValid( "x <y", null ) );
+		assertTrue( validator.isValid( "if a<b then", null ) );
+		assertTrue( validator.isValid( "<b>bold</b> and x<y", null ) );
+		assertTrue( validator.isValid( "--><b then= 'y<b>b'", null ) );
+	}
+
+	@Test
+	public void testValueExceedingMaxLength() throws Exception {
+		descriptor.setValue( "whitelistType", WhiteListType.BASIC );
+		descriptor.setValue( "maxLength", 12 );
+		SafeHtmlValidator validator = getSafeHtmlValidator();
+
+		assertTrue( validator.isValid( "<b>Hello</b>", null ) );
+		assertFalse( validator.isValid( "<b>Hello!</b>", null ) );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "HV000021.*")
+	public void testNegativeMaxLength() throws Exception {
+		descriptor.setValue( "maxLength", -1 );
+		getSafeHtmlValidator();
+	}
+
 	private SafeHtmlValidator getSafeHtmlValidator() {
 		SafeHtml p = AnnotationFactory.create( descriptor );
 		SafeHtmlValidator validator = new SafeHtmlValidator();
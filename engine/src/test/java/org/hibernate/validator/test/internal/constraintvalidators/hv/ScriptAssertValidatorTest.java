@@ -8,13 +8,19 @@
 
 import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertCorrectConstraintViolationMessages;
 import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertCorrectPropertyPaths;
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.validation.ConstraintDeclarationException;
 import javax.validation.ConstraintValidator;
@@ -105,6 +111,39 @@ public void illegalScriptExpressionRaisesException() throws Exception {
 		validator.isValid( new Object(), null );
 	}
 
+	@Test(expectedExceptions = ConstraintDeclarationException.class)
+	public void syntacticallyIllegalScriptExpressionRaisesExceptionAtInitialization() throws Exception {
+		getInitializedValidator( "groovy", "foo(" );
+	}
+
+	@Test(expectedExceptions = ConstraintDeclarationException.class, expectedExceptionsMessageRegExp = "HV000023.*")
+	public void syntacticallyIllegalScriptExpressionRaisesExceptionDuringValidation() throws Exception {
+		ValidatorUtil.getValidator().validate( new AnnotatedWithSyntacticallyIllegalScript() );
+	}
+
+	@Test
+	public void scriptCanBeEvaluatedConcurrently() throws Exception {
+		ConstraintValidator<ScriptAssert, Object> validator = getInitializedValidator(
+				"groovy", "_this.startsWith( 'valid' )"
+		);
+
+		ExecutorService executor = Executors.newFixedThreadPool( 8 );
+		try {
+			List<Future<Boolean>> results = new ArrayList<>();
+			for ( int i = 0; i < 200; i++ ) {
+				final String value = ( i % 2 == 0 ? "valid" : "invalid" ) + i;
+				results.add( executor.submit( () -> validator.isValid( value, null ) ) );
+			}
+
+			for ( int i = 0; i < results.size(); i++ ) {
+				assertEquals( results.get( i ).get(), Boolean.valueOf( i % 2 == 0 ), "Unexpected result for value " + i );
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
 	@Test(expectedExceptions = ConstraintDeclarationException.class)
 	public void scriptExpressionReturningNullRaisesException() throws Exception {
 		ConstraintValidator<ScriptAssert, Object> validator = getInitializedValidator( "groovy", "null" );
@@ -266,4 +305,8 @@ public AnnotatedWithoutReportCalendarEvent(Date startDate, Date endDate) {
 		}
 	}
 
+	@ScriptAssert(lang = "groovy", script = "foo(")
+	private static class AnnotatedWithSyntacticallyIllegalScript {
+	}
+
 }
@@ -124,6 +124,37 @@ public void testConstraintValidatorInstancesAreCachedPerConstraintValidatorFacto
 		constraintValidatorFactory2.assertAllConstraintValidatorInstancesReleased();
 	}
 
+	@Test
+	public void testConstraintValidatorInstancesOfDefaultFactoryAreReusedWhenAlternatingFactories() {
+		Configuration<?> config = getConfiguration();
+		OnceInstanceOnlyConstraintValidatorFactory defaultConstraintValidatorFactory = new OnceInstanceOnlyConstraintValidatorFactory();
+		OnceInstanceOnlyConstraintValidatorFactory otherConstraintValidatorFactory = new OnceInstanceOnlyConstraintValidatorFactory();
+
+		config.constraintValidatorFactory( defaultConstraintValidatorFactory );
+		ValidatorFactory factory = config.buildValidatorFactory();
+		Validator defaultValidator = factory.getValidator();
+		Validator otherValidator = factory.usingContext()
+				.constraintValidatorFactory( otherConstraintValidatorFactory )
+				.getValidator();
+
+		Person john = new Person( "John Doe" );
+		john.setAge( 36 );
+		john.addAddress( new Address( "Mysterious Lane", "Mysterious" ) );
+
+		for ( int i = 0; i < 3; i++ ) {
+			assertNumberOfViolations( defaultValidator.validate( john ), 0 );
+			assertNumberOfViolations( otherValidator.validate( john ), 0 );
+		}
+
+		defaultConstraintValidatorFactory.assertSize( 3 );
+		otherConstraintValidatorFactory.assertSize( 3 );
+		defaultConstraintValidatorFactory.assertConstraintValidatorInstancesAreNotShared( otherConstraintValidatorFactory );
+
+		factory.close();
+		defaultConstraintValidatorFactory.assertAllConstraintValidatorInstancesReleased();
+		otherConstraintValidatorFactory.assertAllConstraintValidatorInstancesReleased();
+	}
+
 	@Test
 	@TestForIssue(jiraKey = "HV-243")
 	public void testConstraintValidatorInstancesAreCachedPerConstraint() {
@@ -8,14 +8,23 @@
 
 import javax.validation.Validation;
 import javax.validation.ValidationException;
+import javax.validation.Validator;
 import javax.validation.ValidatorFactory;
+import javax.validation.constraints.NotNull;
 
 import org.testng.annotations.Test;
 
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
 import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.MetaDataCachePolicy;
+import org.hibernate.validator.MetaDataCacheStatistics;
 import org.hibernate.validator.internal.engine.ValidatorFactoryImpl;
+import org.hibernate.validator.testutils.ValidatorUtil;
 
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
 
 /**
  * Test for {@link ValidatorFactoryImpl}.
@@ -40,4 +49,85 @@ public void testUnwrapToPublicTypesSucceeds() {
 		Object asObject = validatorFactory.unwrap( Object.class );
 		assertSame( asObject, validatorFactory );
 	}
+
+	@Test
+	public void testMetaDataCacheStatisticsWithBoundedPolicy() {
+		HibernateValidatorFactory validatorFactory = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.metaDataCachePolicy( MetaDataCachePolicy.BOUNDED )
+				.metaDataCacheMaxSize( 1 )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+		Validator validator = validatorFactory.getValidator();
+
+		validator.validate( new Foo() );
+		validator.validate( new Bar() );
+		validator.validate( new Foo() );
+
+		MetaDataCacheStatistics statistics = validatorFactory.getMetaDataCacheStatistics();
+		assertTrue( statistics.getMissCount() >= 3 );
+		assertTrue( statistics.getEvictionCount() > 0 );
+		assertTrue( statistics.getRebuildCount() > 0 );
+		assertEquals( statistics.getSize(), 1 );
+	}
+
+	@Test
+	public void testMetaDataCacheStatisticsWithStrongPolicy() {
+		HibernateValidatorFactory validatorFactory = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.metaDataCachePolicy( MetaDataCachePolicy.STRONG )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+		Validator validator = validatorFactory.getValidator();
+
+		validator.validate( new Foo() );
+		MetaDataCacheStatistics statistics = validatorFactory.getMetaDataCacheStatistics();
+		long missCount = statistics.getMissCount();
+
+		validator.validate( new Foo() );
+		statistics = validatorFactory.getMetaDataCacheStatistics();
+		assertEquals( statistics.getMissCount(), missCount );
+		assertTrue( statistics.getHitCount() > 0 );
+		assertEquals( statistics.getEvictionCount(), 0 );
+		assertEquals( statistics.getRebuildCount(), 0 );
+	}
+
+	@Test
+	public void testMetaDataCachePolicySetViaProperty() {
+		HibernateValidatorFactory validatorFactory = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.addProperty( HibernateValidatorConfiguration.METADATA_CACHE_POLICY, "bounded" )
+				.addProperty( HibernateValidatorConfiguration.METADATA_CACHE_MAX_SIZE, "1" )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+		Validator validator = validatorFactory.getValidator();
+
+		validator.validate( new Foo() );
+		validator.validate( new Bar() );
+
+		assertTrue( validatorFactory.getMetaDataCacheStatistics().getEvictionCount() > 0 );
+	}
+
+	@Test(expectedExceptions = ValidationException.class, expectedExceptionsMessageRegExp = "HV000210.*")
+	public void testInvalidMetaDataCachePolicyPropertyValueCausesException() {
+		ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.addProperty( HibernateValidatorConfiguration.METADATA_CACHE_POLICY, "weak" )
+				.buildValidatorFactory();
+	}
+
+	@Test(expectedExceptions = ValidationException.class, expectedExceptionsMessageRegExp = "HV000211.*")
+	public void testInvalidMetaDataCacheMaxSizePropertyValueCausesException() {
+		ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.addProperty( HibernateValidatorConfiguration.METADATA_CACHE_MAX_SIZE, "0" )
+				.buildValidatorFactory();
+	}
+
+	private static class Foo {
+
+		@NotNull
+		private final String name = "foo";
+	}
+
+	private static class Bar {
+
+		@NotNull
+		private final String name = "bar";
+	}
 }
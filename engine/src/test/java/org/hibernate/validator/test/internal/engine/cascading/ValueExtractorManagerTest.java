@@ -0,0 +1,73 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.cascading;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+import java.lang.reflect.TypeVariable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.validator.internal.engine.cascading.ValueExtractorDescriptor;
+import org.hibernate.validator.internal.engine.cascading.ValueExtractorManager;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the resolution of value extractors in {@link ValueExtractorManager}.
+ */
+public class ValueExtractorManagerTest {
+
+	private ValueExtractorManager valueExtractorManager;
+
+	@BeforeMethod
+	public void setUp() {
+		valueExtractorManager = new ValueExtractorManager( Collections.emptyList() );
+	}
+
+	@Test
+	public void testValueExtractorForRuntimeTypeIsResolvedOnce() {
+		TypeVariable<?> arrayListTypeParameter = ArrayList.class.getTypeParameters()[0];
+
+		ValueExtractorDescriptor valueExtractor = valueExtractorManager.getValueExtractor( ArrayList.class, arrayListTypeParameter );
+
+		assertNotNull( valueExtractor );
+		assertEquals( valueExtractor.getExtractedTypeParameter(), List.class.getTypeParameters()[0] );
+		assertSame( valueExtractorManager.getValueExtractor( ArrayList.class, arrayListTypeParameter ), valueExtractor );
+	}
+
+	@Test
+	public void testMissingValueExtractorIsReportedAsNullAfterCaching() {
+		TypeVariable<?> comparableTypeParameter = Comparable.class.getTypeParameters()[0];
+
+		assertNull( valueExtractorManager.getValueExtractor( String.class, comparableTypeParameter ) );
+		assertNull( valueExtractorManager.getValueExtractor( String.class, comparableTypeParameter ) );
+	}
+
+	@Test
+	public void testCorrespondingTypeParametersInSubType() {
+		List<TypeVariable<?>> typeParameters = valueExtractorManager.getCorrespondingTypeParametersInSubType(
+				ArrayList.class,
+				List.class,
+				List.class.getTypeParameters()[0]
+		);
+
+		assertEquals( typeParameters, Collections.singletonList( ArrayList.class.getTypeParameters()[0] ) );
+		assertSame(
+				valueExtractorManager.getCorrespondingTypeParametersInSubType(
+						ArrayList.class,
+						List.class,
+						List.class.getTypeParameters()[0]
+				),
+				typeParameters
+		);
+	}
+}
@@ -0,0 +1,190 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.constraintvalidation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.Set;
+import javax.validation.Constraint;
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.ConstraintViolation;
+import javax.validation.Payload;
+import javax.validation.ReportAsSingleViolation;
+import javax.validation.Validator;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+
+import org.testng.annotations.Test;
+
+import org.hibernate.validator.constraints.ConstraintComposition;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.FIELD;
+import static org.hibernate.validator.constraints.CompositionType.OR;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertCorrectConstraintTypes;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertCorrectConstraintViolationMessages;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertNumberOfViolations;
+import static org.hibernate.validator.testutils.ValidatorUtil.getConfiguration;
+import static org.hibernate.validator.testutils.ValidatorUtil.getValidator;
+
+/**
+ * Tests the violations reported by {@link org.hibernate.validator.internal.engine.constraintvalidation.ConstraintTree}
+ * for composed constraints, whose violation sets are only created once a composing or the main constraint fails.
+ */
+public class ConstraintTreeTest {
+
+	@Test
+	public void testValidValuesYieldNoViolations() {
+		Validator validator = getValidator();
+
+		for ( int i = 0; i < 3; i++ ) {
+			assertNumberOfViolations( validator.validate( new Code( "AB" ) ), 0 );
+			assertNumberOfViolations( validator.validate( new SingleViolationCode( "AB" ) ), 0 );
+			assertNumberOfViolations( validator.validate( new AlternativeCode( "7" ) ), 0 );
+			assertNumberOfViolations( validator.validate( new AlternativeCode( "123" ) ), 0 );
+
+			// a failing validation in between must not affect the subsequent ones
+			assertNumberOfViolations( validator.validate( new Code( "x" ) ), 3 );
+		}
+	}
+
+	@Test
+	public void testViolationsOfComposingAndMainConstraintsAreReported() {
+		Validator validator = getValidator();
+
+		Set<ConstraintViolation<Code>> constraintViolations = validator.validate( new Code( "x" ) );
+		assertNumberOfViolations( constraintViolations, 3 );
+		assertCorrectConstraintTypes( constraintViolations, Size.class, Pattern.class, ValidCode.class );
+
+		constraintViolations = validator.validate( new Code( "XX" ) );
+		assertNumberOfViolations( constraintViolations, 1 );
+		assertCorrectConstraintTypes( constraintViolations, ValidCode.class );
+		assertCorrectConstraintViolationMessages( constraintViolations, "invalid code" );
+
+		constraintViolations = validator.validate( new Code( "ab" ) );
+		assertNumberOfViolations( constraintViolations, 1 );
+		assertCorrectConstraintTypes( constraintViolations, Pattern.class );
+	}
+
+	@Test
+	public void testViolationsOfComposingConstraintsAreReportedAsSingleViolation() {
+		Set<ConstraintViolation<SingleViolationCode>> constraintViolations = getValidator().validate( new SingleViolationCode( "x" ) );
+
+		assertNumberOfViolations( constraintViolations, 1 );
+		assertCorrectConstraintTypes( constraintViolations, ValidSingleViolationCode.class );
+		assertCorrectConstraintViolationMessages( constraintViolations, "invalid single violation code" );
+	}
+
+	@Test
+	public void testViolationsOfAllAlternativesAreReported() {
+		Set<ConstraintViolation<AlternativeCode>> constraintViolations = getValidator().validate( new AlternativeCode( "abc" ) );
+
+		assertNumberOfViolations( constraintViolations, 2 );
+		assertCorrectConstraintTypes( constraintViolations, Size.class, Pattern.class );
+	}
+
+	@Test
+	public void testMainConstraintIsNotValidatedAfterFailingComposingConstraintInFailFastMode() {
+		Set<ConstraintViolation<Code>> constraintViolations = getValidator().validate( new Code( "X" ) );
+		assertNumberOfViolations( constraintViolations, 2 );
+		assertCorrectConstraintTypes( constraintViolations, Size.class, ValidCode.class );
+
+		Validator validator = getConfiguration()
+				.failFast( true )
+				.buildValidatorFactory()
+				.getValidator();
+
+		constraintViolations = validator.validate( new Code( "X" ) );
+		assertNumberOfViolations( constraintViolations, 1 );
+		assertCorrectConstraintTypes( constraintViolations, Size.class );
+	}
+
+	private static class Code {
+
+		@ValidCode
+		private final String value;
+
+		private Code(String value) {
+			this.value = value;
+		}
+	}
+
+	private static class SingleViolationCode {
+
+		@ValidSingleViolationCode
+		private final String value;
+
+		private SingleViolationCode(String value) {
+			this.value = value;
+		}
+	}
+
+	private static class AlternativeCode {
+
+		@ValidAlternativeCode
+		private final String value;
+
+		private AlternativeCode(String value) {
+			this.value = value;
+		}
+	}
+
+	@Size(min = 2)
+	@Pattern(regexp = "[A-Z]*")
+	@Target({ FIELD, ANNOTATION_TYPE })
+	@Retention(RetentionPolicy.RUNTIME)
+	@Constraint(validatedBy = ValidCodeValidator.class)
+	@Documented
+	public @interface ValidCode {
+		String message() default "invalid code";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	public static class ValidCodeValidator implements ConstraintValidator<ValidCode, String> {
+
+		@Override
+		public boolean isValid(String value, ConstraintValidatorContext context) {
+			return !value.equalsIgnoreCase( "x" ) && !value.equals( "XX" );
+		}
+	}
+
+	@Size(min = 2)
+	@Pattern(regexp = "[A-Z]*")
+	@ReportAsSingleViolation
+	@Target({ FIELD, ANNOTATION_TYPE })
+	@Retention(RetentionPolicy.RUNTIME)
+	@Constraint(validatedBy = { })
+	@Documented
+	public @interface ValidSingleViolationCode {
+		String message() default "invalid single violation code";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	@ConstraintComposition(OR)
+	@Size(max = 1)
+	@Pattern(regexp = "[0-9]*")
+	@Target({ FIELD, ANNOTATION_TYPE })
+	@Retention(RetentionPolicy.RUNTIME)
+	@Constraint(validatedBy = { })
+	@Documented
+	public @interface ValidAlternativeCode {
+		String message() default "invalid alternative code";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+}
@@ -12,8 +12,11 @@
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotSame;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import javax.validation.ConstraintValidator;
@@ -128,10 +131,11 @@ public void testConstraintValidatorInstancesAreCachedPerFactory() {
 				"There should be only one instance cached"
 		);
 
+		ConstraintValidatorFactory customFactory = new MyCustomValidatorFactory();
 		ConstraintValidator<?, ?> constraintValidator2 = constraintValidatorManager.getInitializedValidator(
 				String.class,
 				constraintDescriptor,
-				new MyCustomValidatorFactory()
+				customFactory
 		);
 
 		assertTrue(
@@ -147,22 +151,73 @@ public void testConstraintValidatorInstancesAreCachedPerFactory() {
 	}
 
 	@Test
-	public void testOnlyTheInstancesForTheLeastRecentlyUsedCustomFactoryAreCached() {
+	public void testInstancesAreCachedForAlternatingCustomFactories() {
 		ConstraintDescriptorImpl<?> constraintDescriptor = getConstraintDescriptorForProperty( "s1" );
+		ConstraintValidatorFactory factory1 = new MyCustomValidatorFactory();
+		ConstraintValidatorFactory factory2 = new MyCustomValidatorFactory();
+
+		ConstraintValidator<?, ?> constraintValidator1 = constraintValidatorManager.getInitializedValidator(
+				String.class,
+				constraintDescriptor,
+				factory1
+		);
+		ConstraintValidator<?, ?> constraintValidator2 = constraintValidatorManager.getInitializedValidator(
+				String.class,
+				constraintDescriptor,
+				factory2
+		);
 
 		for ( int i = 0; i < 10; i++ ) {
+			assertSame(
+					constraintValidatorManager.getInitializedValidator( String.class, constraintDescriptor, factory1 ),
+					constraintValidator1
+			);
+			assertSame(
+					constraintValidatorManager.getInitializedValidator( String.class, constraintDescriptor, factory2 ),
+					constraintValidator2
+			);
+		}
+
+		assertNotSame( constraintValidator1, constraintValidator2 );
+		assertEquals(
+				constraintValidatorManager.numberOfCachedConstraintValidatorInstances(), 2,
+				"There should be one instance cached per factory"
+		);
+	}
+
+	@Test
+	public void testNumberOfCachedCustomFactoriesIsBounded() {
+		ConstraintDescriptorImpl<?> constraintDescriptor = getConstraintDescriptorForProperty( "s1" );
+		List<ConstraintValidatorFactory> factories = new ArrayList<>();
+
+		constraintValidatorManager.getInitializedValidator(
+				String.class,
+				constraintDescriptor,
+				constraintValidatorFactory
+		);
+
+		for ( int i = 0; i < 2 * ConstraintValidatorManager.MAX_CACHED_NON_DEFAULT_CONSTRAINT_VALIDATOR_FACTORIES; i++ ) {
+			ConstraintValidatorFactory factory = new MyCustomValidatorFactory();
+			factories.add( factory );
+
 			constraintValidatorManager.getInitializedValidator(
 					String.class,
 					constraintDescriptor,
-					new MyCustomValidatorFactory()
+					factory
 			);
 
-			assertEquals(
-					constraintValidatorManager.numberOfCachedConstraintValidatorInstances(), 1,
-					"There should be only one instance cached"
+			assertTrue(
+					constraintValidatorManager.numberOfCachedConstraintValidatorInstances()
+							<= ConstraintValidatorManager.MAX_CACHED_NON_DEFAULT_CONSTRAINT_VALIDATOR_FACTORIES + 1,
+					"Too many instances cached"
 			);
 		}
 
+		assertEquals(
+				constraintValidatorManager.numberOfCachedConstraintValidatorInstances(),
+				ConstraintValidatorManager.MAX_CACHED_NON_DEFAULT_CONSTRAINT_VALIDATOR_FACTORIES + 1
+		);
+
 		constraintValidatorManager.clear();
 		assertEquals(
 				constraintValidatorManager.numberOfCachedConstraintValidatorInstances(),
@@ -171,6 +226,69 @@ public void testOnlyTheInstancesForTheLeastRecentlyUsedCustomFactoryAreCached()
 		);
 	}
 
+	@Test
+	public void testLeastRecentlyUsedCustomFactoryIsEvicted() {
+		ConstraintDescriptorImpl<?> constraintDescriptor = getConstraintDescriptorForProperty( "s1" );
+		List<ReleaseRecordingValidatorFactory> factories = new ArrayList<>();
+		List<ConstraintValidator<?, ?>> constraintValidators = new ArrayList<>();
+
+		for ( int i = 0; i < ConstraintValidatorManager.MAX_CACHED_NON_DEFAULT_CONSTRAINT_VALIDATOR_FACTORIES; i++ ) {
+			ReleaseRecordingValidatorFactory factory = new ReleaseRecordingValidatorFactory();
+			factories.add( factory );
+			constraintValidators.add( constraintValidatorManager.getInitializedValidator( String.class, constraintDescriptor, factory ) );
+		}
+
+		// the first factory becomes the most recently used one, so the second one is the least recently used one
+		assertSame(
+				constraintValidatorManager.getInitializedValidator( String.class, constraintDescriptor, factories.get( 0 ) ),
+				constraintValidators.get( 0 )
+		);
+
+		ReleaseRecordingValidatorFactory addedFactory = new ReleaseRecordingValidatorFactory();
+		constraintValidatorManager.getInitializedValidator( String.class, constraintDescriptor, addedFactory );
+
+		assertEquals(
+				constraintValidatorManager.numberOfCachedConstraintValidatorInstances(),
+				ConstraintValidatorManager.MAX_CACHED_NON_DEFAULT_CONSTRAINT_VALIDATOR_FACTORIES
+		);
+		// the instances of an evicted cache may still be in use, so they must not be released
+		for ( ReleaseRecordingValidatorFactory factory : factories ) {
+			assertThat( factory.releasedInstances ).isEmpty();
+		}
+		assertThat( addedFactory.releasedInstances ).isEmpty();
+
+		assertSame(
+				constraintValidatorManager.getInitializedValidator( String.class, constraintDescriptor, factories.get( 0 ) ),
+				constraintValidators.get( 0 )
+		);
+		assertNotSame(
+				constraintValidatorManager.getInitializedValidator( String.class, constraintDescriptor, factories.get( 1 ) ),
+				constraintValidators.get( 1 )
+		);
+	}
+
+	@Test
+	public void testInstanceNotAddedToCacheIsReleased() {
+		ConstraintDescriptorImpl<?> constraintDescriptor = getConstraintDescriptorForProperty( "s1" );
+		RacingValidatorFactory factory = new RacingValidatorFactory( constraintDescriptor );
+
+		ConstraintValidator<?, ?> constraintValidator = constraintValidatorManager.getInitializedValidator(
+				String.class,
+				constraintDescriptor,
+				factory
+		);
+
+		// the instance cached by the racing call is returned, the one created by the outer call is released
+		assertSame( constraintValidator, factory.racingInstance );
+		assertThat( factory.releasedInstances ).hasSize( 1 );
+		assertNotSame( factory.releasedInstances.get( 0 ), constraintValidator );
+		assertSame(
+				constraintValidatorManager.getInitializedValidator( String.class, constraintDescriptor, factory ),
+				constraintValidator
+		);
+		assertThat( factory.releasedInstances ).hasSize( 1 );
+	}
+
 	@Test
 	@TestForIssue(jiraKey = "HV-662")
 	public void testValidatorsAreCachedPerConstraint() {
@@ -289,4 +407,37 @@ public void releaseInstance(ConstraintValidator<?, ?> instance) {
 			delegate.releaseInstance( instance );
 		}
 	}
+
+	public class ReleaseRecordingValidatorFactory extends MyCustomValidatorFactory {
+		private final List<ConstraintValidator<?, ?>> releasedInstances = new ArrayList<>();
+
+		@Override
+		public void releaseInstance(ConstraintValidator<?, ?> instance) {
+			releasedInstances.add( instance );
+			super.releaseInstance( instance );
+		}
+	}
+
+	/**
+	 * Retrieves the validator for the same constraint while creating the first instance, as another thread could do
+	 * concurrently, so that the first instance loses the race for the cache.
+	 */
+	public class RacingValidatorFactory extends ReleaseRecordingValidatorFactory {
+		private final ConstraintDescriptorImpl<?> constraintDescriptor;
+		private ConstraintValidator<?, ?> racingInstance;
+		private boolean racing;
+
+		public RacingValidatorFactory(ConstraintDescriptorImpl<?> constraintDescriptor) {
+			this.constraintDescriptor = constraintDescriptor;
+		}
+
+		@Override
+		public <T extends ConstraintValidator<?, ?>> T getInstance(Class<T> key) {
+			if ( !racing ) {
+				racing = true;
+				racingInstance = constraintValidatorManager.getInitializedValidator( String.class, constraintDescriptor, this );
+			}
+			return super.getInstance( key );
+		}
+	}
 }
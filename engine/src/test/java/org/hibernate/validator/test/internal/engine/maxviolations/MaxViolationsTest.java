@@ -0,0 +1,163 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.maxviolations;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertNumberOfViolations;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.validation.Valid;
+import javax.validation.ValidationException;
+import javax.validation.Validator;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.testutils.ValidatorUtil;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for aborting the validation once the configured maximum number of constraint violations has been reached.
+ */
+public class MaxViolationsTest {
+
+	@Test
+	public void testNoLimitByDefault() {
+		Validator validator = ValidatorUtil.getValidator();
+
+		assertNumberOfViolations( validator.validate( new Order( 10, 5 ) ), 1 + 10 + 5 );
+	}
+
+	@Test
+	public void testLimitStopsCascadedValidation() {
+		Validator validator = getValidator( 3 );
+
+		assertNumberOfViolations( validator.validate( new Order( 10, 0 ) ), 3 );
+	}
+
+	@Test
+	public void testLimitStopsContainerElementValidation() {
+		Validator validator = getValidator( 2 );
+
+		Order order = new Order( 0, 10 );
+		order.customer = "Bob";
+
+		assertNumberOfViolations( validator.validate( order ), 2 );
+	}
+
+	@Test
+	public void testLimitOfOne() {
+		Validator validator = getValidator( 1 );
+
+		assertNumberOfViolations( validator.validate( new Order( 10, 10 ) ), 1 );
+	}
+
+	@Test
+	public void testLimitStopsValidationOfFurtherGroups() {
+		Validator validator = getValidator( 1 );
+
+		assertNumberOfViolations( validator.validate( new Shipment(), First.class, Second.class ), 1 );
+		assertNumberOfViolations( ValidatorUtil.getValidator().validate( new Shipment(), First.class, Second.class ), 2 );
+	}
+
+	@Test
+	public void testLimitSetViaProperty() {
+		Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.addProperty( HibernateValidatorConfiguration.MAX_VIOLATIONS, "4" )
+				.buildValidatorFactory()
+				.getValidator();
+
+		assertNumberOfViolations( validator.validate( new Order( 10, 10 ) ), 4 );
+	}
+
+	@Test
+	public void testLimitSetViaContext() {
+		Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.maxViolations( 2 )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class )
+				.usingContext()
+				.maxViolations( 5 )
+				.getValidator();
+
+		assertNumberOfViolations( validator.validate( new Order( 10, 10 ) ), 5 );
+	}
+
+	@Test
+	public void testFailFastTakesPrecedence() {
+		Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.maxViolations( 5 )
+				.failFast( true )
+				.buildValidatorFactory()
+				.getValidator();
+
+		assertNumberOfViolations( validator.validate( new Order( 10, 10 ) ), 1 );
+	}
+
+	@Test(expectedExceptions = ValidationException.class, expectedExceptionsMessageRegExp = "HV000212.*")
+	public void testNegativeLimitCausesException() {
+		ValidatorUtil.getConfiguration( HibernateValidator.class ).maxViolations( -1 );
+	}
+
+	@Test(expectedExceptions = ValidationException.class, expectedExceptionsMessageRegExp = "HV000212.*")
+	public void testInvalidPropertyValueCausesException() {
+		ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.addProperty( HibernateValidatorConfiguration.MAX_VIOLATIONS, "many" )
+				.buildValidatorFactory();
+	}
+
+	private Validator getValidator(int maxViolations) {
+		return ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.maxViolations( maxViolations )
+				.buildValidatorFactory()
+				.getValidator();
+	}
+
+	private static class Order {
+
+		@NotNull
+		private String customer;
+
+		@Valid
+		private final List<Item> items = new ArrayList<>();
+
+		private final List<@NotNull @Size(min = 1) String> comments = new ArrayList<>();
+
+		private Order(int numberOfInvalidItems, int numberOfInvalidComments) {
+			for ( int i = 0; i < numberOfInvalidItems; i++ ) {
+				items.add( new Item() );
+			}
+			for ( int i = 0; i < numberOfInvalidComments; i++ ) {
+				comments.add( null );
+			}
+		}
+	}
+
+	private static class Item {
+
+		@NotNull
+		private String name;
+	}
+
+	private interface First {
+	}
+
+	private interface Second {
+	}
+
+	private static class Shipment {
+
+		@NotNull(groups = First.class)
+		private String from;
+
+		@NotNull(groups = Second.class)
+		private String to;
+	}
+}
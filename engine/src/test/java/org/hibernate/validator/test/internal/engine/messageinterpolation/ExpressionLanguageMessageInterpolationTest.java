@@ -6,8 +6,17 @@
  */
 package org.hibernate.validator.test.internal.engine.messageinterpolation;
 
+import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.el.ELContext;
+import javax.el.ELManager;
+import javax.el.ELResolver;
+import javax.el.ExpressionFactory;
+import javax.el.MethodExpression;
+import javax.el.ValueExpression;
 import javax.validation.MessageInterpolator;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Size;
@@ -192,6 +201,33 @@ public void testLocaleBasedFormatting() {
 		assertEquals( actual, expected, "Wrong substitution" );
 	}
 
+	@Test
+	public void testSameExpressionIsEvaluatedAgainstEachContext() {
+		User user = new User();
+		user.setAge( 18 );
+		MessageInterpolator.Context context = new MessageInterpolatorContext(
+				notNullDescriptor,
+				user,
+				null,
+				Collections.<String, Object>singletonMap( "unit", "years" )
+		);
+
+		String actual = interpolatorUnderTest.interpolate( "${validatedValue.age} ${unit}", context );
+		assertEquals( actual, "18 years", "Wrong substitution" );
+
+		user = new User();
+		user.setAge( 42 );
+		context = new MessageInterpolatorContext(
+				notNullDescriptor,
+				user,
+				null,
+				Collections.<String, Object>singletonMap( "unit", "days" )
+		);
+
+		actual = interpolatorUnderTest.interpolate( "${validatedValue.age} ${unit}", context );
+		assertEquals( actual, "42 days", "Wrong substitution" );
+	}
+
 	@Test
 	public void testMissingFormatArgument() {
 		MessageInterpolator.Context context = createMessageInterpolatorContext( sizeDescriptor );
@@ -299,6 +335,25 @@ public void testSingleEscapedQuoteInELExpression() {
 		);
 	}
 
+	@Test
+	public void testParsedExpressionsAreOnlyCachedIfCachingIsEnabled() {
+		MessageInterpolator.Context context = createMessageInterpolatorContext( sizeDescriptor );
+
+		CountingExpressionFactory expressionFactory = new CountingExpressionFactory();
+		MessageInterpolator cachingInterpolator = new ResourceBundleMessageInterpolator( null, true, expressionFactory );
+		for ( int i = 0; i < 3; i++ ) {
+			assertEquals( cachingInterpolator.interpolate( "${1 + 1}", context ), "2", "Wrong substitution" );
+		}
+		assertEquals( expressionFactory.parsedExpressions.get(), 1, "The parsed expression should have been cached" );
+
+		expressionFactory = new CountingExpressionFactory();
+		MessageInterpolator nonCachingInterpolator = new ResourceBundleMessageInterpolator( null, false, expressionFactory );
+		for ( int i = 0; i < 3; i++ ) {
+			assertEquals( nonCachingInterpolator.interpolate( "${1 + 1}", context ), "2", "Wrong substitution" );
+		}
+		assertEquals( expressionFactory.parsedExpressions.get(), 3, "The parsed expression should not have been cached" );
+	}
+
 	private MessageInterpolatorContext createMessageInterpolatorContext(ConstraintDescriptorImpl<?> descriptor) {
 		return new MessageInterpolatorContext(
 				descriptor,
@@ -307,4 +362,43 @@ private MessageInterpolatorContext createMessageInterpolatorContext(ConstraintDe
 				Collections.<String, Object>emptyMap()
 		);
 	}
+
+	private static class CountingExpressionFactory extends ExpressionFactory {
+
+		private final ExpressionFactory delegate = ELManager.getExpressionFactory();
+
+		private final AtomicInteger parsedExpressions = new AtomicInteger();
+
+		@Override
+		public ValueExpression createValueExpression(ELContext context, String expression, Class<?> expectedType) {
+			parsedExpressions.incrementAndGet();
+			return delegate.createValueExpression( context, expression, expectedType );
+		}
+
+		@Override
+		public ValueExpression createValueExpression(Object instance, Class<?> expectedType) {
+			return delegate.createValueExpression( instance, expectedType );
+		}
+
+		@Override
+		public MethodExpression createMethodExpression(ELContext context, String expression, Class<?> expectedReturnType,
+				Class<?>[] expectedParamTypes) {
+			return delegate.createMethodExpression( context, expression, expectedReturnType, expectedParamTypes );
+		}
+
+		@Override
+		public Object coerceToType(Object obj, Class<?> targetType) {
+			return delegate.coerceToType( obj, targetType );
+		}
+
+		@Override
+		public ELResolver getStreamELResolver() {
+			return delegate.getStreamELResolver();
+		}
+
+		@Override
+		public Map<String, Method> getInitFunctionMap() {
+			return delegate.getInitFunctionMap();
+		}
+	}
 }
@@ -0,0 +1,130 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.messageinterpolation;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertCorrectConstraintViolationMessages;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertCorrectPropertyPaths;
+import static org.testng.Assert.assertEquals;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.MessageInterpolator;
+import javax.validation.Validator;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.messageinterpolation.ResourceBundleMessageInterpolator;
+import org.hibernate.validator.testutils.ValidatorUtil;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the lazy interpolation of the constraint violation messages.
+ */
+public class LazyMessageInterpolationTest {
+
+	private CountingMessageInterpolator messageInterpolator;
+
+	@BeforeMethod
+	public void setUp() {
+		messageInterpolator = new CountingMessageInterpolator();
+	}
+
+	@Test
+	public void testMessagesAreInterpolatedEagerlyByDefault() {
+		Validator validator = getConfiguration().buildValidatorFactory().getValidator();
+
+		validator.validate( new Item() );
+
+		assertEquals( messageInterpolator.count.get(), 2 );
+	}
+
+	@Test
+	public void testMessagesAreInterpolatedOnFirstAccess() {
+		Validator validator = getConfiguration()
+				.lazyMessageInterpolation( true )
+				.buildValidatorFactory()
+				.getValidator();
+
+		Set<ConstraintViolation<Item>> violations = validator.validate( new Item() );
+
+		assertCorrectPropertyPaths( violations, "name", "quantity" );
+		assertEquals( messageInterpolator.count.get(), 0 );
+
+		assertCorrectConstraintViolationMessages( violations, "may not be null", "must be greater than or equal to 1" );
+		assertEquals( messageInterpolator.count.get(), 2 );
+
+		assertCorrectConstraintViolationMessages( violations, "may not be null", "must be greater than or equal to 1" );
+		assertEquals( messageInterpolator.count.get(), 2 );
+	}
+
+	@Test
+	public void testLazyMessageInterpolationSetViaProperty() {
+		Validator validator = getConfiguration()
+				.addProperty( HibernateValidatorConfiguration.LAZY_MESSAGE_INTERPOLATION, "true" )
+				.buildValidatorFactory()
+				.getValidator();
+
+		Set<ConstraintViolation<Item>> violations = validator.validate( new Item() );
+
+		assertEquals( violations.size(), 2 );
+		assertEquals( messageInterpolator.count.get(), 0 );
+	}
+
+	@Test
+	public void testLazyMessageInterpolationSetViaContext() {
+		Validator validator = getConfiguration()
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class )
+				.usingContext()
+				.lazyMessageInterpolation( true )
+				.getValidator();
+
+		Set<ConstraintViolation<Item>> violations = validator.validate( new Item() );
+
+		assertEquals( violations.size(), 2 );
+		assertEquals( messageInterpolator.count.get(), 0 );
+	}
+
+	private HibernateValidatorConfiguration getConfiguration() {
+		return ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.messageInterpolator( messageInterpolator );
+	}
+
+	private static class CountingMessageInterpolator implements MessageInterpolator {
+
+		private final MessageInterpolator delegate = new ResourceBundleMessageInterpolator();
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public String interpolate(String messageTemplate, Context context) {
+			return interpolate( messageTemplate, context, Locale.ENGLISH );
+		}
+
+		@Override
+		public String interpolate(String messageTemplate, Context context, Locale locale) {
+			count.incrementAndGet();
+			return delegate.interpolate( messageTemplate, context, locale );
+		}
+	}
+
+	private static class Item {
+
+		@NotNull
+		private String name;
+
+		@Min(1)
+		private int quantity;
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.metadatawarmup;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertNumberOfViolations;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+
+import javax.validation.ConstraintDeclarationException;
+import javax.validation.ValidationException;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.test.internal.engine.metadatawarmup.model.Customer;
+import org.hibernate.validator.test.internal.engine.metadatawarmup.model.Order;
+import org.hibernate.validator.testutils.ValidatorUtil;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for building the bean meta data eagerly via {@link HibernateValidatorFactory#warmUpMetaData(Iterable)}
+ * and {@link HibernateValidatorConfiguration#METADATA_WARM_UP}.
+ */
+public class MetaDataWarmUpTest {
+
+	@Test
+	public void testWarmUpReportsTimingPerClass() {
+		HibernateValidatorFactory validatorFactory = getValidatorFactory();
+
+		Map<Class<?>, Duration> timings = validatorFactory.warmUpMetaData( Arrays.<Class<?>>asList( Customer.class, Order.class, Customer.class ) );
+
+		assertEquals( new ArrayList<>( timings.keySet() ), Arrays.asList( Customer.class, Order.class ) );
+		for ( Duration duration : timings.values() ) {
+			assertNotNull( duration );
+			assertTrue( !duration.isNegative() );
+		}
+
+		assertNumberOfViolations( validatorFactory.getValidator().validate( new Order( new Customer( null ), 0 ) ), 2 );
+	}
+
+	@Test
+	public void testWarmUpOfPackage() {
+		Map<Class<?>, Duration> timings = getValidatorFactory().warmUpMetaData( Customer.class.getPackage().getName() );
+
+		assertEquals( timings.size(), 2 );
+		assertTrue( timings.containsKey( Customer.class ) );
+		assertTrue( timings.containsKey( Order.class ) );
+	}
+
+	@Test(expectedExceptions = ConstraintDeclarationException.class)
+	public void testWarmUpPropagatesMetaDataErrors() {
+		getValidatorFactory().warmUpMetaData( Arrays.<Class<?>>asList( Customer.class, InvalidBeanSubType.class ) );
+	}
+
+	@Test
+	public void testWarmUpViaProperty() {
+		HibernateValidatorFactory validatorFactory = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.addProperty( HibernateValidatorConfiguration.METADATA_WARM_UP, Customer.class.getName() + ", " + Order.class.getName() )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+
+		assertNumberOfViolations( validatorFactory.getValidator().validate( new Customer( null ) ), 1 );
+	}
+
+	@Test(expectedExceptions = ValidationException.class, expectedExceptionsMessageRegExp = "HV000065.*")
+	public void testUnknownClassInPropertyCausesException() {
+		ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.addProperty( HibernateValidatorConfiguration.METADATA_WARM_UP, "com.acme.DoesNotExist" )
+				.buildValidatorFactory();
+	}
+
+	private HibernateValidatorFactory getValidatorFactory() {
+		return ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+	}
+
+	public static class InvalidBean {
+
+		public void setName(@NotNull String name) {
+		}
+	}
+
+	public static class InvalidBeanSubType extends InvalidBean {
+
+		@Override
+		public void setName(@Size(min = 1) String name) {
+		}
+	}
+}
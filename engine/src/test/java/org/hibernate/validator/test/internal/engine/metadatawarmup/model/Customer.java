@@ -0,0 +1,19 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.metadatawarmup.model;
+
+import javax.validation.constraints.NotNull;
+
+public class Customer {
+
+	@NotNull
+	private final String name;
+
+	public Customer(String name) {
+		this.name = name;
+	}
+}
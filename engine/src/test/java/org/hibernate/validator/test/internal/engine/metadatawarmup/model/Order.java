@@ -0,0 +1,26 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.metadatawarmup.model;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+public class Order {
+
+	@NotNull
+	@Valid
+	private final Customer customer;
+
+	@Min(1)
+	private final int quantity;
+
+	public Order(Customer customer, int quantity) {
+		this.customer = customer;
+		this.quantity = quantity;
+	}
+}
@@ -9,6 +9,8 @@
 import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertNumberOfViolations;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 import static org.testng.AssertJUnit.assertNotNull;
 
@@ -197,6 +199,55 @@ public void testCreationOfExecutablePath() throws Exception {
 		assertEquals( methodParameterPath.toString(), "addItem" );
 	}
 
+	@Test
+	public void testCopyIsNotAffectedByChangesOfOriginal() {
+		PathImpl path = PathImpl.createPathFromString( "orders" );
+		PathImpl copy = PathImpl.createCopy( path );
+
+		path.makeLeafNodeIterable();
+		path.setLeafNodeIndex( 2 );
+		path.addPropertyNode( "deliveryAddress" );
+
+		assertEquals( path.asString(), "orders[2].deliveryAddress" );
+		assertEquals( copy.asString(), "orders" );
+		assertNotEquals( copy, path );
+
+		copy.addPropertyNode( "customer" );
+		assertEquals( copy.asString(), "orders.customer" );
+		assertEquals( path.asString(), "orders[2].deliveryAddress" );
+	}
+
+	@Test
+	public void testCopiesShareNodes() {
+		PathImpl path = PathImpl.createPathFromString( "orders[3].deliveryAddress" );
+		PathImpl copy = PathImpl.createCopy( path );
+		copy.addPropertyNode( "street" );
+
+		assertSame( copy.getPathWithoutLeafNode().getLeafNode(), path.getLeafNode() );
+	}
+
+	@Test
+	public void testEqualsAndHashCode() {
+		PathImpl path = PathImpl.createPathFromString( "orders[3].deliveryAddress" );
+		PathImpl samePath = PathImpl.createRootPath();
+		samePath.addPropertyNode( "orders" );
+		samePath.makeLeafNodeIterable();
+		samePath.setLeafNodeIndex( 3 );
+		samePath.addPropertyNode( "deliveryAddress" );
+
+		assertEquals( samePath, path );
+		assertEquals( samePath.hashCode(), path.hashCode() );
+
+		samePath.removeLeafNode();
+		assertNotEquals( samePath, path );
+		assertEquals( samePath, path.getPathWithoutLeafNode() );
+		assertEquals( samePath.asString(), "orders[3]" );
+
+		samePath.addPropertyNode( "deliveryAddress" );
+		assertEquals( samePath, path );
+		assertEquals( samePath.asString(), "orders[3].deliveryAddress" );
+	}
+
 	@Test(expectedExceptions = IllegalArgumentException.class)
 	public void testCreationOfExecutablePathFailsDueToMissingExecutable() throws Exception {
 		PathImpl.createPathForExecutable( null );
@@ -0,0 +1,155 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.propertyaccess;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertCorrectConstraintTypes;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertCorrectPropertyPaths;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertNumberOfViolations;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Valid;
+import javax.validation.ValidationException;
+import javax.validation.Validator;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.PropertyAccessStrategy;
+import org.hibernate.validator.testutils.ValidatorUtil;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the different {@link PropertyAccessStrategy}s.
+ */
+public class PropertyAccessStrategyTest {
+
+	@Test
+	public void testReflectionStrategy() {
+		assertPropertyValuesAreValidated( getValidator( PropertyAccessStrategy.REFLECTION ) );
+	}
+
+	@Test
+	public void testMethodHandlesStrategy() {
+		assertPropertyValuesAreValidated( getValidator( PropertyAccessStrategy.METHOD_HANDLES ) );
+	}
+
+	@Test
+	public void testMethodHandlesStrategySetViaProperty() {
+		Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.addProperty( HibernateValidatorConfiguration.PROPERTY_ACCESS_STRATEGY, "method_handles" )
+				.buildValidatorFactory()
+				.getValidator();
+
+		assertPropertyValuesAreValidated( validator );
+	}
+
+	@Test(expectedExceptions = ValidationException.class, expectedExceptionsMessageRegExp = "HV000206.*")
+	public void testInvalidStrategyPropertyValueCausesException() {
+		ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.addProperty( HibernateValidatorConfiguration.PROPERTY_ACCESS_STRATEGY, "bytecode" )
+				.buildValidatorFactory();
+	}
+
+	@Test(expectedExceptions = ValidationException.class, expectedExceptionsMessageRegExp = "HV000090.*")
+	public void testExceptionRaisedByGetterIsWrappedWithMethodHandlesStrategy() {
+		getValidator( PropertyAccessStrategy.METHOD_HANDLES ).validate( new Failing() );
+	}
+
+	@Test(expectedExceptions = ValidationException.class, expectedExceptionsMessageRegExp = "HV000090.*")
+	public void testThrowableRaisedByGetterIsWrappedWithMethodHandlesStrategy() {
+		getValidator( PropertyAccessStrategy.METHOD_HANDLES ).validate( new FailingWithThrowable() );
+	}
+
+	private Validator getValidator(PropertyAccessStrategy strategy) {
+		return ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.propertyAccessStrategy( strategy )
+				.buildValidatorFactory()
+				.getValidator();
+	}
+
+	private void assertPropertyValuesAreValidated(Validator validator) {
+		Order order = new Order( null, 0, new Customer( "" ), Arrays.asList( "valid", null ) );
+
+		Set<ConstraintViolation<Order>> constraintViolations = validator.validate( order );
+
+		assertNumberOfViolations( constraintViolations, 4 );
+		assertCorrectConstraintTypes( constraintViolations, NotNull.class, Min.class, Size.class, NotNull.class );
+		assertCorrectPropertyPaths(
+				constraintViolations,
+				"orderNumber",
+				"quantity",
+				"customer.name",
+				"tags[1].<iterable element>"
+		);
+
+		order = new Order( "123", 1, new Customer( "Bob" ), Arrays.asList( "valid" ) );
+		assertNumberOfViolations( validator.validate( order ), 0 );
+	}
+
+	@SuppressWarnings("unused")
+	private static class Order {
+
+		@NotNull
+		private final String orderNumber;
+
+		private final int quantity;
+
+		private final Customer customer;
+
+		private final List<@NotNull String> tags;
+
+		private Order(String orderNumber, int quantity, Customer customer, List<String> tags) {
+			this.orderNumber = orderNumber;
+			this.quantity = quantity;
+			this.customer = customer;
+			this.tags = tags;
+		}
+
+		@Min(1)
+		int getQuantity() {
+			return quantity;
+		}
+
+		@Valid
+		private Customer getCustomer() {
+			return customer;
+		}
+	}
+
+	private static class Customer {
+
+		@Size(min = 1)
+		@NotNull
+		private final String name;
+
+		private Customer(String name) {
+			this.name = name;
+		}
+	}
+
+	private static class Failing {
+
+		@NotNull
+		public String getValue() {
+			throw new IllegalStateException( "Invalid state" );
+		}
+	}
+
+	private static class FailingWithThrowable {
+
+		@NotNull
+		public String getValue() throws Throwable {
+			throw new Throwable( "Neither an exception nor an error" );
+		}
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.regex;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertCorrectPropertyPaths;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertNumberOfViolations;
+import static org.testng.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+import javax.validation.ValidationException;
+import javax.validation.Validator;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.constraints.Email;
+import org.hibernate.validator.spi.regex.RegularExpression;
+import org.hibernate.validator.spi.regex.RegularExpressionEngine;
+import org.hibernate.validator.testutils.ValidatorUtil;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the compilation of the regular expressions of {@code @Pattern} constraints by a configurable engine.
+ */
+public class RegularExpressionEngineTest {
+
+	@Test
+	public void testIdenticalExpressionsAreCompiledOncePerFactory() {
+		RecordingEngine engine = new RecordingEngine();
+		Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.regularExpressionEngine( engine )
+				.buildValidatorFactory()
+				.getValidator();
+
+		assertCorrectPropertyPaths(
+				validator.validate( new Customer( "A", "B", "C", "not an email" ) ),
+				"firstName",
+				"lastName",
+				"email"
+		);
+		assertNumberOfViolations( validator.validate( new Customer( "a", "b", "C", "john@example.com" ) ), 0 );
+
+		// the expression of @Email is ".*" and CASE_INSENSITIVE is 2
+		assertEquals( engine.compiledExpressions.size(), 3, engine.compiledExpressions.toString() );
+		assertEquals(
+				new TreeSet<>( engine.compiledExpressions ),
+				new TreeSet<>( Arrays.asList( ".*/0", "[a-z]+/0", "[a-z]+/2" ) )
+		);
+	}
+
+	@Test
+	public void testEngineSetViaProperty() {
+		Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.addProperty( HibernateValidatorConfiguration.REGULAR_EXPRESSION_ENGINE, RejectingEngine.class.getName() )
+				.buildValidatorFactory()
+				.getValidator();
+
+		assertCorrectPropertyPaths(
+				validator.validate( new Customer( "a", "b", "c", null ) ),
+				"firstName",
+				"lastName",
+				"nickName"
+		);
+	}
+
+	@Test(expectedExceptions = ValidationException.class, expectedExceptionsMessageRegExp = "HV000213.*")
+	public void testInvalidEngineTypeCausesException() {
+		ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.addProperty( HibernateValidatorConfiguration.REGULAR_EXPRESSION_ENGINE, String.class.getName() )
+				.buildValidatorFactory();
+	}
+
+	private static class RecordingEngine implements RegularExpressionEngine {
+
+		private final List<String> compiledExpressions = new ArrayList<>();
+
+		@Override
+		public synchronized RegularExpression compile(String regexp, int flags) {
+			compiledExpressions.add( regexp + "/" + flags );
+			Pattern pattern = Pattern.compile( regexp, flags );
+			return value -> pattern.matcher( value ).matches();
+		}
+	}
+
+	public static class RejectingEngine implements RegularExpressionEngine {
+
+		@Override
+		public RegularExpression compile(String regexp, int flags) {
+			return value -> false;
+		}
+	}
+
+	private static class Customer {
+
+		@javax.validation.constraints.Pattern(regexp = "[a-z]+")
+		private final String firstName;
+
+		@javax.validation.constraints.Pattern(regexp = "[a-z]+", message = "invalid last name")
+		private final String lastName;
+
+		@javax.validation.constraints.Pattern(regexp = "[a-z]+", flags = javax.validation.constraints.Pattern.Flag.CASE_INSENSITIVE)
+		private final String nickName;
+
+		@Email
+		private final String email;
+
+		private Customer(String firstName, String lastName, String nickName, String email) {
+			this.firstName = firstName;
+			this.lastName = lastName;
+			this.nickName = nickName;
+			this.email = email;
+		}
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.traversal;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertCorrectPropertyPaths;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertNumberOfViolations;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.validation.Valid;
+import javax.validation.Validator;
+import javax.validation.constraints.NotNull;
+import javax.validation.groups.Default;
+
+import org.hibernate.validator.testutils.ValidatorUtil;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the tracking of the beans and constraints processed while traversing an object graph.
+ */
+public class ObjectGraphTraversalTest {
+
+	private Validator validator;
+
+	@BeforeMethod
+	public void setUp() {
+		validator = ValidatorUtil.getValidator();
+	}
+
+	@Test
+	public void testCycleIsFollowedOnlyOnce() {
+		Node first = new Node();
+		Node second = new Node();
+		first.next = second;
+		second.next = first;
+
+		assertCorrectPropertyPaths( validator.validate( first ), "name", "next.name" );
+	}
+
+	@Test
+	public void testSelfReferenceIsFollowedOnlyOnce() {
+		Node node = new Node();
+		node.next = node;
+
+		assertCorrectPropertyPaths( validator.validate( node ), "name" );
+	}
+
+	@Test
+	public void testBeanSharedByUnrelatedPathsIsValidatedForEachPath() {
+		Node shared = new Node();
+		Pair pair = new Pair();
+		pair.left = shared;
+		pair.right = shared;
+
+		assertCorrectPropertyPaths( validator.validate( pair ), "left.name", "right.name" );
+	}
+
+	@Test
+	public void testBeanSharedByUnrelatedPathsIsValidatedForEachGroup() {
+		Node shared = new Node();
+		Pair pair = new Pair();
+		pair.left = shared;
+		pair.right = shared;
+
+		assertCorrectPropertyPaths(
+				validator.validate( pair, Default.class, Extended.class ),
+				"left.name",
+				"right.name",
+				"left.description",
+				"right.description"
+		);
+	}
+
+	@Test
+	public void testConstraintOfSeveralGroupsIsValidatedOnlyOnce() {
+		Leaf leaf = new Leaf();
+
+		assertNumberOfViolations( validator.validate( leaf, Default.class, Extended.class ), 1 );
+	}
+
+	@Test
+	public void testLargeObjectGraph() {
+		Node shared = new Node();
+		Container container = new Container();
+		for ( int i = 0; i < 10_000; i++ ) {
+			container.nodes.add( i % 100 == 0 ? shared : new Node() );
+		}
+
+		assertNumberOfViolations( validator.validate( container ), 10_000 );
+	}
+
+	public interface Extended {
+	}
+
+	private static class Node {
+
+		@NotNull
+		private String name;
+
+		@NotNull(groups = Extended.class)
+		private String description;
+
+		@Valid
+		private Node next;
+	}
+
+	private static class Pair {
+
+		@Valid
+		private Node left;
+
+		@Valid
+		private Node right;
+	}
+
+	private static class Container {
+
+		@Valid
+		private final List<Node> nodes = new ArrayList<>();
+	}
+
+	private static class Leaf {
+
+		@NotNull(groups = { Default.class, Extended.class })
+		private String name;
+	}
+}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.validator.test.internal.metadata;
 
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotSame;
 import static org.testng.Assert.assertTrue;
@@ -19,8 +20,13 @@
 import java.util.Collections;
 import java.util.List;
 
+import org.hibernate.validator.MetaDataCachePolicy;
+import org.hibernate.validator.MetaDataCacheStatistics;
+import org.hibernate.validator.PropertyAccessStrategy;
 import org.hibernate.validator.internal.engine.DefaultParameterNameProvider;
+import org.hibernate.validator.internal.engine.MethodValidationConfiguration;
 import org.hibernate.validator.internal.engine.cascading.ValueExtractorManager;
+import org.hibernate.validator.internal.metadata.BeanMetaDataCache;
 import org.hibernate.validator.internal.metadata.BeanMetaDataManager;
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaDataImpl;
@@ -124,6 +130,50 @@ public void testGetMetaDataForUnConstrainedEntity() {
 		assertFalse( beanMetaData.hasConstraints() );
 	}
 
+	@Test
+	public void testCacheStatistics() {
+		metaDataManager.getBeanMetaData( Engine.class );
+		metaDataManager.getBeanMetaData( Engine.class );
+		metaDataManager.getBeanMetaData( Engine.class );
+
+		MetaDataCacheStatistics statistics = metaDataManager.getCacheStatistics();
+		assertEquals( statistics.getMissCount(), 1 );
+		assertEquals( statistics.getHitCount(), 2 );
+		assertEquals( statistics.getRebuildCount(), 0 );
+		assertEquals( statistics.getEvictionCount(), 0 );
+		assertEquals( statistics.getSize(), 1 );
+	}
+
+	@Test
+	public void testBoundedCacheEvictsLeastRecentlyUsedBeanMetaData() {
+		BeanMetaDataManager boundedMetaDataManager = new BeanMetaDataManager(
+				new ConstraintHelper(),
+				new ExecutableHelper( new TypeResolutionHelper() ),
+				new TypeResolutionHelper(),
+				new ExecutableParameterNameProvider( new DefaultParameterNameProvider() ),
+				new ValueExtractorManager( Collections.emptyList() ),
+				Collections.<MetaDataProvider>emptyList(),
+				new MethodValidationConfiguration(),
+				PropertyAccessStrategy.REFLECTION,
+				BeanMetaDataCache.newInstance( MetaDataCachePolicy.BOUNDED, 2 )
+		);
+
+		boundedMetaDataManager.getBeanMetaData( Engine.class );
+		boundedMetaDataManager.getBeanMetaData( UnconstrainedEntity.class );
+		// Engine becomes the most recently used entry, so UnconstrainedEntity is evicted next
+		boundedMetaDataManager.getBeanMetaData( Engine.class );
+		boundedMetaDataManager.getBeanMetaData( BeanMetaDataManagerTest.class );
+		boundedMetaDataManager.getBeanMetaData( Engine.class );
+		boundedMetaDataManager.getBeanMetaData( UnconstrainedEntity.class );
+
+		MetaDataCacheStatistics statistics = boundedMetaDataManager.getCacheStatistics();
+		assertEquals( statistics.getMissCount(), 4 );
+		assertEquals( statistics.getHitCount(), 2 );
+		assertEquals( statistics.getEvictionCount(), 2 );
+		assertEquals( statistics.getRebuildCount(), 1 );
+		assertEquals( statistics.getSize(), 2 );
+	}
+
 	public class CustomClassLoader extends ClassLoader {
 
 		/**
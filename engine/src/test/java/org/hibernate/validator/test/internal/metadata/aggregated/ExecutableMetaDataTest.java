@@ -9,6 +9,8 @@
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 import java.lang.annotation.Annotation;
@@ -352,4 +354,23 @@ public void unconstrainedMethod() throws Exception {
 		assertThat( methodMetaData.getParameterMetaData( 0 ).isCascading() ).isFalse();
 		assertThat( methodMetaData.getParameterMetaData( 0 ) ).isEmpty();
 	}
+
+	@Test
+	public void metaDataForExecutableIsSharedAcrossReflectionCopies() throws Exception {
+		Method method = CustomerRepositoryExt.class.getMethod( "createCustomer", CharSequence.class, String.class );
+		Constructor<CustomerRepositoryExt> constructor = CustomerRepositoryExt.class.getConstructor( String.class );
+
+		ExecutableMetaData methodMetaData = beanMetaData.getMetaDataFor( method );
+		ExecutableMetaData constructorMetaData = beanMetaData.getMetaDataFor( constructor );
+
+		for ( int i = 0; i < 10; i++ ) {
+			Method methodCopy = CustomerRepositoryExt.class.getMethod( "createCustomer", CharSequence.class, String.class );
+			Constructor<CustomerRepositoryExt> constructorCopy = CustomerRepositoryExt.class.getConstructor( String.class );
+			assertNotSame( methodCopy, method );
+			assertNotSame( constructorCopy, constructor );
+
+			assertSame( beanMetaData.getMetaDataFor( methodCopy ), methodMetaData );
+			assertSame( beanMetaData.getMetaDataFor( constructorCopy ), constructorMetaData );
+		}
+	}
 }
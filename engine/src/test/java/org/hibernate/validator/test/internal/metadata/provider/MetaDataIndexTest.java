@@ -0,0 +1,96 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.metadata.provider;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertCorrectPropertyPaths;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertNumberOfViolations;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Set;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import javax.validation.constraints.NotNull;
+
+import org.hibernate.validator.testutils.ValidatorUtil;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the usage of the meta-data index generated by the annotation processor. The index used by this test is
+ * {@code META-INF/hibernate-validator/metadata.idx} from the test resources; it deliberately omits an annotated field
+ * in order to show that the elements not listed in the index are not examined when the index is enabled.
+ */
+public class MetaDataIndexTest {
+
+	private Validator validator;
+
+	@BeforeMethod
+	public void setUpValidator() {
+		validator = ValidatorUtil.getConfiguration()
+				.useMetaDataIndex( true )
+				.buildValidatorFactory()
+				.getValidator();
+	}
+
+	@Test
+	public void testIndexIsIgnoredUnlessEnabled() {
+		Set<ConstraintViolation<IndexedBean>> constraintViolations = ValidatorUtil.getValidator().validate( new IndexedBean() );
+
+		assertNumberOfViolations( constraintViolations, 3 );
+		assertCorrectPropertyPaths( constraintViolations, "listedField", "unlistedField", "listedProperty" );
+	}
+
+	@Test
+	public void testOnlyElementsListedInIndexAreExaminedForIndexedType() {
+		Set<ConstraintViolation<IndexedBean>> constraintViolations = validator.validate( new IndexedBean() );
+
+		assertNumberOfViolations( constraintViolations, 2 );
+		assertCorrectPropertyPaths( constraintViolations, "listedField", "listedProperty" );
+	}
+
+	@Test
+	public void testTypeNotListedInIndexIsExaminedReflectively() {
+		Set<ConstraintViolation<NotIndexedBean>> constraintViolations = validator.validate( new NotIndexedBean() );
+
+		assertNumberOfViolations( constraintViolations, 2 );
+		assertCorrectPropertyPaths( constraintViolations, "listedField", "unlistedField" );
+	}
+
+	@Test
+	public void testElementsNotListedInIndexArePartOfMetaModel() {
+		assertNumberOfViolations( validator.validateProperty( new IndexedBean(), "unlistedField" ), 0 );
+		assertNotNull( validator.getConstraintsForClass( IndexedBean.class ).getConstraintsForProperty( "listedField" ) );
+		assertTrue( validator.getConstraintsForClass( IndexedBean.class ).isBeanConstrained() );
+	}
+
+	@SuppressWarnings("unused")
+	private static class IndexedBean {
+
+		@NotNull
+		private String listedField;
+
+		@NotNull
+		private String unlistedField;
+
+		@NotNull
+		public String getListedProperty() {
+			return null;
+		}
+	}
+
+	@SuppressWarnings("unused")
+	private static class NotIndexedBean {
+
+		@NotNull
+		private String listedField;
+
+		@NotNull
+		private String unlistedField;
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.performance.modcheck;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+
+import org.hibernate.validator.constraints.CreditCardNumber;
+import org.hibernate.validator.constraints.EAN;
+import org.hibernate.validator.constraints.LuhnCheck;
+import org.hibernate.validator.constraints.Mod10Check;
+import org.hibernate.validator.constraints.Mod11Check;
+import org.hibernate.validator.constraints.br.CNPJ;
+import org.hibernate.validator.constraints.br.CPF;
+import org.hibernate.validator.constraints.br.TituloEleitoral;
+import org.hibernate.validator.constraints.pl.NIP;
+import org.hibernate.validator.constraints.pl.PESEL;
+import org.hibernate.validator.constraints.pl.REGON;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Validates valid values of each constraint based on a check digit algorithm, one benchmark per constraint.
+ * <p>
+ * Some of these constraints are not available in the previous versions of Hibernate Validator so this benchmark is
+ * only compiled with the {@code hv-current} profile.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1)
+@Threads(50)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+public class ModCheckValidation {
+
+	@State(Scope.Benchmark)
+	public static class ModCheckState {
+		public volatile Validator validator;
+
+		public ModCheckState() {
+			ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+			validator = factory.getValidator();
+		}
+	}
+
+	@Benchmark
+	public void testLuhnCheck(ModCheckState state) {
+		assertValid( state, "luhnCheck", "79927398713" );
+	}
+
+	@Benchmark
+	public void testCreditCardNumber(ModCheckState state) {
+		assertValid( state, "creditCardNumber", "4111111111111111" );
+	}
+
+	@Benchmark
+	public void testMod10Check(ModCheckState state) {
+		assertValid( state, "mod10Check", "4006381333931" );
+	}
+
+	@Benchmark
+	public void testEAN(ModCheckState state) {
+		assertValid( state, "ean", "4006381333931" );
+	}
+
+	@Benchmark
+	public void testMod11Check(ModCheckState state) {
+		assertValid( state, "mod11Check", "12345678909" );
+	}
+
+	@Benchmark
+	public void testCPF(ModCheckState state) {
+		assertValid( state, "cpf", "134.241.313-00" );
+	}
+
+	@Benchmark
+	public void testCNPJ(ModCheckState state) {
+		assertValid( state, "cnpj", "91.509.901/0001-69" );
+	}
+
+	@Benchmark
+	public void testTituloEleitoral(ModCheckState state) {
+		assertValid( state, "tituloEleitoral", "040806680957" );
+	}
+
+	@Benchmark
+	public void testPESEL(ModCheckState state) {
+		assertValid( state, "pesel", "92041903790" );
+	}
+
+	@Benchmark
+	public void testNIP(ModCheckState state) {
+		assertValid( state, "nip", "5931423811" );
+	}
+
+	@Benchmark
+	public void testREGON(ModCheckState state) {
+		assertValid( state, "regon", "123456785" );
+	}
+
+	private static void assertValid(ModCheckState state, String propertyName, String value) {
+		Set<ConstraintViolation<ModCheckedNumbers>> violations = state.validator.validateValue(
+				ModCheckedNumbers.class,
+				propertyName,
+				value
+		);
+		assertThat( violations ).isEmpty();
+	}
+
+	public static class ModCheckedNumbers {
+
+		@LuhnCheck
+		private String luhnCheck;
+
+		@CreditCardNumber
+		private String creditCardNumber;
+
+		@Mod10Check
+		private String mod10Check;
+
+		@EAN
+		private String ean;
+
+		@Mod11Check
+		private String mod11Check;
+
+		@CPF
+		private String cpf;
+
+		@CNPJ
+		private String cnpj;
+
+		@TituloEleitoral
+		private String tituloEleitoral;
+
+		@PESEL
+		private String pesel;
+
+		@NIP
+		private String nip;
+
+		@REGON
+		private String regon;
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.performance.url;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.cfg.ConstraintMapping;
+import org.hibernate.validator.constraints.URL;
+import org.hibernate.validator.constraintvalidators.RFC3986URLValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the default {@code java.net.URL} based validation of {@code @URL} with the {@link RFC3986URLValidator}.
+ * <p>
+ * The {@link RFC3986URLValidator} is not available in the previous versions of Hibernate Validator so this benchmark
+ * is only compiled with the {@code hv-current} profile.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1)
+@Threads(50)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+public class URLValidation {
+
+	private static final String URL = "https://www.hibernate.org:443/validator/documentation/?version=6.0#getting-started";
+
+	@State(Scope.Benchmark)
+	public static class DefaultURLValidatorState {
+		public volatile Validator validator;
+
+		public DefaultURLValidatorState() {
+			validator = Validation.buildDefaultValidatorFactory().getValidator();
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class RFC3986URLValidatorState {
+		public volatile Validator validator;
+
+		public RFC3986URLValidatorState() {
+			HibernateValidatorConfiguration configuration = Validation.byProvider( HibernateValidator.class ).configure();
+
+			ConstraintMapping constraintMapping = configuration.createConstraintMapping();
+			constraintMapping
+					.constraintDefinition( URL.class )
+					.includeExistingValidators( false )
+					.validatedBy( RFC3986URLValidator.class );
+			configuration.addMapping( constraintMapping );
+
+			validator = configuration.buildValidatorFactory().getValidator();
+		}
+	}
+
+	@Benchmark
+	public void testDefaultURLValidator(DefaultURLValidatorState state) {
+		assertValid( state.validator );
+	}
+
+	@Benchmark
+	public void testRFC3986URLValidator(RFC3986URLValidatorState state) {
+		assertValid( state.validator );
+	}
+
+	private static void assertValid(Validator validator) {
+		Set<ConstraintViolation<Link>> violations = validator.validateValue( Link.class, "target", URL );
+		assertThat( violations ).isEmpty();
+	}
+
+	public static class Link {
+
+		@URL(protocol = "https", host = "www.hibernate.org")
+		private String target;
+	}
+}
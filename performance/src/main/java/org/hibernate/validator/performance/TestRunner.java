@@ -11,6 +11,7 @@
 import java.util.Map;
 
 import org.hibernate.validator.performance.cascaded.CascadedValidation;
+import org.hibernate.validator.performance.decimal.DecimalStringValidation;
 import org.hibernate.validator.performance.simple.SimpleValidation;
 import org.hibernate.validator.performance.statistical.StatisticalValidation;
 import org.openjdk.jmh.profile.ClassloaderProfiler;
@@ -60,7 +61,11 @@ public static void main(String[] args) throws RunnerException {
 				args,
 				SimpleValidation.class.getSimpleName(),
 				CascadedValidation.class.getSimpleName(),
-				StatisticalValidation.class.getSimpleName()
+				StatisticalValidation.class.getSimpleName(),
+				DecimalStringValidation.class.getSimpleName(),
+				// only compiled with the hv-current profile
+				"ModCheckValidation",
+				"URLValidation"
 		);
 	}
 
@@ -0,0 +1,119 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.performance.decimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Digits;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Validates beans with numeric string properties constrained by {@code @DecimalMin}, {@code @DecimalMax} and
+ * {@code @Digits}, as read from a CSV file for instance.
+ * <p>
+ * The expected results are computed by converting each string into a {@code BigDecimal}, which is how these
+ * constraints used to be validated.
+ */
+public class DecimalStringValidation {
+
+	private static final int NUMBER_OF_PRICES = 1024;
+
+	private static final BigDecimal MIN = new BigDecimal( "0.01" );
+	private static final BigDecimal MAX = new BigDecimal( "99999.99" );
+
+	@State(Scope.Benchmark)
+	public static class DecimalStringState {
+		public volatile Validator validator;
+		public final String[] prices = new String[NUMBER_OF_PRICES];
+		public final int[] expectedViolationCounts = new int[NUMBER_OF_PRICES];
+
+		public DecimalStringState() {
+			ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+			validator = factory.getValidator();
+
+			Random random = new Random( 42 );
+			for ( int i = 0; i < NUMBER_OF_PRICES; i++ ) {
+				// mostly valid prices, some of them too high or with too many fraction digits
+				String price;
+				switch ( random.nextInt( 10 ) ) {
+					case 0:
+						price = ( 100_000 + random.nextInt( 1_000_000 ) ) + "." + random.nextInt( 10 );
+						break;
+					case 1:
+						price = random.nextInt( 1000 ) + "." + ( 100 + random.nextInt( 900 ) );
+						break;
+					default:
+						price = random.nextInt( 100_000 ) + "." + ( 10 + random.nextInt( 90 ) );
+				}
+				prices[i] = price;
+				expectedViolationCounts[i] = countViolations( price );
+			}
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Fork(value = 1)
+	@Threads(50)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testDecimalStringValidation(DecimalStringState state) {
+		for ( int i = 0; i < NUMBER_OF_PRICES; i++ ) {
+			Set<ConstraintViolation<PriceRecord>> violations = state.validator.validate( new PriceRecord( state.prices[i] ) );
+			assertThat( violations ).hasSize( state.expectedViolationCounts[i] );
+		}
+	}
+
+	private static int countViolations(CharSequence price) {
+		BigDecimal value = new BigDecimal( price.toString() );
+		int violations = 0;
+		if ( value.compareTo( MIN ) < 0 ) {
+			violations++;
+		}
+		if ( value.compareTo( MAX ) > 0 ) {
+			violations++;
+		}
+		if ( value.precision() - value.scale() > 5 || value.scale() > 2 ) {
+			violations++;
+		}
+		return violations;
+	}
+
+	public static class PriceRecord {
+
+		@DecimalMin("0.01")
+		@DecimalMax("99999.99")
+		@Digits(integer = 5, fraction = 2)
+		private final String price;
+
+		public PriceRecord(String price) {
+			this.price = price;
+		}
+	}
+}